@@ -38,9 +38,15 @@ public class ChessMenuBar extends MenuBar {
         MenuItem newMultiplayerGame = new MenuItem("Iniciar nueva partida");
         newMultiplayerGame.setOnAction(e -> ctrl.newMultiplayerGameAction());
 
+        MenuItem newSinglePlayerGame = new MenuItem("Nueva partida contra la computadora");
+        newSinglePlayerGame.setOnAction(e -> ctrl.newSinglePlayerGameAction());
+
         MenuItem saveGameAsPGN = new MenuItem("Guardar juego (PGN)");
         saveGameAsPGN.setOnAction(e -> ctrl.saveGamePGNAction());
 
+        MenuItem undoMove = new MenuItem("Deshacer movimiento");
+        undoMove.setOnAction(e -> ctrl.undoMoveAction());
+
         // Elementos del menú de salida
         MenuItem goToMenuWithoutSaving = new MenuItem("Ir al menú sin guardar");
         goToMenuWithoutSaving.setOnAction(e -> ctrl.goToMenu());
@@ -49,7 +55,7 @@ public class ChessMenuBar extends MenuBar {
         exitWithoutSaving.setOnAction(e -> ctrl.exitAction());
 
         // Añade los elementos a los menús correspondientes
-        gameMenu.getItems().addAll(newMultiplayerGame, saveGameAsPGN);
+        gameMenu.getItems().addAll(newMultiplayerGame, newSinglePlayerGame, saveGameAsPGN, undoMove);
         exitMenu.getItems().addAll(goToMenuWithoutSaving, exitWithoutSaving);
 
         // Añade los menús a la barra de menú
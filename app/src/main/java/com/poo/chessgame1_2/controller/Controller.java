@@ -32,6 +32,7 @@ public class Controller {
         view.setController(this);
         view.setModel(model);
         model.setView(view);
+        model.addBoardListener(view);
         GUIStart();
     }
 
@@ -65,6 +66,18 @@ public class Controller {
         setPlayersNameView();
     }
 
+    /**
+     * Inicia una nueva partida contra la computadora.
+     * El jugador juega con las piezas blancas y la computadora responde después de cada movimiento confirmado.
+     */
+    public void newSinglePlayerGameAction(){
+        model.setPlayers(view.getPlayerName(), "Computadora");
+        model.startGame(GameType.SINGLEPLAYER);
+
+        view.setBoardScene();
+        setPlayersNameView();
+    }
+
     /**
      * Finaliza el juego y cierra la aplicación.
      * Llama al método {@link System#exit(int)} para salir de la aplicación con el código 0.
@@ -88,10 +101,13 @@ public class Controller {
 
     /**
      * Guarda el estado actual del juego en un archivo PGN.
-     * Llama al método {@link Model#saveGameAsPGN()} para guardar el juego en formato PGN.
+     * La vista pide la ruta del archivo y el método {@link Model#saveGameAsPGN(String)} guarda el juego en formato PGN.
      */
     public void saveGamePGNAction() {
-        model.saveGameAsPGN();
+        String filePath = view.choosePGNFile();
+        if (filePath != null) {
+            model.saveGameAsPGN(filePath);
+        }
     }
 
     /**
@@ -102,6 +118,14 @@ public class Controller {
         model.nextMove();
     }
 
+    /**
+     * Deshace el último movimiento de la partida.
+     * Llama al método {@link Model#undoMove()} para restaurar el tablero.
+     */
+    public void undoMoveAction(){
+        model.undoMove();
+    }
+
     /**
      * Muestra la escena del menú principal.
      * Cambia la vista para mostrar el menú principal sin guardar el juego.
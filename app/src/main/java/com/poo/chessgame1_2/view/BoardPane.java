@@ -2,6 +2,8 @@ package com.poo.chessgame1_2.view;
 
 import com.poo.chessgame1_2.controller.ChessMenuBar;
 import com.poo.chessgame1_2.controller.Controller;
+import com.poo.chessgame1_2.model.BoardDelta;
+import com.poo.chessgame1_2.model.Position;
 import com.poo.chessgame1_2.model.pieces.PieceType;
 import javafx.geometry.HPos;
 import javafx.geometry.Pos;
@@ -18,7 +20,6 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 import java.io.FileInputStream;
-import java.util.ArrayList;
 import java.util.Objects;
 
 /**
@@ -32,6 +33,7 @@ public class BoardPane extends GridPane {
     private final Rectangle[][] piecesArray; // Matriz que contiene las piezas del tablero
     private final Rectangle[][] boardSquaresArray; // Matriz que contiene las casillas del tablero
     private Image[][] images = null; // Matriz que almacena las imágenes de las piezas
+    private ImagePattern[][] patterns = null; // Relleno de cada imagen (se crea una sola vez y se reutiliza)
 
     private final Label player1Name = new Label(), player2Name = new Label(); // Etiquetas para los nombres de los jugadores
 
@@ -92,6 +94,15 @@ public class BoardPane extends GridPane {
             System.out.println("Las imágenes no se encuentran\n");
             e.printStackTrace();
         }
+
+        patterns = new ImagePattern[2][6];
+        for (int color = 0; color < 2; color++) {
+            for (int type = 0; type < 6; type++) {
+                if (images[color][type] != null) {
+                    patterns[color][type] = new ImagePattern(images[color][type]);
+                }
+            }
+        }
     }
 
     /**
@@ -186,9 +197,8 @@ public class BoardPane extends GridPane {
                     int viewI = Integer.parseInt(r.getId()) / 10;
                     int viewJ = Integer.parseInt(r.getId()) % 10;
 
-                    ArrayList boardCoordinates = transformView2Board(viewI, viewJ);
-                    int boardI = (int) boardCoordinates.get(0);
-                    int boardJ = (int) boardCoordinates.get(1);
+                    int boardI = viewI;
+                    int boardJ = flipJ(viewJ);
 
                     ctrl.boardSquareWasClicked(boardI, boardJ); // Notifica al controlador que se hizo clic en una casilla
                 });
@@ -220,9 +230,8 @@ public class BoardPane extends GridPane {
      * @param boardJ Coordenada J de la casilla en el sistema del tablero.
      */
     void paintSelected(int boardI, int boardJ) {
-        ArrayList viewCoordinates = transformBoard2View(boardI, boardJ);
-        int viewI = (int) viewCoordinates.get(0);
-        int viewJ = (int) viewCoordinates.get(1);
+        int viewI = boardI;
+        int viewJ = flipJ(boardJ);
 
         if (boardSquaresArray[viewI][viewJ].getFill() == selectedSquareColor) {
             Color originalSquareColor = ((viewI + viewJ) % 2 == 0) ? lightSquareColor : darkSquareColor; // Determina el color original de la casilla
@@ -233,82 +242,42 @@ public class BoardPane extends GridPane {
     }
 
     /**
-     * Transforma las coordenadas del sistema del tablero al sistema de la vista.
-     *
-     * @param boardI Coordenada I en el sistema del tablero.
-     * @param boardJ Coordenada J en el sistema del tablero.
-     * @return Coordenadas en el sistema de la vista.
-     */
-    private ArrayList transformBoard2View(int boardI, int boardJ) {
-        ArrayList coordinates = new ArrayList();
-        coordinates.add(boardI);
-        coordinates.add((BOARD_SIZE - 1) - boardJ); // Inversa de la coordenada J
-        return coordinates;
-    }
-
-    /**
-     * Transforma las coordenadas del sistema de la vista al sistema del tablero.
+     * Transforma la coordenada J entre el sistema del tablero y el de la vista (la coordenada I es la misma).
+     * La transformación es su propia inversa.
      *
-     * @param viewI Coordenada I en el sistema de la vista.
-     * @param viewJ Coordenada J en el sistema de la vista.
-     * @return Coordenadas en el sistema del tablero.
+     * @param j Coordenada J en uno de los dos sistemas.
+     * @return Coordenada J en el otro sistema.
      */
-    private ArrayList transformView2Board(int viewI, int viewJ) {
-        ArrayList coordinates = new ArrayList();
-        coordinates.add(viewI);
-        coordinates.add((BOARD_SIZE - 1) - viewJ); // Inversa de la coordenada J
-        return coordinates;
+    private int flipJ(int j) {
+        return (BOARD_SIZE - 1) - j;
     }
 
     /**
-     * Cambia la vista del tablero utilizando la representación del tablero como una lista de listas (datos de piezas)
-     * en el formato { {Color pieceColor, PieceType pieceType, int boardI, int boardJ} ... }.
+     * Cambia la vista del tablero con las casillas que cambiaron (o con el tablero completo al empezar la partida).
      *
-     * @param changesList Representación del tablero como una lista de listas.
+     * @param delta Casillas que cambiaron y la pieza que quedó en cada una.
      */
-    void changeBoardViewByList(ArrayList changesList) {
-        for (Object o : changesList) {
-            ArrayList squareToChange = (ArrayList) o;
-            ArrayList coordinates = transformBoard2View((int) squareToChange.get(2), (int) squareToChange.get(3));
-            setImage((Color) squareToChange.get(0), (PieceType) squareToChange.get(1), (Integer) coordinates.get(0), (Integer) coordinates.get(1));
+    void changeBoardView(BoardDelta delta) {
+        for (int k = 0; k < delta.size(); k++) {
+            int square = delta.getSquare(k);
+            setImage(delta.getColor(k), delta.getPieceType(k), Position.fileOf(square), flipJ(Position.rankOf(square)));
         }
     }
 
     /**
      * Establece la imagen de la pieza en la casilla.
      *
-     * @param pieceColor Color de la pieza.
+     * @param colorIndex Color de la pieza (Position.WHITE o Position.BLACK).
      * @param pieceType Tipo de la pieza.
      * @param viewI Coordenada I en el sistema de la vista.
      * @param viewJ Coordenada J en el sistema de la vista.
      */
-    private void setImage(Color pieceColor, PieceType pieceType, int viewI, int viewJ) {
+    private void setImage(int colorIndex, PieceType pieceType, int viewI, int viewJ) {
         if (pieceType == PieceType.EMPTY) {
             piecesArray[viewI][viewJ].setFill(transparentColor); // Si la pieza es vacía, establece el color transparente
             return;
         }
-        int colorIndex = (pieceColor == Color.WHITE) ? 0 : 1; // Determina el índice de color
-        int pieceIndex = -1; // Inicializa el índice de la pieza
-        switch (pieceType) {
-            case BISHOP:
-                pieceIndex = 0;
-                break;
-            case KING:
-                pieceIndex = 1;
-                break;
-            case KNIGHT:
-                pieceIndex = 2;
-                break;
-            case PAWN:
-                pieceIndex = 3;
-                break;
-            case QUEEN:
-                pieceIndex = 4;
-                break;
-            case ROOK:
-                pieceIndex = 5;
-                break;
-        }
-        piecesArray[viewI][viewJ].setFill(new ImagePattern(images[colorIndex][pieceIndex])); // Establece la imagen de la pieza
+        // Las imágenes están en el orden de PieceType (alfil, rey, caballo, peón, reina, torre)
+        piecesArray[viewI][viewJ].setFill(patterns[colorIndex][pieceType.ordinal()]); // Establece la imagen de la pieza
     }
-}
\ No newline at end of file
+}
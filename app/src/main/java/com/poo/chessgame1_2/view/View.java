@@ -1,10 +1,15 @@
 package com.poo.chessgame1_2.view;
 
 import com.poo.chessgame1_2.controller.Controller;
+import com.poo.chessgame1_2.model.BoardDelta;
+import com.poo.chessgame1_2.model.BoardListener;
+import com.poo.chessgame1_2.model.GameView;
 import com.poo.chessgame1_2.model.Model;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.TextInputDialog;
@@ -13,11 +18,12 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.scene.media.MediaView;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 
+import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Optional;
 
 /**
@@ -25,8 +31,10 @@ import java.util.Optional;
  * La clase se encarga de mostrar el tablero, el menú, la configuración de la ventana, y las interacciones con el usuario.
  * Además, gestiona el flujo de la interfaz, como mostrar la pantalla del menú, cambiar entre escenas,
  * y mostrar información relevante durante el juego.
+ * Recibe los cambios del tablero suscribiéndose al modelo (ver {@link BoardListener}) y es el adaptador
+ * JavaFX de {@link GameView}, la interfaz con la que el núcleo del juego se comunica con la vista.
  */
-public class View extends Application {
+public class View extends Application implements GameView, BoardListener {
 
     private final int BOARD_SIZE = 8; // Tamaño del tablero (8x8)
     private final int SQUARE_SIZE_PX = 50; // Tamaño de cada casilla en píxeles
@@ -144,10 +152,21 @@ public class View extends Application {
     /**
      * Actualiza la vista del tablero de ajedrez con los nuevos movimientos o cambios.
      *
-     * @param list Una lista de cambios en el tablero representados como coordenadas de piezas y su tipo.
+     * @param delta Las casillas que cambiaron y la pieza que quedó en cada una.
      */
-    public void changeBoardView(ArrayList list) {
-        boardPane.changeBoardViewByList(list); // Actualiza la vista del tablero con la lista de cambios
+    @Override
+    public void boardChanged(BoardDelta delta) {
+        boardPane.changeBoardView(delta); // Actualiza la vista del tablero con las casillas que cambiaron
+    }
+
+    /**
+     * Ejecuta una acción en el hilo de la interfaz gráfica (por ejemplo, al terminar la búsqueda de la computadora).
+     *
+     * @param action La acción a ejecutar.
+     */
+    @Override
+    public void runLater(Runnable action) {
+        Platform.runLater(action);
     }
 
     /**
@@ -156,10 +175,42 @@ public class View extends Application {
      * @param boardI La coordenada I (fila) de la casilla seleccionada.
      * @param boardJ La coordenada J (columna) de la casilla seleccionada.
      */
+    @Override
     public void selectPiece(int boardI, int boardJ) {
         boardPane.paintSelected(boardI, boardJ); // Resalta la pieza seleccionada en el tablero
     }
 
+    /**
+     * Muestra un cuadro de diálogo para elegir el archivo donde se guarda la partida en formato PGN.
+     *
+     * @return La ruta del archivo elegido, o null si el usuario canceló.
+     */
+    public String choosePGNFile() {
+        FileChooser fileChooser = new FileChooser(); // Crea el diálogo de archivos
+        fileChooser.setTitle("Guardar partida PGN"); // Establece el título del diálogo
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("PGN Files", "*.pgn")); // Solo archivos PGN
+
+        File file = fileChooser.showSaveDialog(stage); // Muestra el diálogo y espera la elección del usuario
+        return file == null ? null : file.getAbsolutePath();
+    }
+
+    /**
+     * Muestra un aviso si no se pudo guardar la partida PGN (el archivo se escribe en segundo plano).
+     *
+     * @param filePath La ruta del archivo PGN.
+     * @param error El error al escribir el archivo, o null si se guardó correctamente.
+     */
+    @Override
+    public void gameSaved(String filePath, Exception error) {
+        if (error != null) {
+            Alert alert = new Alert(Alert.AlertType.ERROR); // Crea el aviso de error
+            alert.setTitle("Guardar partida PGN"); // Establece el título del aviso
+            alert.setHeaderText("¡Error al guardar el archivo " + filePath + "!"); // Establece el texto del encabezado
+            alert.setContentText(error.getMessage() != null ? error.getMessage() : error.toString()); // Muestra el motivo del error
+            alert.show();
+        }
+    }
+
     /**
      * Muestra un cuadro de diálogo para ingresar el nombre del jugador.
      *
@@ -194,11 +245,31 @@ public class View extends Application {
      *
      * @param winnerName El nombre del jugador ganador.
      */
+    @Override
     public void gameOver(String winnerName) {
+        showGameOverDialog(winnerName + " ganó!"); // Establece el texto del encabezado con el nombre del ganador
+    }
+
+    /**
+     * Muestra un cuadro de diálogo al final del juego cuando la partida termina en tablas.
+     *
+     * @param reason El motivo de las tablas (por ejemplo, ahogado).
+     */
+    @Override
+    public void gameDrawn(String reason) {
+        showGameOverDialog(reason + "!");
+    }
+
+    /**
+     * Muestra el cuadro de diálogo de fin de juego con las opciones de ir al menú, guardar o salir.
+     *
+     * @param headerText El texto del encabezado del diálogo.
+     */
+    private void showGameOverDialog(String headerText) {
         Dialog<Object> dialog = new Dialog<>(); // Crea un cuadro de diálogo
         dialog.initStyle(StageStyle.UTILITY); // Establece el estilo del diálogo
         dialog.setTitle("Fin del juego!"); // Establece el título del diálogo
-        dialog.setHeaderText(winnerName + " ganó!"); // Establece el texto del encabezado con el nombre del ganador
+        dialog.setHeaderText(headerText); // Establece el texto del encabezado
 
         // Botones para las opciones del diálogo
         ButtonType newGameButton = new ButtonType("Ir al menú");
@@ -5,11 +5,10 @@ module com.poo.chessgame1_2 {
         requires javafx.fxml;
 
     requires javafx.media;
+    requires com.poo.chessgame1_2.core;
 
     opens com.poo.chessgame1_2 to javafx.fxml;
         opens com.poo.chessgame1_2.view to javafx.fxml;
-        exports com.poo.chessgame1_2.model;
-        opens com.poo.chessgame1_2.model to javafx.fxml;
     exports com.poo.chessgame1_2.controller;
     opens com.poo.chessgame1_2.controller to javafx.fxml;
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.poo.chessgame1_2.benchmarks;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.Square;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la detección de ataques: las comprobaciones que realiza el rey al generar sus movimientos
+ * y las consultas de casillas atacadas y jaque de Position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AttackBenchmark {
+
+    private Position position; // Posición del tablero
+    private Square kingSquare; // Casilla del rey blanco (e1)
+    private final MoveList moveList = new MoveList(); // Lista reutilizable para generar movimientos
+
+    /**
+     * Prepara la posición antes de cada prueba.
+     */
+    @Setup
+    public void setup() {
+        Board board = BenchmarkPositions.middlegameBoard();
+        position = board.getPosition();
+        kingSquare = board.getSquare(4, 0);
+    }
+
+    /**
+     * Genera los movimientos del rey, que comprueba si cada casilla de destino está atacada.
+     *
+     * @return número de movimientos
+     */
+    @Benchmark
+    public int kingMoves() {
+        moveList.clear();
+        kingSquare.getPieceAvailableMoves(position, 4, 0, moveList);
+        return moveList.size();
+    }
+
+    /**
+     * Consulta si cada una de las 64 casillas está atacada por las negras.
+     *
+     * @return número de casillas atacadas
+     */
+    @Benchmark
+    public int isSquareAttackedAllSquares() {
+        int attacked = 0;
+        for (int square = 0; square < 64; square++) {
+            if (position.isSquareAttacked(square, Position.BLACK)) {
+                attacked++;
+            }
+        }
+        return attacked;
+    }
+
+    /**
+     * Verifica si el rey que tiene el turno está en jaque.
+     *
+     * @return true si está en jaque
+     */
+    @Benchmark
+    public boolean isInCheck() {
+        return position.isInCheck(position.getSideToMove());
+    }
+}
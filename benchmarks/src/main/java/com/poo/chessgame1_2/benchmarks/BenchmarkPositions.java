@@ -0,0 +1,68 @@
+package com.poo.chessgame1_2.benchmarks;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.Model;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.pgn.PGNGame;
+
+import java.util.Map;
+
+/**
+ * Posiciones comunes a todos los benchmarks.
+ * Los tableros se crean desde la posición inicial y se juegan movimientos conocidos, de modo que
+ * todas las piezas tienen movimientos disponibles y los resultados se pueden comparar entre ejecuciones.
+ */
+final class BenchmarkPositions {
+
+    // Apertura italiana: ambos bandos con piezas desarrolladas y sin enrocar
+    private static final String[] MIDDLEGAME_MOVES = {
+            "e2e4", "e7e5", "g1f3", "b8c6", "f1c4", "f8c5", "c2c3", "g8f6", "d2d4", "e5d4", "c3d4", "c5b4", "b1c3", "d7d5"
+    };
+
+    private BenchmarkPositions() {
+    }
+
+    /**
+     * Crea un tablero en la posición inicial.
+     *
+     * @return tablero nuevo
+     */
+    static Board startBoard() {
+        return new Board(new Model());
+    }
+
+    /**
+     * Crea un tablero en una posición de medio juego, con turno de las blancas.
+     *
+     * @return tablero nuevo
+     */
+    static Board middlegameBoard() {
+        Board board = startBoard();
+        for (String move : MIDDLEGAME_MOVES) {
+            board.makeMove(move.charAt(0) - 'a', move.charAt(1) - '1', move.charAt(2) - 'a', move.charAt(3) - '1');
+        }
+        return board;
+    }
+
+    /**
+     * Crea una partida a partir de sus movimientos en notación SAN, jugados desde la posición inicial.
+     *
+     * @param sanMoves movimientos separados por espacios
+     * @param tags etiquetas de la partida
+     * @param result resultado de la partida
+     * @return partida nueva
+     */
+    static PGNGame pgnGame(String sanMoves, Map<String, String> tags, String result) {
+        Board board = new Board();
+        MoveList legalMoves = new MoveList();
+        String[] tokens = sanMoves.split(" ");
+        int[] moves = new int[tokens.length];
+        for (int k = 0; k < tokens.length; k++) {
+            board.generateLegalMoves(legalMoves);
+            moves[k] = Move.fromSAN(tokens[k], 0, tokens[k].length(), board.getPosition(), legalMoves);
+            board.makeMove(moves[k]);
+        }
+        return new PGNGame(tags, moves, result);
+    }
+}
@@ -0,0 +1,32 @@
+package com.poo.chessgame1_2.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de los benchmarks.
+ * Acepta los mismos argumentos que la línea de comandos de JMH (por ejemplo un filtro "Board" o "-f 1")
+ * y añade siempre el perfilador de GC, para que cada resultado incluya los bytes asignados por operación
+ * (gc.alloc.rate.norm) junto al tiempo.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Método principal que ejecuta los benchmarks seleccionados.
+     *
+     * @param args Argumentos de JMH.
+     * @throws RunnerException si falla la ejecución de algún benchmark.
+     * @throws CommandLineOptionException si los argumentos no son válidos.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,84 @@
+package com.poo.chessgame1_2.benchmarks;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.BoardDelta;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las operaciones del tablero: realizar y deshacer movimientos, validarlos,
+ * generar los movimientos legales y obtener el tablero completo para la vista.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BoardBenchmark {
+
+    private Board board; // Tablero en una posición de medio juego
+    private final MoveList moveList = new MoveList(); // Lista reutilizable para generar movimientos
+
+    /**
+     * Prepara el tablero antes de cada prueba.
+     */
+    @Setup
+    public void setup() {
+        board = BenchmarkPositions.middlegameBoard();
+    }
+
+    /**
+     * Realiza un movimiento por coordenadas (como al hacer clic) y lo deshace, dejando el tablero igual.
+     *
+     * @param blackhole consumidor de resultados de JMH
+     */
+    @Benchmark
+    public void makeAndUnmakeMove(Blackhole blackhole) {
+        blackhole.consume(board.makeMove(4, 3, 3, 4)); // e4xd5
+        blackhole.consume(board.unmakeMove());
+    }
+
+    /**
+     * Valida un movimiento por coordenadas.
+     *
+     * @return true si el movimiento es válido
+     */
+    @Benchmark
+    public boolean isValidMove() {
+        return board.isValidMove(6, 0, 6, 1) | board.isValidMove(2, 3, 3, 4); // g1g2 (no válido), Bc4xd5
+    }
+
+    /**
+     * Genera todos los movimientos legales del jugador que tiene el turno.
+     *
+     * @return número de movimientos
+     */
+    @Benchmark
+    public int generateLegalMoves() {
+        board.generateLegalMoves(moveList);
+        return moveList.size();
+    }
+
+    /**
+     * Obtiene el tablero completo en el formato que consume la vista.
+     *
+     * @return tablero como cambio con las 64 casillas
+     */
+    @Benchmark
+    public BoardDelta getBoardDelta() {
+        return board.getBoardDelta();
+    }
+}
@@ -0,0 +1,156 @@
+package com.poo.chessgame1_2.benchmarks;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.Model;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.pgn.PGNExporter;
+import com.poo.chessgame1_2.model.pgn.PGNGame;
+import com.poo.chessgame1_2.model.utils.BoardReader;
+import com.poo.chessgame1_2.model.utils.FENParser;
+import com.poo.chessgame1_2.model.utils.PGNSaver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de entrada y salida: lectura del archivo del tablero inicial, creación de un tablero nuevo
+ * (que copia la plantilla ya leída), lectura y escritura de posiciones FEN, notación SAN de los movimientos y exportación de partidas PGN.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IOBenchmark {
+
+    private static final String START_BOARD_FILE = "/boardData/startBoard.txt"; // Archivo del tablero inicial
+    private static final String OPERA_GAME = "e4 e5 Nf3 d6 d4 Bg4 dxe5 Bxf3 Qxf3 dxe5 Bc4 Nf6 Qb3 Qe7 Nc3 c6 Bg5 b5 Nxb5 "
+            + "cxb5 Bxb5+ Nbd7 O-O-O Rd8 Rxd7 Rxd7 Rd1 Qe6 Bxd7+ Nxd7 Qb8+ Nxb8 Rd8#"; // Morphy - Duque de Brunswick, 1858
+    private static final String KIWIPETE_FEN =
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"; // Posición con muchas piezas
+
+    private BoardReader boardReader; // Lector del tablero inicial
+    private PGNSaver pgnSaver; // Guardado de movimientos PGN
+    private Model model; // Modelo de los tableros creados
+    private final Position fenPosition = new Position(); // Posición donde se lee el FEN
+    private final StringBuilder fenBuilder = new StringBuilder(90); // Destino reutilizable del FEN escrito
+    private final MoveList kiwipeteMoves = new MoveList(); // Movimientos legales de Kiwipete
+    private final StringBuilder sanBuilder = new StringBuilder(8); // Destino reutilizable de la notación SAN
+    private PGNGame operaGame; // Partida que se exporta
+    private PGNExporter exporter; // Exportador que descarta los bytes (mide el formato, no el disco)
+    private Board board; // Tablero inicial
+    private final int move = Move.encode(Position.square(4, 1), Position.square(4, 3), Move.DOUBLE_PAWN_PUSH); // e2e4
+
+    /**
+     * Prepara el lector del tablero y el movimiento a formatear.
+     */
+    @Setup
+    public void setup() {
+        board = BenchmarkPositions.startBoard();
+        boardReader = new BoardReader(board);
+        boardReader.setFilePath(START_BOARD_FILE);
+        pgnSaver = new PGNSaver();
+        model = new Model();
+        FENParser.parse(KIWIPETE_FEN, fenPosition);
+        MoveGenerator.generateLegalMoves(fenPosition, kiwipeteMoves);
+        operaGame = BenchmarkPositions.pgnGame(OPERA_GAME, Map.of("White", "Morphy", "Black", "Duke Karl"), "1-0");
+        exporter = new PGNExporter(OutputStream.nullOutputStream(), PGNExporter.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Espera a que el exportador termine de escribir.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        exporter.close();
+    }
+
+    /**
+     * Lee y coloca en el tablero la configuración inicial.
+     */
+    @Benchmark
+    public void boardReaderSetData() {
+        boardReader.setData();
+    }
+
+    /**
+     * Crea un tablero con la configuración inicial, como al empezar cada partida.
+     *
+     * @return tablero creado
+     */
+    @Benchmark
+    public Board newStartBoard() {
+        return new Board(model);
+    }
+
+    /**
+     * Lee una posición FEN (Kiwipete).
+     *
+     * @return posición leída
+     */
+    @Benchmark
+    public Position fenParse() {
+        FENParser.parse(KIWIPETE_FEN, fenPosition);
+        return fenPosition;
+    }
+
+    /**
+     * Escribe la posición del tablero en notación FEN en un StringBuilder reutilizado.
+     *
+     * @return destino con el FEN
+     */
+    @Benchmark
+    public StringBuilder fenAppend() {
+        fenBuilder.setLength(0);
+        board.appendFEN(fenBuilder);
+        return fenBuilder;
+    }
+
+    /**
+     * Registra un movimiento en el guardado PGN; se elimina después para que la lista no crezca.
+     */
+    @Benchmark
+    public void pgnSaverAddMove() {
+        pgnSaver.addMove(move);
+        pgnSaver.removeLastMove();
+    }
+
+    /**
+     * Escribe en notación SAN todos los movimientos legales de Kiwipete (con desambiguación, capturas y jaques).
+     *
+     * @return destino con el último movimiento
+     */
+    @Benchmark
+    public StringBuilder sanAppend() {
+        for (int k = 0; k < kiwipeteMoves.size(); k++) {
+            sanBuilder.setLength(0);
+            Move.appendSAN(sanBuilder, kiwipeteMoves.get(k), fenPosition, kiwipeteMoves);
+        }
+        return sanBuilder;
+    }
+
+    /**
+     * Exporta una partida de 33 movimientos (etiquetas, movimientos SAN y resultado) al buffer del exportador.
+     */
+    @Benchmark
+    public void pgnExport() throws IOException {
+        exporter.write(operaGame);
+    }
+}
@@ -0,0 +1,94 @@
+package com.poo.chessgame1_2.benchmarks;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.Square;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.pieces.PieceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la generación y validación de movimientos de cada tipo de pieza
+ * (Square.getPieceAvailableMoves y Piece.isValidMove a través de Square.isValidMove).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PieceBenchmark {
+
+    @Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+    public PieceType pieceType; // Tipo de pieza que se mide
+
+    private Position position; // Posición del tablero
+    private Square square; // Casilla con la pieza blanca del tipo medido
+    private int fromI, fromJ; // Coordenadas de la pieza
+    private int toI, toJ; // Destino válido de la pieza
+    private final MoveList moveList = new MoveList(); // Lista reutilizable para generar movimientos
+
+    /**
+     * Busca la primera pieza blanca del tipo medido que tenga algún movimiento.
+     */
+    @Setup
+    public void setup() {
+        Board board = BenchmarkPositions.middlegameBoard();
+        position = board.getPosition();
+        for (int i = 0; i < 8 && square == null; i++) {
+            for (int j = 0; j < 8 && square == null; j++) {
+                Square candidate = board.getSquare(i, j);
+                if (candidate.getPieceType() != pieceType || candidate.getPieceColor() != Position.WHITE) {
+                    continue;
+                }
+                moveList.clear();
+                candidate.getPieceAvailableMoves(position, i, j, moveList);
+                if (!moveList.isEmpty()) {
+                    square = candidate;
+                    fromI = i;
+                    fromJ = j;
+                    toI = Position.fileOf(Move.to(moveList.get(0)));
+                    toJ = Position.rankOf(Move.to(moveList.get(0)));
+                }
+            }
+        }
+        if (square == null) {
+            throw new IllegalStateException("No hay ninguna pieza " + pieceType + " con movimientos");
+        }
+    }
+
+    /**
+     * Genera los movimientos de la pieza.
+     *
+     * @return número de movimientos
+     */
+    @Benchmark
+    public int getPieceAvailableMoves() {
+        moveList.clear();
+        square.getPieceAvailableMoves(position, fromI, fromJ, moveList);
+        return moveList.size();
+    }
+
+    /**
+     * Valida un movimiento de la pieza.
+     *
+     * @return true si el movimiento es válido
+     */
+    @Benchmark
+    public boolean isValidMove() {
+        return square.isValidMove(position, toI, toJ, moveList);
+    }
+}
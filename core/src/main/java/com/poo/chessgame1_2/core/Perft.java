@@ -0,0 +1,301 @@
+package com.poo.chessgame1_2.core;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.Model;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.utils.FENParser;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Punto de entrada sin interfaz gráfica que cuenta los nodos del árbol de movimientos legales (perft).
+ * Sirve para verificar el generador de movimientos contra valores conocidos y para medir su velocidad.
+ *
+ * Uso:
+ *  - sin argumentos (o --suite): ejecuta las posiciones de referencia y compara los resultados.
+ *  - --fen "&lt;FEN&gt;" o --board &lt;archivo&gt;: posición a analizar (por defecto la posición inicial).
+ *  - --depth N: profundidad (por defecto 5).
+ *  - --divide: muestra el número de nodos de cada movimiento de la raíz.
+ *  - --threads N: hilos del ForkJoinPool (por defecto, uno por procesador).
+ *  - --hash MB: tamaño de la tabla hash de perft (0 la desactiva, por defecto 0).
+ */
+public class Perft {
+
+    private static final int DEFAULT_DEPTH = 5; // Profundidad por defecto
+    private static final int MAX_DEPTH = 32; // Profundidad máxima admitida
+
+    // Posiciones de referencia: FEN, profundidad y número de nodos conocido
+    private static final String[][] REFERENCE_POSITIONS = {
+            {FENParser.START_FEN, "5", "4865609"},
+            {"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", "4", "4085603"},
+            {"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", "6", "11030083"},
+            {"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", "5", "15833292"},
+            {"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", "4", "2103487"},
+            {"r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10", "4", "3894594"}
+    };
+
+    /**
+     * Método principal del perft.
+     *
+     * @param args Argumentos de línea de comandos (ver la descripción de la clase).
+     */
+    public static void main(String[] args) {
+        String fen = null;
+        String boardFile = null;
+        int depth = DEFAULT_DEPTH;
+        boolean divide = false;
+        boolean suite = args.length == 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int hashMegabytes = 0;
+
+        for (int k = 0; k < args.length; k++) {
+            switch (args[k]) {
+                case "--fen":
+                    fen = args[++k];
+                    break;
+                case "--board":
+                    boardFile = args[++k];
+                    break;
+                case "--depth":
+                    depth = Integer.parseInt(args[++k]);
+                    break;
+                case "--divide":
+                    divide = true;
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++k]);
+                    break;
+                case "--hash":
+                    hashMegabytes = Integer.parseInt(args[++k]);
+                    break;
+                case "--suite":
+                    suite = true;
+                    break;
+                default:
+                    System.out.println("Argumento desconocido: " + args[k]);
+                    return;
+            }
+        }
+        if (depth < 1 || depth > MAX_DEPTH) {
+            System.out.println("La profundidad debe estar entre 1 y " + MAX_DEPTH);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        PerftHash hash = hashMegabytes > 0 ? new PerftHash(hashMegabytes) : null;
+        try {
+            if (suite) {
+                runSuite(pool, hash);
+            } else {
+                Position position = new Position();
+                if (boardFile != null) {
+                    Board board = new Board(new Model());
+                    board.loadBoard(boardFile);
+                    position = new Position(board.getPosition());
+                } else {
+                    FENParser.parse(fen != null ? fen : FENParser.START_FEN, position);
+                }
+                run(position, depth, divide, pool, hash);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Ejecuta todas las posiciones de referencia y muestra si coinciden con los valores conocidos.
+     */
+    private static void runSuite(ForkJoinPool pool, PerftHash hash) {
+        int failed = 0;
+        long totalNodes = 0;
+        long totalTime = 0;
+        for (String[] reference : REFERENCE_POSITIONS) {
+            Position position = new Position();
+            FENParser.parse(reference[0], position);
+            int depth = Integer.parseInt(reference[1]);
+            long expected = Long.parseLong(reference[2]);
+
+            long start = System.nanoTime();
+            long nodes = perftRoot(position, depth, false, pool, hash);
+            long time = System.nanoTime() - start;
+            totalNodes += nodes;
+            totalTime += time;
+
+            boolean ok = nodes == expected;
+            if (!ok) {
+                failed++;
+            }
+            System.out.println((ok ? "OK    " : "ERROR ") + reference[0] + " | profundidad " + depth + " | nodos " + nodes
+                    + (ok ? "" : " (esperados " + expected + ")") + " | " + formatSpeed(nodes, time));
+        }
+        System.out.println("Total: " + totalNodes + " nodos | " + formatSpeed(totalNodes, totalTime));
+        System.out.println(failed == 0 ? "Todas las posiciones coinciden" : failed + " posiciones no coinciden");
+    }
+
+    /**
+     * Cuenta los nodos de una posición y muestra el resultado.
+     */
+    private static void run(Position position, int depth, boolean divide, ForkJoinPool pool, PerftHash hash) {
+        long start = System.nanoTime();
+        long nodes = perftRoot(position, depth, divide, pool, hash);
+        long time = System.nanoTime() - start;
+        System.out.println("Profundidad " + depth + ": " + nodes + " nodos | " + formatSpeed(nodes, time));
+    }
+
+    /**
+     * Reparte los movimientos de la raíz entre los hilos del ForkJoinPool y suma sus nodos.
+     */
+    private static long perftRoot(Position position, int depth, boolean divide, ForkJoinPool pool, PerftHash hash) {
+        MoveList rootMoves = new MoveList();
+        MoveGenerator.generateLegalMoves(position, rootMoves);
+        if (depth == 1 && !divide) {
+            return rootMoves.size();
+        }
+
+        ArrayList<PerftTask> tasks = new ArrayList<>();
+        for (int k = 0; k < rootMoves.size(); k++) {
+            tasks.add(new PerftTask(position, rootMoves.get(k), depth - 1, hash));
+        }
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                ForkJoinTask.invokeAll(tasks);
+                return null;
+            }
+        });
+
+        long nodes = 0;
+        for (PerftTask task : tasks) {
+            long moveNodes = task.join();
+            nodes += moveNodes;
+            if (divide) {
+                System.out.println(Move.toCoordinates(task.move) + ": " + moveNodes);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Cuenta recursivamente los nodos hoja a la profundidad indicada.
+     * En el último nivel no se realizan los movimientos: basta con contarlos.
+     */
+    private static long perft(Position position, int depth, MoveList[] lists, PerftHash hash) {
+        MoveList moveList = lists[depth];
+        moveList.clear();
+        MoveGenerator.generateLegalMoves(position, moveList);
+        if (depth == 1) {
+            return moveList.size();
+        }
+
+        long key = 0L;
+        if (hash != null) {
+            key = position.getHash();
+            long nodes = hash.probe(key, depth);
+            if (nodes >= 0) {
+                return nodes;
+            }
+        }
+
+        long nodes = 0;
+        for (int k = 0; k < moveList.size(); k++) {
+            int move = moveList.get(k);
+            position.makeMove(move);
+            nodes += perft(position, depth - 1, lists, hash);
+            position.unmakeMove(move);
+        }
+
+        if (hash != null) {
+            hash.store(key, depth, nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * Da formato a la velocidad en nodos por segundo.
+     */
+    private static String formatSpeed(long nodes, long nanos) {
+        long millis = Math.max(1, nanos / 1_000_000);
+        return millis + " ms | " + (nodes * 1000 / millis) + " nodos/s";
+    }
+
+    /**
+     * Tarea que cuenta los nodos de un movimiento de la raíz sobre su propia copia de la posición.
+     */
+    @SuppressWarnings("serial") // Las tareas no se serializan
+    private static class PerftTask extends RecursiveTask<Long> {
+        private final Position position; // Copia de la posición de la raíz
+        private final int move; // Movimiento de la raíz
+        private final int depth; // Profundidad restante después del movimiento
+        private final PerftHash hash; // Tabla hash compartida (o null)
+
+        PerftTask(Position root, int move, int depth, PerftHash hash) {
+            this.position = new Position(root);
+            this.move = move;
+            this.depth = depth;
+            this.hash = hash;
+        }
+
+        @Override
+        protected Long compute() {
+            if (depth == 0) {
+                return 1L;
+            }
+            MoveList[] lists = new MoveList[depth + 1];
+            for (int k = 0; k < lists.length; k++) {
+                lists[k] = new MoveList();
+            }
+            position.makeMove(move);
+            return perft(position, depth, lists, hash);
+        }
+    }
+
+    /**
+     * Tabla hash de perft compartida entre hilos sin bloqueos.
+     * Cada entrada guarda la clave mezclada (XOR) con los datos, de modo que una escritura
+     * a medias de otro hilo se detecta como un fallo en lugar de devolver un resultado erróneo.
+     */
+    private static class PerftHash {
+        private static final int ENTRY_BYTES = 16; // Dos long por entrada
+
+        private final long[] keys; // Clave XOR datos de cada entrada
+        private final long[] data; // Nodos (bits 8..63) y profundidad (bits 0..7)
+        private final int mask; // Máscara para obtener el índice de la entrada
+
+        PerftHash(int megabytes) {
+            int entries = Integer.highestOneBit((int) Math.min(1L << 30, (long) megabytes * 1024 * 1024 / ENTRY_BYTES));
+            keys = new long[entries];
+            data = new long[entries];
+            mask = entries - 1;
+        }
+
+        /**
+         * Busca el número de nodos guardado para la clave y la profundidad.
+         *
+         * @return número de nodos, o -1 si no está en la tabla
+         */
+        long probe(long key, int depth) {
+            int index = (int) key & mask;
+            long entryData = data[index];
+            if ((keys[index] ^ entryData) == key && (entryData & 0xFF) == depth) {
+                return entryData >>> 8;
+            }
+            return -1;
+        }
+
+        /**
+         * Guarda el número de nodos de una posición a la profundidad indicada.
+         */
+        void store(long key, int depth, long nodes) {
+            int index = (int) key & mask;
+            long entryData = (nodes << 8) | depth;
+            keys[index] = key ^ entryData;
+            data[index] = entryData;
+        }
+    }
+}
@@ -0,0 +1,641 @@
+package com.poo.chessgame1_2.model;
+
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.pieces.PieceType;
+import com.poo.chessgame1_2.model.players.Player;
+import com.poo.chessgame1_2.model.utils.BoardReader;
+import com.poo.chessgame1_2.model.utils.BoardWriter;
+import com.poo.chessgame1_2.model.utils.ByteSequence;
+import com.poo.chessgame1_2.model.utils.FENParser;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Clase que representa el tablero de ajedrez.
+ * Maneja la posición de las piezas, las reglas del juego y la interacción con el modelo.
+ */
+public class Board {
+    public static final String START_BOARD_FILE = "/boardData/startBoard.txt"; // Archivo para la configuración inicial del tablero
+    private final int BOARD_SIZE = 8; // Tamaño del tablero (8x8)
+    private static final PieceType[] PIECE_TYPES = PieceType.values(); // Tipos de pieza por índice de Position
+
+    private final com.poo.chessgame1_2.model.Model model; // Modelo asociado al tablero (null si el tablero no tiene modelo)
+    private final com.poo.chessgame1_2.model.Square[][] board; // Matriz que representa las casillas del tablero
+    private final Position position; // Representación del tablero mediante bitboards
+    private final MoveList moveList = new MoveList(); // Lista reutilizable para generar y validar movimientos
+    private MoveRecord[] records = new MoveRecord[256]; // Pila de registros para deshacer movimientos
+    private int recordsCount = 0; // Número de registros en la pila
+    private volatile PositionSnapshot snapshot; // Última copia inmutable publicada de la posición
+    private BoardReader br; // Lector de datos del tablero
+    private final BoardWriter bw; // Escritor de datos del tablero
+    private Position fenPosition; // Posición auxiliar donde se interpreta el FEN antes de cargarlo (se crea al usarla)
+    private ByteSequence fenLine; // Vista reutilizable de la línea FEN leída de un buffer (se crea al usarla)
+
+    /**
+     * Constructor de un tablero sin modelo, con la configuración inicial.
+     * Sirve para analizar o reproducir partidas sin interfaz (por ejemplo al importar archivos PGN):
+     * los cambios de turno, tipo de juego y jugadores solo se aplican al tablero.
+     */
+    public Board() {
+        this(null, START_BOARD_FILE);
+    }
+
+    /**
+     * Constructor de la clase Board.
+     * Inicializa el tablero con la configuración inicial.
+     *
+     * @param model modelo del juego
+     */
+    public Board(com.poo.chessgame1_2.model.Model model) {
+        this(model, START_BOARD_FILE);
+    }
+
+    /**
+     * Constructor que inicializa el tablero con una configuración inicial de los recursos.
+     * El archivo solo se lee la primera vez; los tableros siguientes copian la plantilla ya interpretada
+     * (ver {@link BoardTemplate}).
+     *
+     * @param model modelo del juego (o null para un tablero sin modelo)
+     * @param startBoardFile ruta del archivo de configuración inicial dentro de los recursos (por ejemplo START_BOARD_FILE)
+     */
+    public Board(com.poo.chessgame1_2.model.Model model, String startBoardFile) {
+        this.model = model;
+
+        board = new com.poo.chessgame1_2.model.Square[BOARD_SIZE][BOARD_SIZE];
+        bw = new BoardWriter();
+
+        BoardTemplate template = BoardTemplate.get(startBoardFile);
+        if (template != null) {
+            position = new Position(template.getPosition());
+            loadTemplate(); // Copia la configuración inicial ya interpretada
+        } else {
+            position = new Position();
+            initBoardReader(); // Inicializa el lector de tablero
+            br.setFilePath(startBoardFile);
+            loadBoard(); // Carga la configuración inicial del tablero
+            BoardTemplate.register(startBoardFile, position);
+        }
+    }
+
+    /**
+     * Obtiene una casilla del tablero.
+     * La matriz de casillas no se expone: los demás hilos deben leer la posición mediante {@link #getSnapshot()}.
+     *
+     * @param boardI coordenada I de la casilla
+     * @param boardJ coordenada J de la casilla
+     * @return casilla del tablero
+     */
+    public com.poo.chessgame1_2.model.Square getSquare(int boardI, int boardJ) {
+        return board[boardI][boardJ];
+    }
+
+    /**
+     * Obtiene la última copia inmutable de la posición.
+     * Se publica una copia nueva después de cargar el tablero y de realizar o deshacer cada movimiento,
+     * por lo que puede leerse desde cualquier hilo sin bloqueos mientras la partida continúa.
+     *
+     * @return copia de la posición
+     */
+    public PositionSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publica una copia inmutable de la posición actual.
+     *
+     * @return copia publicada
+     */
+    private PositionSnapshot publishSnapshot() {
+        PositionSnapshot published = new PositionSnapshot(position, recordsCount);
+        snapshot = published;
+        return published;
+    }
+
+    /**
+     * Obtiene la posición del tablero representada mediante bitboards.
+     *
+     * @return posición del tablero
+     */
+    public Position getPosition() {
+        return position;
+    }
+
+    /**
+     * Obtiene la clave Zobrist de la posición actual.
+     * Se actualiza de forma incremental al realizar y deshacer movimientos.
+     *
+     * @return clave de 64 bits que identifica la posición
+     */
+    public long getHash() {
+        return position.getHash();
+    }
+
+    /**
+     * Inicializa el lector de tablero si todavía no existe.
+     * Los tableros creados a partir de una plantilla no lo necesitan hasta que cargan un archivo.
+     */
+    private void initBoardReader() {
+        if (br == null) {
+            br = new BoardReader(this);
+        }
+    }
+
+    /**
+     * Crea las casillas a partir de la posición copiada de una plantilla y publica su copia inmutable.
+     * Cada tablero publica una copia propia: el modelo compara las copias por identidad para descartar
+     * las búsquedas del motor que empezaron en otro tablero (por ejemplo, en la partida anterior).
+     */
+    private void loadTemplate() {
+        syncSquares();
+        notifyCurrentPlayerColor();
+        publishSnapshot();
+    }
+
+    /**
+     * Actualiza las casillas para que coincidan con la posición. Las casillas existentes se reutilizan.
+     */
+    private void syncSquares() {
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                int square = Position.square(i, j);
+                int type = position.typeAt(square);
+                byte pieceColor = type == Position.NONE ? Position.WHITE : (byte) position.colorAt(square);
+                PieceType pieceType = type == Position.NONE ? PieceType.EMPTY : PIECE_TYPES[type];
+                if (board[i][j] == null) {
+                    board[i][j] = new com.poo.chessgame1_2.model.Square(pieceColor, pieceType, i, j);
+                } else {
+                    board[i][j].setPiece(pieceColor, pieceType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Empaqueta una casilla con la pieza que hay en ella (ver {@link BoardDelta}).
+     *
+     * @param boardI coordenada I de la casilla en el sistema del tablero
+     * @param boardJ coordenada J de la casilla en el sistema del tablero
+     * @return casilla empaquetada
+     */
+    private int packSquare(int boardI, int boardJ) {
+        int square = Position.square(boardI, boardJ);
+        return BoardDelta.pack(square, position.colorAt(square), position.typeAt(square));
+    }
+
+    /**
+     * Verifica si en la casilla especificada hay una pieza Rey.
+     *
+     * @param boardI coordenada I de la casilla
+     * @param boardJ coordenada J de la casilla
+     * @return true si hay un Rey en la casilla, false en caso contrario
+     */
+    public boolean isKing(int boardI, int boardJ) {
+        return position.typeAt(Position.square(boardI, boardJ)) == Position.KING;
+    }
+
+    /**
+     * Verifica si la casilla especificada está vacía.
+     *
+     * @param boardI coordenada I de la casilla
+     * @param boardJ coordenada J de la casilla
+     * @return true si la casilla está vacía, false en caso contrario
+     */
+    public boolean isEmptySquare(int boardI, int boardJ) {
+        return position.isEmpty(Position.square(boardI, boardJ));
+    }
+
+    /**
+     * Verifica si en la casilla especificada hay una pieza del oponente.
+     *
+     * @param boardI coordenada I de la casilla
+     * @param boardJ coordenada J de la casilla
+     * @param currentPlayerColor color de la pieza del jugador actual (Position.WHITE o Position.BLACK)
+     * @return true si hay una pieza del oponente en la casilla, false en caso contrario
+     */
+    public boolean isOpponentPiece(int boardI, int boardJ, byte currentPlayerColor) {
+        int color = position.colorAt(Position.square(boardI, boardJ));
+        return color != Position.NONE && color != currentPlayerColor;
+    }
+
+    /**
+     * Obtiene el contenido de todo el tablero como un cambio de tipo RESET con las 64 casillas.
+     *
+     * @return cambio con todas las casillas del tablero
+     */
+    public BoardDelta getBoardDelta() {
+        int[] changes = new int[BOARD_SIZE * BOARD_SIZE];
+        int count = 0;
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                changes[count++] = packSquare(i, j);
+            }
+        }
+        return new BoardDelta(BoardDelta.RESET, Move.NONE, Position.NONE, changes, count, snapshot);
+    }
+
+    /**
+     * Establece una nueva casilla en el tablero.
+     *
+     * @param pieceColor color de la pieza (Position.WHITE o Position.BLACK)
+     * @param pieceType tipo de pieza a establecer en la casilla
+     * @param boardI coordenada I de la casilla
+     * @param boardJ coordenada J de la casilla
+     */
+    public void setSquare(byte pieceColor, PieceType pieceType, int boardI, int boardJ) {
+        board[boardI][boardJ] = new com.poo.chessgame1_2.model.Square(pieceColor, pieceType, boardI, boardJ);
+
+        int square = Position.square(boardI, boardJ);
+        if (pieceType == PieceType.EMPTY) {
+            position.removePiece(square);
+        } else {
+            position.putPiece(pieceColor, pieceType.ordinal(), square);
+        }
+    }
+
+    /**
+     * Establece el jugador que debe realizar el siguiente movimiento utilizando el color de sus piezas.
+     *
+     * @param color color de la pieza que juega el jugador (Position.WHITE o Position.BLACK)
+     */
+    public void setCurrentPlayerColor(byte color) {
+        position.setSideToMove(color);
+        notifyCurrentPlayerColor();
+    }
+
+    /**
+     * Informa al modelo (si lo hay) del color que tiene el turno en la posición.
+     */
+    private void notifyCurrentPlayerColor() {
+        if (model != null) {
+            model.setCurrentPlayerColor(position.getSideToMove());
+        }
+    }
+
+    /**
+     * Establece el tipo de juego en el modelo.
+     *
+     * @param gameType tipo de juego
+     */
+    public void setGameType(GameType gameType) {
+        if (model != null) {
+            model.setGameType(gameType);
+        }
+    }
+
+    /**
+     * Establece los datos de los jugadores.
+     *
+     * @param player1 instancia del jugador 1
+     * @param player2 instancia del jugador 2
+     */
+    public void setPlayer(Player player1, Player player2) {
+        if (model != null) {
+            model.setPlayers(player1, player2);
+        }
+    }
+
+    /**
+     * Carga los datos del tablero desde un archivo.
+     */
+    private void loadBoard() {
+        position.clear();
+        br.setData();
+        position.initCastlingRights();
+        publishSnapshot();
+    }
+
+    /**
+     * Carga el tablero desde un archivo de anotación fuera de la carpeta de recursos.
+     * Las casillas que no aparecen en el archivo quedan vacías.
+     *
+     * @param filePath ruta del archivo con la anotación del tablero
+     */
+    public void loadBoard(String filePath) {
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                board[i][j] = new com.poo.chessgame1_2.model.Square(Position.WHITE, PieceType.EMPTY, i, j);
+            }
+        }
+        recordsCount = 0;
+        initBoardReader();
+        br.setUserFilePath(filePath);
+        loadBoard();
+    }
+
+    /**
+     * Guarda el tablero, el turno, el tipo de juego y los jugadores en un archivo de anotación
+     * con el mismo formato que lee {@link #loadBoard(String)}.
+     *
+     * @param filePath ruta del archivo donde se guarda el tablero
+     */
+    public void saveBoard(String filePath) {
+        bw.setFilePath(filePath);
+        if (model != null) {
+            bw.setData(snapshot, model.getGameType(), model.getPlayer1(), model.getPlayer2());
+        } else {
+            bw.setData(snapshot, null, null, null);
+        }
+    }
+
+    /**
+     * Carga una posición en notación FEN o EPD, reemplazando la del tablero. Se descartan los movimientos realizados.
+     * El texto se lee directamente, sin crear cadenas intermedias, y se interpreta primero en una posición auxiliar,
+     * de modo que si no es válido el tablero no cambia.
+     *
+     * @param fen texto en notación FEN o EPD (las operaciones EPD se ignoran)
+     * @throws IllegalArgumentException si el texto no es una posición FEN válida
+     */
+    public void loadFEN(CharSequence fen) {
+        if (fenPosition == null) {
+            fenPosition = new Position();
+        }
+        FENParser.parse(fen, fenPosition);
+        position.copyFrom(fenPosition);
+        recordsCount = 0;
+        syncSquares();
+        notifyCurrentPlayerColor();
+        publishSnapshot();
+    }
+
+    /**
+     * Carga la posición FEN o EPD de la siguiente línea del buffer, a partir de su posición actual,
+     * y avanza la posición del buffer hasta la línea siguiente (ver {@link #loadFEN(CharSequence)}).
+     * Permite cargar una tras otra las posiciones de un archivo leído o proyectado en memoria.
+     *
+     * @param buffer buffer con una posición por línea (texto ASCII)
+     * @return true si se cargó una posición, false si no quedan líneas en el buffer
+     * @throws IllegalArgumentException si la línea no es una posición FEN válida
+     */
+    public boolean loadFEN(ByteBuffer buffer) {
+        if (fenLine == null) {
+            fenLine = new ByteSequence();
+        }
+        if (fenLine.wrapLine(buffer) == null) {
+            return false;
+        }
+        loadFEN(fenLine);
+        return true;
+    }
+
+    /**
+     * Añade la posición actual en notación FEN al final del StringBuilder.
+     *
+     * @param sb destino (puede reutilizarse para muchas posiciones)
+     */
+    public void appendFEN(StringBuilder sb) {
+        FENParser.appendFEN(snapshot, sb);
+    }
+
+    /**
+     * Añade la posición actual en notación EPD (sin contadores) al final del StringBuilder.
+     *
+     * @param sb destino (puede reutilizarse para muchas posiciones)
+     */
+    public void appendEPD(StringBuilder sb) {
+        FENParser.appendEPD(snapshot, sb);
+    }
+
+    /**
+     * Escribe la posición actual en notación FEN, en ASCII, a partir de la posición actual del buffer.
+     *
+     * @param buffer destino
+     * @throws java.nio.BufferOverflowException si no cabe en el buffer
+     */
+    public void putFEN(ByteBuffer buffer) {
+        FENParser.putFEN(snapshot, buffer);
+    }
+
+    /**
+     * Escribe la posición actual en notación EPD, en ASCII, a partir de la posición actual del buffer.
+     *
+     * @param buffer destino
+     * @throws java.nio.BufferOverflowException si no cabe en el buffer
+     */
+    public void putEPD(ByteBuffer buffer) {
+        FENParser.putEPD(snapshot, buffer);
+    }
+
+    /**
+     * Verifica si el movimiento es legal para el jugador que tiene el turno.
+     *
+     * @param fromI coordenada I de inicio de la pieza a mover
+     * @param fromJ coordenada J de inicio de la pieza a mover
+     * @param toI coordenada I de destino de la pieza a mover
+     * @param toJ coordenada J de destino de la pieza a mover
+     * @return true si el movimiento es válido, false en caso contrario
+     */
+    public boolean isValidMove(int fromI, int fromJ, int toI, int toJ) {
+        generateLegalMoves(moveList);
+        return moveList.contains(Position.square(fromI, fromJ), Position.square(toI, toJ));
+    }
+
+    /**
+     * Busca un movimiento legal del jugador que tiene el turno a partir de su notación de coordenadas.
+     *
+     * @param coordinates movimiento en notación de coordenadas (por ejemplo "e2e4" o "e7e8q")
+     * @return movimiento codificado, o Move.NONE si no es legal
+     */
+    public int findMove(CharSequence coordinates) {
+        generateLegalMoves(moveList);
+        return Move.fromCoordinates(coordinates, moveList);
+    }
+
+    /**
+     * Genera todos los movimientos legales del jugador que tiene el turno.
+     *
+     * @param list lista que se vacía y se completa con los movimientos codificados
+     */
+    public void generateLegalMoves(MoveList list) {
+        list.clear();
+        MoveGenerator.generateLegalMoves(position, list);
+    }
+
+    /**
+     * Verifica si el rey del jugador que tiene el turno está en jaque.
+     *
+     * @return true si el rey está en jaque, false en caso contrario
+     */
+    public boolean isInCheck() {
+        return position.isInCheck(position.getSideToMove());
+    }
+
+    /**
+     * Verifica si el jugador que tiene el turno está en jaque mate.
+     *
+     * @return true si es jaque mate, false en caso contrario
+     */
+    public boolean isCheckmate() {
+        return isInCheck() && !MoveGenerator.hasLegalMoves(position, moveList);
+    }
+
+    /**
+     * Verifica si el jugador que tiene el turno está ahogado (sin movimientos legales y sin jaque).
+     *
+     * @return true si es ahogado, false en caso contrario
+     */
+    public boolean isStalemate() {
+        return !isInCheck() && !MoveGenerator.hasLegalMoves(position, moveList);
+    }
+
+    /**
+     * Realiza un movimiento a partir de sus coordenadas (verifica enroque, en Passant y promoción).
+     * Las promociones se realizan siempre a reina.
+     *
+     * @param fromI coordenada I de inicio de la pieza
+     * @param fromJ coordenada J de inicio de la pieza
+     * @param toI coordenada I de destino de la pieza
+     * @param toJ coordenada J de destino de la pieza
+     * @return casillas que cambiaron
+     * @throws IllegalArgumentException si el movimiento no es legal
+     */
+    public BoardDelta makeMove(int fromI, int fromJ, int toI, int toJ) {
+        generateLegalMoves(moveList);
+        int move = moveList.find(Position.square(fromI, fromJ), Position.square(toI, toJ));
+        if (move == Move.NONE) {
+            throw new IllegalArgumentException("Movimiento no válido: " + fromI + "," + fromJ + " -> " + toI + "," + toJ);
+        }
+        return makeMove(move);
+    }
+
+    /**
+     * Realiza un movimiento codificado (ver {@link Move}) y guarda un registro para poder deshacerlo.
+     *
+     * @param move movimiento codificado
+     * @return casillas que cambiaron (como máximo cuatro, en el enroque)
+     */
+    public BoardDelta makeMove(int move) {
+        int fromI = Position.fileOf(Move.from(move));
+        int fromJ = Position.rankOf(Move.from(move));
+        int toI = Position.fileOf(Move.to(move));
+        int toJ = Position.rankOf(Move.to(move));
+        int flags = Move.flags(move);
+
+        MoveRecord record = pushRecord();
+        record.move = move;
+
+        // La pieza capturada al paso no está en la casilla de destino
+        record.capturedI = toI;
+        record.capturedJ = flags == Move.EN_PASSANT ? fromJ : toJ;
+        Square capturedSquare = board[record.capturedI][record.capturedJ];
+        record.capturedType = capturedSquare.getPieceType();
+        record.capturedColor = capturedSquare.getPieceColor();
+        int movedType = position.typeAt(Move.from(move));
+
+        // Verifica enroque
+        if (Move.isCastle(move)) {
+            int rookFromI = flags == Move.KING_CASTLE ? toI + 1 : toI - 2;
+            int rookToI = flags == Move.KING_CASTLE ? toI - 1 : toI + 1;
+            board[rookToI][fromJ].setPieceFromSquare(board[rookFromI][fromJ]);
+            board[rookFromI][fromJ].setEmpty();
+        }
+        // Verifica promoción
+        if (Move.isPromotion(move)) {
+            board[fromI][fromJ].setPromotedPiece(PIECE_TYPES[Move.promotion(move)]);
+        }
+        // Verifica en Passant
+        if (flags == Move.EN_PASSANT) {
+            board[record.capturedI][record.capturedJ].setEmpty();
+        }
+
+        board[toI][toJ].setPieceFromSquare(board[fromI][fromJ]);
+        board[fromI][fromJ].setEmpty();
+
+        position.makeMove(move);
+        PositionSnapshot published = publishSnapshot();
+
+        int[] changes = new int[4];
+        int count = 0;
+        if (Move.isCastle(move)) {
+            changes[count++] = packSquare(flags == Move.KING_CASTLE ? toI - 1 : toI + 1, fromJ);
+            changes[count++] = packSquare(flags == Move.KING_CASTLE ? toI + 1 : toI - 2, fromJ);
+        }
+        if (flags == Move.EN_PASSANT) {
+            changes[count++] = packSquare(record.capturedI, record.capturedJ);
+        }
+        changes[count++] = packSquare(toI, toJ);
+        changes[count++] = packSquare(fromI, fromJ);
+
+        return new BoardDelta(BoardDelta.MOVE, move, movedType, changes, count, published);
+    }
+
+    /**
+     * Verifica si hay algún movimiento que se pueda deshacer.
+     *
+     * @return true si hay movimientos en la pila de deshacer, false en caso contrario
+     */
+    public boolean canUnmakeMove() {
+        return recordsCount > 0;
+    }
+
+    /**
+     * Deshace el último movimiento realizado, restaurando la pieza capturada, los enroques
+     * y la captura al paso.
+     *
+     * @return casillas que cambiaron, o null si no hay movimientos que deshacer
+     */
+    public BoardDelta unmakeMove() {
+        if (recordsCount == 0) {
+            return null;
+        }
+
+        MoveRecord record = records[--recordsCount];
+        int move = record.move;
+        int fromI = Position.fileOf(Move.from(move));
+        int fromJ = Position.rankOf(Move.from(move));
+        int toI = Position.fileOf(Move.to(move));
+        int toJ = Position.rankOf(Move.to(move));
+        int flags = Move.flags(move);
+
+        position.unmakeMove(move);
+        PositionSnapshot published = publishSnapshot();
+        int[] changes = new int[4];
+        int count = 0;
+
+        // Devuelve la pieza a su casilla de origen (el peón original en caso de promoción)
+        Square toSquare = board[toI][toJ];
+        PieceType movedType = Move.isPromotion(move) ? PieceType.PAWN : toSquare.getPieceType();
+        board[fromI][fromJ].setPiece(toSquare.getPieceColor(), movedType);
+        toSquare.setEmpty();
+
+        // Restaura la pieza capturada
+        if (record.capturedType != PieceType.EMPTY) {
+            board[record.capturedI][record.capturedJ].setPiece(record.capturedColor, record.capturedType);
+        }
+
+        // Devuelve la torre a su casilla si fue un enroque
+        if (Move.isCastle(move)) {
+            int rookFromI = flags == Move.KING_CASTLE ? toI + 1 : toI - 2;
+            int rookToI = flags == Move.KING_CASTLE ? toI - 1 : toI + 1;
+            board[rookFromI][fromJ].setPieceFromSquare(board[rookToI][fromJ]);
+            board[rookToI][fromJ].setEmpty();
+            changes[count++] = packSquare(rookFromI, fromJ);
+            changes[count++] = packSquare(rookToI, fromJ);
+        }
+
+        if (flags == Move.EN_PASSANT) {
+            changes[count++] = packSquare(record.capturedI, record.capturedJ);
+        }
+        changes[count++] = packSquare(toI, toJ);
+        changes[count++] = packSquare(fromI, fromJ);
+
+        return new BoardDelta(BoardDelta.UNDO, move, position.typeAt(Move.from(move)), changes, count, published);
+    }
+
+    /**
+     * Obtiene el siguiente registro libre de la pila de deshacer, ampliándola si está llena.
+     *
+     * @return registro reutilizable
+     */
+    private MoveRecord pushRecord() {
+        if (recordsCount == records.length) {
+            records = Arrays.copyOf(records, recordsCount * 2);
+        }
+        if (records[recordsCount] == null) {
+            records[recordsCount] = new MoveRecord();
+        }
+        return records[recordsCount++];
+    }
+}
@@ -0,0 +1,147 @@
+package com.poo.chessgame1_2.model;
+
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.pieces.PieceType;
+
+/**
+ * Cambio del tablero producido por un movimiento, por deshacer un movimiento o por cargar el tablero completo.
+ * Cada casilla cambiada se guarda empaquetada en un int: el índice de la casilla en los bits 0..5 y el código
+ * de la pieza que queda en ella en los bits 6..9 (0 = vacía, color * 6 + tipo + 1 en otro caso).
+ * Es inmutable, por lo que se puede entregar a varios suscriptores y a otros hilos sin copiarla.
+ */
+public final class BoardDelta {
+    public static final int MOVE = 0; // Se realizó un movimiento
+    public static final int UNDO = 1; // Se deshizo un movimiento
+    public static final int RESET = 2; // Se cargó el tablero completo (contiene las 64 casillas)
+
+    private static final int PIECE_TYPES_COUNT = 6; // Número de tipos de pieza (sin contar EMPTY)
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final int SQUARE_MASK = 63;
+    private static final int CODE_SHIFT = 6;
+
+    private final int kind; // MOVE, UNDO o RESET
+    private final int move; // Movimiento realizado o deshecho (Move.NONE en RESET)
+    private final int movedType; // Tipo de la pieza que movió (el peón en una promoción), o Position.NONE
+    private final int[] changes; // Casillas cambiadas, empaquetadas
+    private final int count; // Número de casillas cambiadas
+    private final PositionSnapshot snapshot; // Posición después del cambio
+
+    /**
+     * Constructor de la clase BoardDelta.
+     *
+     * @param kind MOVE, UNDO o RESET
+     * @param move movimiento codificado (Move.NONE en RESET)
+     * @param movedType tipo de la pieza que movió, o Position.NONE
+     * @param changes casillas cambiadas, empaquetadas con {@link #pack(int, int, int)} (no se copia)
+     * @param count número de casillas cambiadas
+     * @param snapshot posición después del cambio
+     */
+    BoardDelta(int kind, int move, int movedType, int[] changes, int count, PositionSnapshot snapshot) {
+        this.kind = kind;
+        this.move = move;
+        this.movedType = movedType;
+        this.changes = changes;
+        this.count = count;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Empaqueta una casilla y la pieza que hay en ella.
+     *
+     * @param square índice de la casilla
+     * @param color color de la pieza o Position.NONE si la casilla está vacía
+     * @param type tipo de la pieza o Position.NONE si la casilla está vacía
+     * @return casilla empaquetada
+     */
+    static int pack(int square, int color, int type) {
+        int code = color == Position.NONE ? 0 : color * PIECE_TYPES_COUNT + type + 1;
+        return square | code << CODE_SHIFT;
+    }
+
+    /**
+     * Obtiene el tipo de cambio.
+     *
+     * @return MOVE, UNDO o RESET
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    /**
+     * Obtiene el movimiento realizado o deshecho.
+     *
+     * @return movimiento codificado (ver {@link Move}), o Move.NONE si se cargó el tablero completo
+     */
+    public int getMove() {
+        return move;
+    }
+
+    /**
+     * Obtiene el tipo de la pieza que movió.
+     *
+     * @return tipo de la pieza (PAWN en una promoción), o PieceType.EMPTY si se cargó el tablero completo
+     */
+    public PieceType getMovedPieceType() {
+        return movedType == Position.NONE ? PieceType.EMPTY : PIECE_TYPES[movedType];
+    }
+
+    /**
+     * Obtiene el número de casillas cambiadas.
+     *
+     * @return número de casillas
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Obtiene una casilla cambiada tal como está empaquetada (útil para retransmitir el cambio).
+     *
+     * @param index posición del cambio (0..size()-1)
+     * @return casilla empaquetada
+     */
+    public int getPacked(int index) {
+        return changes[index];
+    }
+
+    /**
+     * Obtiene el índice de una casilla cambiada.
+     *
+     * @param index posición del cambio (0..size()-1)
+     * @return índice de la casilla (ver {@link Position#square(int, int)})
+     */
+    public int getSquare(int index) {
+        return changes[index] & SQUARE_MASK;
+    }
+
+    /**
+     * Obtiene el color de la pieza que quedó en una casilla cambiada.
+     *
+     * @param index posición del cambio (0..size()-1)
+     * @return Position.WHITE, Position.BLACK o Position.NONE si la casilla quedó vacía
+     */
+    public int getColor(int index) {
+        int code = changes[index] >>> CODE_SHIFT;
+        return code == 0 ? Position.NONE : (code - 1) / PIECE_TYPES_COUNT;
+    }
+
+    /**
+     * Obtiene el tipo de la pieza que quedó en una casilla cambiada.
+     *
+     * @param index posición del cambio (0..size()-1)
+     * @return tipo de la pieza o PieceType.EMPTY si la casilla quedó vacía
+     */
+    public PieceType getPieceType(int index) {
+        int code = changes[index] >>> CODE_SHIFT;
+        return code == 0 ? PieceType.EMPTY : PIECE_TYPES[(code - 1) % PIECE_TYPES_COUNT];
+    }
+
+    /**
+     * Obtiene la posición después del cambio.
+     *
+     * @return copia inmutable de la posición
+     */
+    public PositionSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
@@ -0,0 +1,16 @@
+package com.poo.chessgame1_2.model;
+
+/**
+ * Interfaz para los objetos que quieren recibir los cambios del tablero de la partida
+ * (la vista, el registro PGN, un servidor que retransmite la partida, etc.).
+ * Cada suscriptor se registra en el modelo con {@link Model#addBoardListener(BoardListener)}.
+ */
+public interface BoardListener {
+
+    /**
+     * Se llama después de cada cambio del tablero, en el hilo que realizó el cambio.
+     *
+     * @param delta casillas que cambiaron y su contenido nuevo
+     */
+    void boardChanged(BoardDelta delta);
+}
@@ -0,0 +1,56 @@
+package com.poo.chessgame1_2.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Posición inicial ya leída de un archivo de anotación de los recursos (por ejemplo startBoard.txt).
+ * Cada archivo se lee y se interpreta una sola vez; las partidas nuevas copian la posición de la plantilla
+ * (unos arrays de long y de byte) en lugar de volver a leer el archivo.
+ * Las plantillas nunca se modifican, por lo que pueden compartirse entre todos los tableros y todos los hilos.
+ * Solo guardan la posición y el turno: los archivos de posición inicial no indican tipo de juego ni jugadores.
+ */
+final class BoardTemplate {
+    private static final Map<String, BoardTemplate> TEMPLATES = new ConcurrentHashMap<>(); // Plantillas por archivo de recursos
+
+    private final Position position; // Posición inicial (no se modifica)
+
+    /**
+     * Constructor que copia la posición recién cargada en un tablero.
+     *
+     * @param position posición cargada
+     */
+    private BoardTemplate(Position position) {
+        this.position = new Position(position);
+    }
+
+    /**
+     * Obtiene la plantilla de un archivo de recursos, si ya se leyó.
+     *
+     * @param resourcePath ruta del archivo dentro de los recursos
+     * @return plantilla, o null si el archivo todavía no se leyó
+     */
+    static BoardTemplate get(String resourcePath) {
+        return TEMPLATES.get(resourcePath);
+    }
+
+    /**
+     * Guarda la posición que se acaba de leer de un archivo de recursos como su plantilla.
+     * Si otro hilo la guardó antes, se conserva la primera.
+     *
+     * @param resourcePath ruta del archivo dentro de los recursos
+     * @param position posición cargada
+     */
+    static void register(String resourcePath, Position position) {
+        TEMPLATES.putIfAbsent(resourcePath, new BoardTemplate(position));
+    }
+
+    /**
+     * Obtiene la posición inicial. No debe modificarse: los tableros la copian con {@link Position#Position(Position)}.
+     *
+     * @return posición de la plantilla
+     */
+    Position getPosition() {
+        return position;
+    }
+}
@@ -2,9 +2,13 @@ package com.poo.chessgame1_2.model;
 
 /**
  * Enum que representa los diferentes tipos de juego disponibles.
- * Actualmente solo tiene el tipo de juego para una partida multijugador.
  */
 public enum GameType {
+    /**
+     * Tipo de juego de un jugador, donde el jugador humano juega contra la computadora.
+     */
+    SINGLEPLAYER,
+
     /**
      * Tipo de juego multijugador, donde dos jugadores humanos juegan entre sí.
      */
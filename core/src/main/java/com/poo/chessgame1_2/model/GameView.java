@@ -0,0 +1,53 @@
+package com.poo.chessgame1_2.model;
+
+/**
+ * Interfaz con las operaciones que el modelo necesita de la interfaz de usuario.
+ * El núcleo del juego no depende de JavaFX: la vista gráfica la implementa en el módulo de la aplicación,
+ * y sin vista (por ejemplo, en un servidor o en las pruebas de rendimiento) se utilizan las implementaciones
+ * por defecto, que no muestran nada y ejecutan las acciones en el hilo que las solicita.
+ */
+public interface GameView {
+
+    /**
+     * Marca o desmarca la pieza seleccionada en una casilla.
+     *
+     * @param boardI coordenada I de la casilla en el sistema del tablero
+     * @param boardJ coordenada J de la casilla en el sistema del tablero
+     */
+    default void selectPiece(int boardI, int boardJ) {
+    }
+
+    /**
+     * Informa que la partida terminó con jaque mate.
+     *
+     * @param winnerName nombre del jugador que ganó
+     */
+    default void gameOver(String winnerName) {
+    }
+
+    /**
+     * Informa que la partida terminó en tablas.
+     *
+     * @param reason motivo de las tablas (por ejemplo, ahogado)
+     */
+    default void gameDrawn(String reason) {
+    }
+
+    /**
+     * Informa que terminó de escribirse el archivo PGN de la partida. La vista decide cómo mostrar los errores.
+     *
+     * @param filePath ruta del archivo PGN
+     * @param error error al escribir el archivo (de entrada/salida o de la partida), o null si se guardó correctamente
+     */
+    default void gameSaved(String filePath, Exception error) {
+    }
+
+    /**
+     * Ejecuta una acción en el hilo de la interfaz (por ejemplo, al terminar la búsqueda de la computadora).
+     *
+     * @param action acción a ejecutar
+     */
+    default void runLater(Runnable action) {
+        action.run();
+    }
+}
@@ -0,0 +1,502 @@
+package com.poo.chessgame1_2.model;
+
+import com.poo.chessgame1_2.model.engine.SearchEngine;
+import com.poo.chessgame1_2.model.engine.SearchListener;
+import com.poo.chessgame1_2.model.engine.SearchResult;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.players.Player;
+import com.poo.chessgame1_2.model.utils.PGNSaver;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Clase que representa el modelo del juego de ajedrez.
+ * Contiene la lógica del juego, el estado del tablero, los jugadores y el manejo de movimientos.
+ * El modelo no es seguro entre hilos: lo debe usar un solo hilo a la vez (el hilo de la interfaz gráfica o,
+ * sin interfaz, un {@link com.poo.chessgame1_2.model.concurrent.CommandMailbox} por partida).
+ */
+public class Model {
+    // Hilos (daemon) donde buscan su movimiento las computadoras de todos los modelos; se reutilizan entre búsquedas
+    private static final ExecutorService ENGINE_THREADS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "motor-ajedrez");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int BOARD_SIZE = 8; // Tamaño del tablero de ajedrez
+    private GameView view = new GameView() {}; // Vista asociada al modelo (sin vista: no muestra nada)
+    private Board board = null; // Tablero del juego
+    private final PGNSaver pgnSaver = new PGNSaver(); // Guardar movimientos en formato PGN
+    private final List<BoardListener> boardListeners = new CopyOnWriteArrayList<>(); // Suscriptores de los cambios del tablero
+
+    private Player currentPlayerMove; // Jugador que está realizando el movimiento actual
+    private final Player player1 = new Player("player1", Position.WHITE); // Jugador 1
+    private Player player2 = new Player("player2", Position.BLACK); // Jugador 2
+
+    private boolean isSelectedPiece = false; // Indica si se ha seleccionado una pieza
+    private GameType gameType; // Tipo de juego (un jugador o multijugador)
+    private int selectedPieceI, selectedPieceJ; // Coordenadas de la pieza seleccionada
+
+    private boolean moveHasDone = false; // Indica si se ha realizado un movimiento
+
+    private final SearchEngine engine = new SearchEngine(); // Motor de búsqueda para el juego contra la computadora
+    private boolean isComputerThinking = false; // Indica si la computadora está buscando su movimiento
+    private Executor engineExecutor = ENGINE_THREADS; // Ejecutor donde se realiza la búsqueda de la computadora
+
+    /**
+     * Constructor de la clase Model.
+     */
+    public Model() {
+        addBoardListener(pgnSaver);
+    }
+
+    /**
+     * Suscribe un objeto a los cambios del tablero (la vista, un servidor que retransmite la partida, etc.).
+     *
+     * @param listener suscriptor
+     */
+    public void addBoardListener(BoardListener listener) {
+        boardListeners.add(listener);
+    }
+
+    /**
+     * Cancela la suscripción de un objeto a los cambios del tablero.
+     *
+     * @param listener suscriptor
+     */
+    public void removeBoardListener(BoardListener listener) {
+        boardListeners.remove(listener);
+    }
+
+    /**
+     * Entrega un cambio del tablero a todos los suscriptores, en el orden en que se suscribieron.
+     *
+     * @param delta cambio del tablero
+     */
+    private void fireBoardChanged(BoardDelta delta) {
+        for (BoardListener listener : boardListeners) {
+            listener.boardChanged(delta);
+        }
+    }
+
+    /**
+     * Establece la vista para acceder a los métodos de selección de piezas y de fin de juego.
+     *
+     * @param view vista de la interfaz (la vista JavaFX de la aplicación o cualquier otra implementación)
+     */
+    public void setView(GameView view) {
+        this.view = view;
+    }
+
+    /**
+     * Establece el tipo de juego.
+     *
+     * @param gameType GameType.SINGLEPLAYER o GameType.MULTIPLAYER
+     */
+    void setGameType(GameType gameType) {
+        this.gameType = gameType;
+    }
+
+    /**
+     * Obtiene el tipo de juego.
+     *
+     * @return GameType.SINGLEPLAYER o GameType.MULTIPLAYER
+     */
+    GameType getGameType() {
+        return gameType;
+    }
+
+    /**
+     * Configura el presupuesto del motor de búsqueda en el juego contra la computadora.
+     *
+     * @param maxDepth profundidad máxima de búsqueda
+     * @param timeLimitMillis tiempo máximo por movimiento en milisegundos (0 o menos: sin límite)
+     */
+    public void setEngineLimits(int maxDepth, long timeLimitMillis) {
+        engine.setMaxDepth(maxDepth);
+        engine.setTimeLimitMillis(timeLimitMillis);
+    }
+
+    /**
+     * Configura el número de hilos que utiliza el motor de búsqueda.
+     *
+     * @param threadCount número de hilos (por defecto, uno por procesador)
+     */
+    public void setEngineThreads(int threadCount) {
+        engine.setThreadCount(threadCount);
+    }
+
+    /**
+     * Establece el ejecutor donde se busca el movimiento de la computadora (por ejemplo, el ejecutor de hilos
+     * virtuales de un servidor). Por defecto se usan unos hilos compartidos por todos los modelos.
+     *
+     * @param engineExecutor ejecutor de las búsquedas
+     */
+    public void setEngineExecutor(Executor engineExecutor) {
+        this.engineExecutor = engineExecutor;
+    }
+
+    /**
+     * Establece el objeto que recibe el progreso de la búsqueda de la computadora (profundidad, evaluación,
+     * nodos por segundo). Se llama desde el hilo de la búsqueda, no desde el hilo de la interfaz.
+     *
+     * @param listener suscriptor, o null para no informar el progreso
+     */
+    public void setSearchListener(SearchListener listener) {
+        engine.setSearchListener(listener);
+    }
+
+    /**
+     * Obtiene la instancia del jugador 1.
+     *
+     * @return instancia de Player
+     */
+    Player getPlayer1() {
+        return player1;
+    }
+
+    /**
+     * Obtiene la instancia del jugador 2.
+     *
+     * @return instancia de Player
+     */
+    Player getPlayer2() {
+        return player2;
+    }
+
+    /**
+     * Obtiene el color de las piezas del jugador que debe realizar el movimiento.
+     *
+     * @return color de las piezas (Position.WHITE o Position.BLACK)
+     */
+    byte getCurrentPlayerColor() {
+        return currentPlayerMove.getPlayerColor();
+    }
+
+    /**
+     * Obtiene el nombre del jugador 1.
+     *
+     * @return nombre del jugador 1
+     */
+    public String getPlayer1Name() {
+        return player1.getPlayerName();
+    }
+
+    /**
+     * Obtiene el nombre del jugador 2.
+     *
+     * @return nombre del jugador 2
+     */
+    public String getPlayer2Name() {
+        return player2.getPlayerName();
+    }
+
+    /**
+     * Establece los datos de los jugadores en modo multijugador.
+     *
+     * @param player1Name nombre del jugador 1
+     * @param player2Name nombre del jugador 2
+     */
+    public void setPlayers(String player1Name, String player2Name) {
+        player1.setPlayerName(player1Name); // Position.WHITE
+        player2.setPlayerName(player2Name); // Position.BLACK
+    }
+
+    /**
+     * Restablece los datos de los jugadores a los nombres y colores originales.
+     *
+     * @param player1 nuevo jugador 1
+     * @param player2 nuevo jugador 2
+     */
+    public void setPlayers(Player player1, Player player2) {
+        this.player1.setPlayerColor(player1.getPlayerColor());
+        this.player1.setPlayerName(player1.getPlayerName());
+        this.player2.setPlayerColor(player2.getPlayerColor());
+        this.player2.setPlayerName(player2.getPlayerName());
+    }
+
+    /**
+     * Establece el jugador que debe realizar el siguiente movimiento utilizando el color de sus piezas.
+     *
+     * @param currentPlayerColor color de la pieza que el jugador juega (Position.WHITE o Position.BLACK)
+     */
+    void setCurrentPlayerColor(byte currentPlayerColor) {
+        if (currentPlayerColor == player1.getPlayerColor()) {
+            currentPlayerMove = player1;
+        } else {
+            currentPlayerMove = player2;
+        }
+    }
+
+    /**
+     * Cambia el turno al siguiente jugador.
+     * Si el juego es de un solo jugador, realiza el movimiento de la computadora.
+     */
+    public void nextMove() {
+        if (moveHasDone) {
+            changeCurrentPlayerMove();
+            moveHasDone = false;
+        } else {
+            return;
+        }
+        unselectPiece();
+
+        if (isComputerTurn()) {
+            startComputerMove();
+        }
+    }
+
+    /**
+     * Verifica si el jugador actual es la computadora (jugador 2 en el juego de un jugador).
+     *
+     * @return true si le toca mover a la computadora, false en caso contrario
+     */
+    private boolean isComputerTurn() {
+        return gameType == GameType.SINGLEPLAYER && currentPlayerMove == player2;
+    }
+
+    /**
+     * Inicia la búsqueda del movimiento de la computadora en el ejecutor del motor, para no bloquear la interfaz.
+     * La búsqueda trabaja sobre la última copia inmutable del tablero, sin compartir el tablero de la partida;
+     * el movimiento encontrado se aplica en el hilo de la interfaz.
+     */
+    private void startComputerMove() {
+        isComputerThinking = true;
+        PositionSnapshot searchSnapshot = board.getSnapshot();
+        engineExecutor.execute(() -> {
+            SearchResult result = engine.search(searchSnapshot.toPosition());
+            view.runLater(() -> computerMoveFound(searchSnapshot, result));
+        });
+    }
+
+    /**
+     * Realiza el movimiento encontrado por la computadora y devuelve el turno al jugador.
+     *
+     * @param searchSnapshot copia del tablero sobre la que se realizó la búsqueda
+     * @param result resultado de la búsqueda
+     */
+    private void computerMoveFound(PositionSnapshot searchSnapshot, SearchResult result) {
+        // Se ignora el resultado si mientras tanto cambió el tablero (por ejemplo, empezó otra partida)
+        if (searchSnapshot != board.getSnapshot()) {
+            return;
+        }
+        isComputerThinking = false;
+        int move = result.getBestMove();
+        if (move == Move.NONE) {
+            return;
+        }
+
+        fireBoardChanged(board.makeMove(move));
+
+        if (board.isCheckmate()) {
+            view.gameOver(currentPlayerMove.getPlayerName());
+        } else if (board.isStalemate()) {
+            view.gameDrawn("Tablas por ahogado");
+        } else {
+            changeCurrentPlayerMove();
+        }
+    }
+
+    /**
+     * Cambia el jugador actual que debe realizar el movimiento.
+     * Detiene el temporizador del jugador anterior y comienza el temporizador del jugador actual.
+     */
+    private void changeCurrentPlayerMove() {
+        currentPlayerMove = currentPlayerMove == player1 ? player2 : player1;
+    }
+
+    /**
+     * Crea una nueva instancia del tablero.
+     */
+    private void resetBoard() {
+        board = new Board(this);
+    }
+
+    /**
+     * Método que se ejecuta cuando un jugador hace clic en una casilla del tablero.
+     * Tiene 4 opciones:
+     *  1. Realizar un movimiento si es posible.
+     *  2. Seleccionar una pieza si es la pieza del jugador actual.
+     *  3. Re-seleccionar una pieza o deseleccionar si no es la pieza del jugador actual.
+     *  4. Ignorar.
+     *
+     * @param boardI coordenada I de la casilla clicada en el sistema del tablero
+     * @param boardJ coordenada J de la casilla clicada en el sistema del tablero
+     */
+    public void squareWasClicked(int boardI, int boardJ) {
+        if (isComputerThinking || isComputerTurn()) {
+            return;
+        }
+        // Realizar movimiento
+        if (isSelectedPiece && board.isEmptySquare(boardI, boardJ) || isSelectedPiece && board.isOpponentPiece(boardI, boardJ, currentPlayerMove.getPlayerColor())) {
+            if (board.isValidMove(selectedPieceI, selectedPieceJ, boardI, boardJ) && !moveHasDone) {
+                makeMove(boardI, boardJ);
+                System.out.println("Movimiento hecho :)");
+            }
+        }
+        // Seleccionar pieza
+        else if (!isSelectedPiece && !board.isEmptySquare(boardI, boardJ) && !board.isOpponentPiece(boardI, boardJ, currentPlayerMove.getPlayerColor()) && !moveHasDone) {
+            selectPiece(boardI, boardJ);
+        }
+        // Re-seleccionar pieza
+        else if (isSelectedPiece && !board.isEmptySquare(boardI, boardJ) && !board.isOpponentPiece(boardI, boardJ, currentPlayerMove.getPlayerColor())) {
+            unselectPiece();
+            selectPiece(boardI, boardJ);
+        }
+    }
+
+    /**
+     * Realiza un movimiento de la pieza seleccionada a la nueva posición,
+     * cambia el estado del tablero y actualiza la vista.
+     *
+     * @param toI coordenada I de destino en el sistema del tablero
+     * @param toJ coordenada J de destino en el sistema del tablero
+     */
+    private void makeMove(int toI, int toJ) {
+        BoardDelta delta = board.makeMove(selectedPieceI, selectedPieceJ, toI, toJ);
+        moveHasDone = true;
+
+        unselectPiece();
+        fireBoardChanged(delta);
+
+        // El rival queda sin movimientos legales: jaque mate si está en jaque, ahogado en caso contrario.
+        if (board.isCheckmate()) {
+            view.gameOver(currentPlayerMove.getPlayerName());
+        } else if (board.isStalemate()) {
+            view.gameDrawn("Tablas por ahogado");
+        }
+    }
+
+    /**
+     * Realiza un movimiento completo, sin selección de casillas ni confirmación, para los clientes
+     * sin interfaz gráfica (por ejemplo, el servidor de partidas). Si la partida termina, se avisa a la vista
+     * igual que en el juego con interfaz; en el juego contra la computadora, esta responde a continuación.
+     *
+     * @param coordinates movimiento en notación de coordenadas (por ejemplo "e2e4" o "e7e8q")
+     * @return casillas que cambiaron
+     * @throws IllegalArgumentException si el movimiento no es legal para el jugador que tiene el turno
+     * @throws IllegalStateException si no hay una partida iniciada o le toca mover a la computadora
+     */
+    public BoardDelta playMove(CharSequence coordinates) {
+        if (board == null || isComputerThinking || isComputerTurn()) {
+            throw new IllegalStateException("No es el turno de un jugador");
+        }
+        int move = board.findMove(coordinates);
+        if (move == Move.NONE) {
+            throw new IllegalArgumentException("Movimiento no válido: " + coordinates);
+        }
+
+        BoardDelta delta = board.makeMove(move);
+        moveHasDone = false;
+        fireBoardChanged(delta);
+
+        if (board.isCheckmate()) {
+            view.gameOver(currentPlayerMove.getPlayerName());
+        } else if (board.isStalemate()) {
+            view.gameDrawn("Tablas por ahogado");
+        } else {
+            changeCurrentPlayerMove();
+            if (isComputerTurn()) {
+                startComputerMove();
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Deshace el último movimiento realizado y actualiza la vista.
+     * Si el movimiento ya fue confirmado, el turno vuelve al jugador que lo realizó.
+     */
+    public void undoMove() {
+        if (board == null || !board.canUnmakeMove() || isComputerThinking) {
+            return;
+        }
+        unselectPiece();
+
+        // Contra la computadora se deshace también su respuesta, para que vuelva a mover el jugador
+        if (gameType == GameType.SINGLEPLAYER && !moveHasDone) {
+            fireBoardChanged(board.unmakeMove());
+            if (board.canUnmakeMove()) {
+                fireBoardChanged(board.unmakeMove());
+            }
+            return;
+        }
+
+        BoardDelta delta = board.unmakeMove();
+        if (moveHasDone) {
+            moveHasDone = false;
+        } else {
+            changeCurrentPlayerMove();
+        }
+
+        fireBoardChanged(delta);
+    }
+
+    /**
+     * Selecciona una pieza y pinta la selección en la vista.
+     *
+     * @param boardI coordenada I para seleccionar
+     * @param boardJ coordenada J para seleccionar
+     */
+    private void selectPiece(int boardI, int boardJ) {
+        System.out.println("Pieza seleccionada");
+        isSelectedPiece = true;
+        selectedPieceI = boardI;
+        selectedPieceJ = boardJ;
+        view.selectPiece(boardI, boardJ);
+    }
+
+    /**
+     * Deselecciona la pieza seleccionada y elimina la selección en la vista.
+     */
+    private void unselectPiece() {
+        System.out.println("Pieza deseleccionada");
+        if (selectedPieceI != -1 && selectedPieceJ != -1) {
+            view.selectPiece(selectedPieceI, selectedPieceJ);
+            isSelectedPiece = false;
+            selectedPieceI = -1;
+            selectedPieceJ = -1;
+        }
+    }
+
+    /**
+     * Obtiene la última copia inmutable del tablero de la partida.
+     * Puede leerse desde cualquier hilo (guardado, análisis, espectadores) sin bloquear la partida.
+     *
+     * @return copia de la posición actual
+     */
+    public PositionSnapshot getSnapshot() {
+        return board.getSnapshot();
+    }
+
+    /**
+     * Prepara todo para iniciar el juego y lo comienza, actualizando el tablero.
+     *
+     * @param gameType tipo de juego que se inicia
+     */
+    public void startGame(GameType gameType) {
+        this.gameType = gameType;
+        moveHasDone = false;
+        engine.stop();
+        isComputerThinking = false;
+        resetBoard();
+        engine.newGame();
+
+        fireBoardChanged(board.getBoardDelta());
+    }
+
+    /**
+     * Guarda el juego en formato PGN. El archivo se escribe en segundo plano y, al terminar,
+     * se informa a la vista en su hilo.
+     *
+     * @param filePath ruta del archivo PGN (elegida por la interfaz)
+     */
+    public void saveGameAsPGN(String filePath) {
+        pgnSaver.savePGN(player1, player2, filePath,
+                (games, error) -> view.runLater(() -> view.gameSaved(filePath, error)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.poo.chessgame1_2.model;
+
+import com.poo.chessgame1_2.model.pieces.PieceType;
+
+/**
+ * Registro con la información necesaria para deshacer un movimiento en la matriz de casillas del tablero.
+ * El estado de la posición (pieza capturada, enroques y en passant) lo guarda la propia Position;
+ * aquí solo se guarda lo necesario para restaurar la casilla de la pieza capturada.
+ * Los registros se reutilizan, por lo que deshacer movimientos no crea objetos nuevos.
+ */
+class MoveRecord {
+    int move; // Movimiento codificado
+
+    int capturedI, capturedJ; // Coordenadas de la casilla de la pieza capturada
+    PieceType capturedType; // Tipo de la pieza capturada
+    byte capturedColor; // Color de la pieza capturada (Position.WHITE o Position.BLACK)
+}
@@ -0,0 +1,666 @@
+package com.poo.chessgame1_2.model;
+
+import com.poo.chessgame1_2.model.attacks.Attacks;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.pieces.PieceType;
+
+import java.util.Arrays;
+
+/**
+ * Clase que representa la posición del tablero mediante bitboards.
+ * Cada combinación de color y tipo de pieza se guarda en un entero de 64 bits, donde el bit
+ * {@code boardJ * 8 + boardI} indica que hay una pieza en la casilla (boardI, boardJ) del sistema del tablero.
+ * Además guarda el turno, los derechos de enroque y la casilla de captura al paso.
+ */
+public class Position {
+    public static final byte WHITE = 0; // Índice del color blanco
+    public static final byte BLACK = 1; // Índice del color negro
+
+    // Índices de los tipos de pieza (coinciden con PieceType.ordinal())
+    public static final int BISHOP = 0;
+    public static final int KING = 1;
+    public static final int KNIGHT = 2;
+    public static final int PAWN = 3;
+    public static final int QUEEN = 4;
+    public static final int ROOK = 5;
+
+    public static final int NONE = -1; // Valor para casillas vacías o sin captura al paso
+
+    // Derechos de enroque
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+
+    private static final int PIECE_TYPES_COUNT = 6; // Número de tipos de pieza (sin contar EMPTY)
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final int[] CASTLING_MASK = new int[64]; // Derechos que se conservan al tocar cada casilla
+
+    // Claves Zobrist: un número aleatorio por pieza y casilla, por combinación de enroques,
+    // por columna de captura al paso y por turno de las negras
+    private static final long[][] PIECE_KEYS = new long[2 * PIECE_TYPES_COUNT][64];
+    private static final long[] CASTLING_KEYS = new long[16];
+    private static final long[] EN_PASSANT_KEYS = new long[8];
+    private static final long SIDE_KEY;
+
+    static {
+        for (int sq = 0; sq < 64; sq++) {
+            CASTLING_MASK[sq] = 15;
+        }
+        CASTLING_MASK[square(0, 0)] &= ~WHITE_QUEEN_SIDE;
+        CASTLING_MASK[square(7, 0)] &= ~WHITE_KING_SIDE;
+        CASTLING_MASK[square(4, 0)] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        CASTLING_MASK[square(0, 7)] &= ~BLACK_QUEEN_SIDE;
+        CASTLING_MASK[square(7, 7)] &= ~BLACK_KING_SIDE;
+        CASTLING_MASK[square(4, 7)] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+
+        // Semilla fija: las claves son iguales en cada ejecución
+        long seed = 0x3243F6A8885A308DL;
+        for (long[] keys : PIECE_KEYS) {
+            for (int sq = 0; sq < 64; sq++) {
+                seed += 0x9E3779B97F4A7C15L;
+                keys[sq] = mix(seed);
+            }
+        }
+        long[] castlingBitKeys = new long[4];
+        for (int k = 0; k < castlingBitKeys.length; k++) {
+            seed += 0x9E3779B97F4A7C15L;
+            castlingBitKeys[k] = mix(seed);
+        }
+        for (int rights = 0; rights < CASTLING_KEYS.length; rights++) {
+            for (int k = 0; k < castlingBitKeys.length; k++) {
+                if ((rights & (1 << k)) != 0) {
+                    CASTLING_KEYS[rights] ^= castlingBitKeys[k];
+                }
+            }
+        }
+        for (int file = 0; file < EN_PASSANT_KEYS.length; file++) {
+            seed += 0x9E3779B97F4A7C15L;
+            EN_PASSANT_KEYS[file] = mix(seed);
+        }
+        seed += 0x9E3779B97F4A7C15L;
+        SIDE_KEY = mix(seed);
+    }
+
+    private final long[] pieces = new long[2 * PIECE_TYPES_COUNT]; // Bitboard por color y tipo de pieza
+    private final long[] colors = new long[2]; // Ocupación por color
+    private long occupancy; // Ocupación total del tablero
+    private final byte[] mailbox = new byte[64]; // Código de pieza por casilla (0 = vacía)
+
+    private byte sideToMove = WHITE; // Color que realiza el siguiente movimiento
+    private int castlingRights; // Derechos de enroque disponibles
+    private int enPassantSquare = NONE; // Casilla donde se puede capturar al paso
+    private long pieceHash; // Parte de la clave Zobrist que corresponde a las piezas (se actualiza en cada cambio)
+
+    private long[] undoStack = new long[256]; // Estado previo de cada movimiento realizado
+    private int ply = 0; // Número de movimientos en la pila
+
+    private final long[] attackMaps = new long[2]; // Casillas atacadas por cada color (caché)
+    private int validAttackMaps = 0; // Bit por color: 1 si el mapa de ataques en caché es válido
+
+    /**
+     * Constructor de una posición vacía.
+     */
+    public Position() {
+    }
+
+    /**
+     * Constructor que copia las piezas, el turno, los enroques y la captura al paso de otra posición.
+     * La pila de deshacer no se copia.
+     *
+     * @param other posición a copiar
+     */
+    public Position(Position other) {
+        copyFrom(other);
+    }
+
+    /**
+     * Reemplaza el contenido de la posición por el de otra: piezas, turno, enroques y captura al paso.
+     * La pila de deshacer queda vacía.
+     *
+     * @param other posición a copiar
+     */
+    public void copyFrom(Position other) {
+        System.arraycopy(other.pieces, 0, pieces, 0, pieces.length);
+        System.arraycopy(other.colors, 0, colors, 0, colors.length);
+        System.arraycopy(other.mailbox, 0, mailbox, 0, mailbox.length);
+        occupancy = other.occupancy;
+        sideToMove = other.sideToMove;
+        castlingRights = other.castlingRights;
+        enPassantSquare = other.enPassantSquare;
+        pieceHash = other.pieceHash;
+        ply = 0;
+        validAttackMaps = 0;
+    }
+
+    /**
+     * Función de mezcla de SplitMix64, utilizada para generar las claves Zobrist.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Convierte las coordenadas del sistema del tablero en el índice de la casilla (0..63).
+     *
+     * @param boardI coordenada I (columna a..h)
+     * @param boardJ coordenada J (fila 1..8)
+     * @return índice de la casilla
+     */
+    public static int square(int boardI, int boardJ) {
+        return boardJ * 8 + boardI;
+    }
+
+    /**
+     * Obtiene la coordenada I de una casilla.
+     *
+     * @param square índice de la casilla
+     * @return coordenada I
+     */
+    public static int fileOf(int square) {
+        return square & 7;
+    }
+
+    /**
+     * Obtiene la coordenada J de una casilla.
+     *
+     * @param square índice de la casilla
+     * @return coordenada J
+     */
+    public static int rankOf(int square) {
+        return square >>> 3;
+    }
+
+    /**
+     * Deja la posición vacía y restablece el turno, los enroques y la captura al paso.
+     */
+    public void clear() {
+        for (int i = 0; i < pieces.length; i++) {
+            pieces[i] = 0L;
+        }
+        for (int sq = 0; sq < 64; sq++) {
+            mailbox[sq] = 0;
+        }
+        colors[WHITE] = 0L;
+        colors[BLACK] = 0L;
+        occupancy = 0L;
+        sideToMove = WHITE;
+        castlingRights = 0;
+        enPassantSquare = NONE;
+        pieceHash = 0L;
+        ply = 0;
+        validAttackMaps = 0;
+    }
+
+    /**
+     * Realiza un movimiento codificado (ver {@link Move}) y guarda el estado necesario para deshacerlo.
+     * El movimiento debe haber sido generado para esta posición.
+     *
+     * @param move movimiento codificado
+     */
+    public void makeMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flags = Move.flags(move);
+
+        if (ply == undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, ply * 2);
+        }
+        // Pieza capturada (4 bits), derechos de enroque (4 bits) y casilla de captura al paso + 1 (7 bits)
+        undoStack[ply++] = mailbox[to] | (castlingRights << 4) | ((enPassantSquare + 1) << 8);
+
+        if (flags == Move.EN_PASSANT) {
+            removePiece(square(fileOf(to), rankOf(from)));
+        }
+        movePiece(from, to);
+        if (Move.isPromotion(move)) {
+            putPiece(sideToMove, Move.promotion(move), to);
+        } else if (flags == Move.KING_CASTLE) {
+            movePiece(to + 1, to - 1);
+        } else if (flags == Move.QUEEN_CASTLE) {
+            movePiece(to - 2, to + 1);
+        }
+
+        updateCastlingRights(from, to);
+        enPassantSquare = flags == Move.DOUBLE_PAWN_PUSH ? (from + to) / 2 : NONE;
+        sideToMove ^= 1;
+    }
+
+    /**
+     * Deshace el último movimiento realizado con makeMove.
+     *
+     * @param move el mismo movimiento codificado que se pasó a makeMove
+     */
+    public void unmakeMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flags = Move.flags(move);
+        long state = undoStack[--ply];
+
+        sideToMove ^= 1;
+        castlingRights = (int) (state >>> 4) & 0xF;
+        enPassantSquare = (int) (state >>> 8) - 1;
+
+        if (Move.isPromotion(move)) {
+            removePiece(to);
+            putPiece(sideToMove, PAWN, from);
+        } else {
+            movePiece(to, from);
+            if (flags == Move.KING_CASTLE) {
+                movePiece(to - 1, to + 1);
+            } else if (flags == Move.QUEEN_CASTLE) {
+                movePiece(to + 1, to - 2);
+            }
+        }
+
+        int captured = (int) state & 0xF;
+        if (captured != 0) {
+            putPiece((captured - 1) / PIECE_TYPES_COUNT, (captured - 1) % PIECE_TYPES_COUNT, to);
+        } else if (flags == Move.EN_PASSANT) {
+            putPiece(sideToMove ^ 1, PAWN, square(fileOf(to), rankOf(from)));
+        }
+    }
+
+    /**
+     * Obtiene la clave Zobrist de 64 bits de la posición.
+     * Las piezas se actualizan de forma incremental al colocarlas o quitarlas (y por tanto al realizar
+     * y deshacer movimientos); el turno, los enroques y la captura al paso se añaden con tres consultas.
+     * La casilla de captura al paso solo cuenta si algún peón del turno puede capturar en ella, de modo que
+     * dos posiciones que solo se diferencian en una captura al paso imposible tienen la misma clave.
+     *
+     * @return clave Zobrist de la posición
+     */
+    public long getHash() {
+        long hash = pieceHash ^ CASTLING_KEYS[castlingRights];
+        if (sideToMove == BLACK) {
+            hash ^= SIDE_KEY;
+        }
+        if (enPassantSquare != NONE
+                && (Attacks.pawnAttacks(sideToMove ^ 1, enPassantSquare) & pieces[sideToMove * PIECE_TYPES_COUNT + PAWN]) != 0L) {
+            hash ^= EN_PASSANT_KEYS[fileOf(enPassantSquare)];
+        }
+        return hash;
+    }
+
+    /**
+     * Calcula la clave Zobrist desde cero recorriendo todas las piezas (sirve para verificar la clave incremental).
+     *
+     * @return clave Zobrist de la posición
+     */
+    public long computeHash() {
+        long hash = 0L;
+        for (int sq = 0; sq < 64; sq++) {
+            if (mailbox[sq] != 0) {
+                hash ^= PIECE_KEYS[mailbox[sq] - 1][sq];
+            }
+        }
+        return hash ^ (getHash() ^ pieceHash);
+    }
+
+    /**
+     * Obtiene el número de movimientos que se pueden deshacer.
+     *
+     * @return número de movimientos en la pila
+     */
+    public int getPly() {
+        return ply;
+    }
+
+    /**
+     * Coloca una pieza en la casilla indicada, reemplazando la que hubiera.
+     *
+     * @param color color de la pieza
+     * @param type tipo de la pieza
+     * @param square índice de la casilla
+     */
+    public void putPiece(int color, int type, int square) {
+        removePiece(square);
+        long bit = 1L << square;
+        pieces[color * PIECE_TYPES_COUNT + type] |= bit;
+        colors[color] |= bit;
+        occupancy |= bit;
+        mailbox[square] = (byte) (1 + color * PIECE_TYPES_COUNT + type);
+        pieceHash ^= PIECE_KEYS[color * PIECE_TYPES_COUNT + type][square];
+        validAttackMaps = 0;
+    }
+
+    /**
+     * Elimina la pieza de la casilla indicada (si la hay).
+     *
+     * @param square índice de la casilla
+     */
+    public void removePiece(int square) {
+        int code = mailbox[square];
+        if (code == 0) {
+            return;
+        }
+        long bit = ~(1L << square);
+        pieces[code - 1] &= bit;
+        colors[(code - 1) / PIECE_TYPES_COUNT] &= bit;
+        occupancy &= bit;
+        mailbox[square] = 0;
+        pieceHash ^= PIECE_KEYS[code - 1][square];
+        validAttackMaps = 0;
+    }
+
+    /**
+     * Mueve la pieza de una casilla a otra, capturando la pieza que hubiera en el destino.
+     *
+     * @param from casilla de origen
+     * @param to casilla de destino
+     */
+    public void movePiece(int from, int to) {
+        int code = mailbox[from];
+        if (code == 0) {
+            return;
+        }
+        removePiece(from);
+        putPiece((code - 1) / PIECE_TYPES_COUNT, (code - 1) % PIECE_TYPES_COUNT, to);
+    }
+
+    /**
+     * Verifica si la casilla está vacía.
+     *
+     * @param square índice de la casilla
+     * @return true si la casilla está vacía, false en caso contrario
+     */
+    public boolean isEmpty(int square) {
+        return mailbox[square] == 0;
+    }
+
+    /**
+     * Obtiene el color de la pieza en la casilla.
+     *
+     * @param square índice de la casilla
+     * @return WHITE, BLACK o NONE si la casilla está vacía
+     */
+    public int colorAt(int square) {
+        int code = mailbox[square];
+        return code == 0 ? NONE : (code - 1) / PIECE_TYPES_COUNT;
+    }
+
+    /**
+     * Obtiene el tipo de la pieza en la casilla.
+     *
+     * @param square índice de la casilla
+     * @return índice del tipo de pieza o NONE si la casilla está vacía
+     */
+    public int typeAt(int square) {
+        int code = mailbox[square];
+        return code == 0 ? NONE : (code - 1) % PIECE_TYPES_COUNT;
+    }
+
+    /**
+     * Obtiene el tipo de la pieza en la casilla como PieceType.
+     *
+     * @param square índice de la casilla
+     * @return tipo de la pieza o PieceType.EMPTY si la casilla está vacía
+     */
+    public PieceType pieceTypeAt(int square) {
+        int code = mailbox[square];
+        return code == 0 ? PieceType.EMPTY : PIECE_TYPES[(code - 1) % PIECE_TYPES_COUNT];
+    }
+
+    /**
+     * Obtiene el bitboard de las piezas de un color y tipo.
+     *
+     * @param color color de las piezas
+     * @param type tipo de las piezas
+     * @return bitboard con las casillas ocupadas por esas piezas
+     */
+    public long getPieces(int color, int type) {
+        return pieces[color * PIECE_TYPES_COUNT + type];
+    }
+
+    /**
+     * Obtiene el bitboard de todas las piezas de un color.
+     *
+     * @param color color de las piezas
+     * @return bitboard con las casillas ocupadas por ese color
+     */
+    public long getColorOccupancy(int color) {
+        return colors[color];
+    }
+
+    /**
+     * Obtiene el bitboard de todas las piezas del tablero.
+     *
+     * @return bitboard con las casillas ocupadas
+     */
+    public long getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Verifica si la casilla está atacada por alguna pieza del color indicado.
+     * Se calcula desde la casilla objetivo hacia atrás: una pieza ataca la casilla si
+     * la casilla, tratada como esa misma pieza, la alcanza a ella.
+     *
+     * @param square casilla a verificar
+     * @param byColor color de las piezas atacantes
+     * @return true si la casilla está atacada, false en caso contrario
+     */
+    public boolean isSquareAttacked(int square, int byColor) {
+        return isSquareAttacked(square, byColor, occupancy);
+    }
+
+    /**
+     * Verifica si la casilla está atacada usando una ocupación distinta a la actual para las piezas deslizantes
+     * (por ejemplo, sin el rey que se desplaza, para que no tape las casillas que quedan detrás de él).
+     *
+     * @param square casilla a verificar
+     * @param byColor color de las piezas atacantes
+     * @param occupancy ocupación del tablero a considerar
+     * @return true si la casilla está atacada, false en caso contrario
+     */
+    public boolean isSquareAttacked(int square, int byColor, long occupancy) {
+        int base = byColor * PIECE_TYPES_COUNT;
+        if ((Attacks.pawnAttacks(byColor ^ 1, square) & pieces[base + PAWN]) != 0L) {
+            return true;
+        }
+        if ((Attacks.knightAttacks(square) & pieces[base + KNIGHT]) != 0L) {
+            return true;
+        }
+        if ((Attacks.kingAttacks(square) & pieces[base + KING]) != 0L) {
+            return true;
+        }
+        long queens = pieces[base + QUEEN];
+        long rookLike = pieces[base + ROOK] | queens;
+        if (rookLike != 0L && (Attacks.rookAttacks(square, occupancy) & rookLike) != 0L) {
+            return true;
+        }
+        long bishopLike = pieces[base + BISHOP] | queens;
+        return bishopLike != 0L && (Attacks.bishopAttacks(square, occupancy) & bishopLike) != 0L;
+    }
+
+    /**
+     * Obtiene el bitboard con las piezas del color indicado que atacan la casilla.
+     *
+     * @param square casilla objetivo
+     * @param byColor color de las piezas atacantes
+     * @return bitboard con las piezas atacantes
+     */
+    public long attackersTo(int square, int byColor) {
+        int base = byColor * PIECE_TYPES_COUNT;
+        long queens = pieces[base + QUEEN];
+        return (Attacks.pawnAttacks(byColor ^ 1, square) & pieces[base + PAWN])
+                | (Attacks.knightAttacks(square) & pieces[base + KNIGHT])
+                | (Attacks.kingAttacks(square) & pieces[base + KING])
+                | (Attacks.rookAttacks(square, occupancy) & (pieces[base + ROOK] | queens))
+                | (Attacks.bishopAttacks(square, occupancy) & (pieces[base + BISHOP] | queens));
+    }
+
+    /**
+     * Verifica si el rey del color indicado está en jaque.
+     *
+     * @param color color del rey
+     * @return true si el rey está atacado, false en caso contrario (o si no hay rey)
+     */
+    public boolean isInCheck(int color) {
+        long king = pieces[color * PIECE_TYPES_COUNT + KING];
+        return king != 0L && isSquareAttacked(Long.numberOfTrailingZeros(king), color ^ 1);
+    }
+
+    /**
+     * Obtiene el bitboard con todas las casillas atacadas por el color indicado.
+     * El mapa se calcula la primera vez que se pide y se guarda hasta que cambie alguna pieza,
+     * por lo que consultar varias casillas en la misma posición no repite el cálculo.
+     *
+     * @param byColor color de las piezas atacantes
+     * @return bitboard con las casillas atacadas
+     */
+    public long getAttackMap(int byColor) {
+        int bit = 1 << byColor;
+        if ((validAttackMaps & bit) == 0) {
+            attackMaps[byColor] = computeAttackMap(byColor);
+            validAttackMaps |= bit;
+        }
+        return attackMaps[byColor];
+    }
+
+    /**
+     * Calcula el mapa de ataques de un color recorriendo sus piezas.
+     *
+     * @param byColor color de las piezas atacantes
+     * @return bitboard con las casillas atacadas
+     */
+    private long computeAttackMap(int byColor) {
+        int base = byColor * PIECE_TYPES_COUNT;
+        long attacks = 0L;
+        long pawns = pieces[base + PAWN];
+        while (pawns != 0L) {
+            attacks |= Attacks.pawnAttacks(byColor, Long.numberOfTrailingZeros(pawns));
+            pawns &= pawns - 1;
+        }
+        long knights = pieces[base + KNIGHT];
+        while (knights != 0L) {
+            attacks |= Attacks.knightAttacks(Long.numberOfTrailingZeros(knights));
+            knights &= knights - 1;
+        }
+        long kings = pieces[base + KING];
+        while (kings != 0L) {
+            attacks |= Attacks.kingAttacks(Long.numberOfTrailingZeros(kings));
+            kings &= kings - 1;
+        }
+        long queens = pieces[base + QUEEN];
+        long rookLike = pieces[base + ROOK] | queens;
+        while (rookLike != 0L) {
+            attacks |= Attacks.rookAttacks(Long.numberOfTrailingZeros(rookLike), occupancy);
+            rookLike &= rookLike - 1;
+        }
+        long bishopLike = pieces[base + BISHOP] | queens;
+        while (bishopLike != 0L) {
+            attacks |= Attacks.bishopAttacks(Long.numberOfTrailingZeros(bishopLike), occupancy);
+            bishopLike &= bishopLike - 1;
+        }
+        return attacks;
+    }
+
+    /**
+     * Obtiene el color que realiza el siguiente movimiento.
+     *
+     * @return WHITE o BLACK
+     */
+    public byte getSideToMove() {
+        return sideToMove;
+    }
+
+    /**
+     * Establece el color que realiza el siguiente movimiento.
+     *
+     * @param sideToMove WHITE o BLACK
+     */
+    public void setSideToMove(int sideToMove) {
+        this.sideToMove = (byte) sideToMove;
+    }
+
+    /**
+     * Cambia el turno al otro color.
+     */
+    public void changeSideToMove() {
+        sideToMove ^= 1;
+    }
+
+    /**
+     * Obtiene los derechos de enroque.
+     *
+     * @return combinación de WHITE_KING_SIDE, WHITE_QUEEN_SIDE, BLACK_KING_SIDE y BLACK_QUEEN_SIDE
+     */
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    /**
+     * Establece los derechos de enroque.
+     *
+     * @param castlingRights combinación de WHITE_KING_SIDE, WHITE_QUEEN_SIDE, BLACK_KING_SIDE y BLACK_QUEEN_SIDE
+     */
+    public void setCastlingRights(int castlingRights) {
+        this.castlingRights = castlingRights;
+    }
+
+    /**
+     * Elimina los derechos de enroque afectados por un movimiento que sale de o llega a las casillas indicadas.
+     *
+     * @param from casilla de origen
+     * @param to casilla de destino
+     */
+    public void updateCastlingRights(int from, int to) {
+        castlingRights &= CASTLING_MASK[from] & CASTLING_MASK[to];
+    }
+
+    /**
+     * Calcula los derechos de enroque a partir de la posición de reyes y torres en sus casillas iniciales.
+     */
+    public void initCastlingRights() {
+        castlingRights = 0;
+        if (hasPiece(WHITE, KING, square(4, 0))) {
+            if (hasPiece(WHITE, ROOK, square(7, 0))) {
+                castlingRights |= WHITE_KING_SIDE;
+            }
+            if (hasPiece(WHITE, ROOK, square(0, 0))) {
+                castlingRights |= WHITE_QUEEN_SIDE;
+            }
+        }
+        if (hasPiece(BLACK, KING, square(4, 7))) {
+            if (hasPiece(BLACK, ROOK, square(7, 7))) {
+                castlingRights |= BLACK_KING_SIDE;
+            }
+            if (hasPiece(BLACK, ROOK, square(0, 7))) {
+                castlingRights |= BLACK_QUEEN_SIDE;
+            }
+        }
+    }
+
+    /**
+     * Obtiene la casilla donde se puede capturar al paso.
+     *
+     * @return índice de la casilla o NONE si no hay captura al paso
+     */
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    /**
+     * Establece la casilla donde se puede capturar al paso.
+     *
+     * @param enPassantSquare índice de la casilla o NONE
+     */
+    public void setEnPassantSquare(int enPassantSquare) {
+        this.enPassantSquare = enPassantSquare;
+    }
+
+    /**
+     * Verifica si hay una pieza de un color y tipo determinados en la casilla.
+     *
+     * @param color color de la pieza
+     * @param type tipo de la pieza
+     * @param square índice de la casilla
+     * @return true si la pieza está en la casilla, false en caso contrario
+     */
+    private boolean hasPiece(int color, int type, int square) {
+        return (pieces[color * PIECE_TYPES_COUNT + type] & (1L << square)) != 0;
+    }
+}
@@ -0,0 +1,190 @@
+package com.poo.chessgame1_2.model;
+
+import com.poo.chessgame1_2.model.pieces.PieceType;
+
+/**
+ * Copia inmutable de la posición del tablero en un momento de la partida.
+ * El tablero publica una instancia nueva después de cada cambio (ver {@link Board#getSnapshot()}); como nunca
+ * se modifica, cualquier hilo (interfaz, guardado, análisis, espectadores) puede leerla sin bloqueos mientras
+ * la partida continúa. Solo guarda los 12 bitboards y el estado de la posición, por lo que ocupa unos 150 bytes.
+ */
+public final class PositionSnapshot {
+    private static final int PIECE_TYPES_COUNT = 6; // Número de tipos de pieza (sin contar EMPTY)
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private final long[] pieces; // Bitboard por color y tipo de pieza (no se expone)
+    private final long occupancy; // Ocupación total del tablero
+    private final byte sideToMove; // Color que realiza el siguiente movimiento
+    private final int castlingRights; // Derechos de enroque disponibles
+    private final int enPassantSquare; // Casilla donde se puede capturar al paso
+    private final long hash; // Clave Zobrist de la posición
+    private final int moveCount; // Número de movimientos realizados desde que se cargó el tablero
+
+    /**
+     * Constructor que copia el estado de una posición.
+     *
+     * @param position posición a copiar
+     * @param moveCount número de movimientos realizados desde que se cargó el tablero
+     */
+    PositionSnapshot(Position position, int moveCount) {
+        pieces = new long[2 * PIECE_TYPES_COUNT];
+        for (int color = Position.WHITE; color <= Position.BLACK; color++) {
+            for (int type = Position.BISHOP; type <= Position.ROOK; type++) {
+                pieces[color * PIECE_TYPES_COUNT + type] = position.getPieces(color, type);
+            }
+        }
+        occupancy = position.getOccupancy();
+        sideToMove = position.getSideToMove();
+        castlingRights = position.getCastlingRights();
+        enPassantSquare = position.getEnPassantSquare();
+        hash = position.getHash();
+        this.moveCount = moveCount;
+    }
+
+    /**
+     * Obtiene el bitboard de las piezas de un color y tipo.
+     *
+     * @param color color de las piezas
+     * @param type tipo de las piezas
+     * @return bitboard con las casillas ocupadas por esas piezas
+     */
+    public long getPieces(int color, int type) {
+        return pieces[color * PIECE_TYPES_COUNT + type];
+    }
+
+    /**
+     * Obtiene la ocupación total del tablero.
+     *
+     * @return bitboard con todas las casillas ocupadas
+     */
+    public long getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Verifica si una casilla está vacía.
+     *
+     * @param square índice de la casilla
+     * @return true si la casilla está vacía, false en caso contrario
+     */
+    public boolean isEmpty(int square) {
+        return (occupancy & (1L << square)) == 0L;
+    }
+
+    /**
+     * Obtiene el color de la pieza en la casilla.
+     *
+     * @param square índice de la casilla
+     * @return Position.WHITE, Position.BLACK o Position.NONE si la casilla está vacía
+     */
+    public int colorAt(int square) {
+        int index = indexAt(square);
+        return index == Position.NONE ? Position.NONE : index / PIECE_TYPES_COUNT;
+    }
+
+    /**
+     * Obtiene el tipo de la pieza en la casilla.
+     *
+     * @param square índice de la casilla
+     * @return índice del tipo de pieza o Position.NONE si la casilla está vacía
+     */
+    public int typeAt(int square) {
+        int index = indexAt(square);
+        return index == Position.NONE ? Position.NONE : index % PIECE_TYPES_COUNT;
+    }
+
+    /**
+     * Obtiene el tipo de la pieza en la casilla como PieceType.
+     *
+     * @param square índice de la casilla
+     * @return tipo de la pieza o PieceType.EMPTY si la casilla está vacía
+     */
+    public PieceType pieceTypeAt(int square) {
+        int index = indexAt(square);
+        return index == Position.NONE ? PieceType.EMPTY : PIECE_TYPES[index % PIECE_TYPES_COUNT];
+    }
+
+    /**
+     * Busca el bitboard que contiene la casilla.
+     *
+     * @param square índice de la casilla
+     * @return índice del bitboard (color * 6 + tipo) o Position.NONE si la casilla está vacía
+     */
+    private int indexAt(int square) {
+        long bit = 1L << square;
+        if ((occupancy & bit) == 0L) {
+            return Position.NONE;
+        }
+        for (int index = 0; index < pieces.length; index++) {
+            if ((pieces[index] & bit) != 0L) {
+                return index;
+            }
+        }
+        return Position.NONE;
+    }
+
+    /**
+     * Obtiene el color que realiza el siguiente movimiento.
+     *
+     * @return Position.WHITE o Position.BLACK
+     */
+    public byte getSideToMove() {
+        return sideToMove;
+    }
+
+    /**
+     * Obtiene los derechos de enroque disponibles.
+     *
+     * @return combinación de WHITE_KING_SIDE, WHITE_QUEEN_SIDE, BLACK_KING_SIDE y BLACK_QUEEN_SIDE
+     */
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    /**
+     * Obtiene la casilla de captura al paso.
+     *
+     * @return índice de la casilla o Position.NONE
+     */
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    /**
+     * Obtiene la clave Zobrist de la posición.
+     *
+     * @return clave de 64 bits que identifica la posición
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Obtiene el número de movimientos realizados desde que se cargó el tablero.
+     *
+     * @return número de movimientos
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Crea una posición modificable con el contenido de la copia (por ejemplo, para analizarla en otro hilo).
+     *
+     * @return posición nueva, sin movimientos que deshacer
+     */
+    public Position toPosition() {
+        Position position = new Position();
+        for (int index = 0; index < pieces.length; index++) {
+            long bits = pieces[index];
+            while (bits != 0L) {
+                position.putPiece(index / PIECE_TYPES_COUNT, index % PIECE_TYPES_COUNT, Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        position.setSideToMove(sideToMove);
+        position.setCastlingRights(castlingRights);
+        position.setEnPassantSquare(enPassantSquare);
+        return position;
+    }
+}
@@ -1,62 +1,34 @@
 package com.poo.chessgame1_2.model;
 
-import com.poo.chessgame1_2.model.pieces.*;
-import javafx.scene.paint.Color;
-
-import java.util.ArrayList;
+import com.poo.chessgame1_2.model.pieces.Piece;
+import com.poo.chessgame1_2.model.pieces.PieceType;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveList;
 
 /**
  * Clase que representa un cuadrado en el tablero de ajedrez.
- * Cada cuadrado contiene una pieza (si está ocupada) y su ubicación en el tablero.
+ * Cada cuadrado contiene el tipo y el color de su pieza (si está ocupada) y su ubicación en el tablero.
+ * Los movimientos se generan con los generadores compartidos de {@link Piece}, que no guardan estado.
  */
 public class Square {
     private final int boardI;
     private final int boardJ;
-    private Piece piece = null;
     private PieceType pieceType = null;
-    private Color pieceColor = null;
+    private byte pieceColor = Position.WHITE;
 
     /**
      * Constructor que inicializa el cuadrado con un color de pieza, un tipo de pieza y su ubicación en el tablero.
      *
-     * @param pieceColor El color de la pieza (blanco o negro).
+     * @param pieceColor El color de la pieza (Position.WHITE o Position.BLACK).
      * @param pieceType El tipo de la pieza en este cuadrado (torre, rey, peón, etc.).
      * @param boardI La coordenada I (fila) del cuadrado en el tablero.
      * @param boardJ La coordenada J (columna) del cuadrado en el tablero.
      */
-    public Square(Color pieceColor, PieceType pieceType, int boardI, int boardJ) {
+    public Square(byte pieceColor, PieceType pieceType, int boardI, int boardJ) {
         this.pieceColor = pieceColor;
         this.pieceType = pieceType;
         this.boardI = boardI;
         this.boardJ = boardJ;
-
-        initPiece();
-    }
-
-    /**
-     * Inicializa la pieza en este cuadrado según su tipo.
-     */
-    private void initPiece(){
-        switch (pieceType){
-            case BISHOP:
-                piece = new BishopPiece(pieceColor);
-                break;
-            case KING:
-                piece = new KingPiece(pieceColor);
-                break;
-            case KNIGHT:
-                piece = new KnightPiece(pieceColor);
-                break;
-            case PAWN:
-                piece = new PawnPiece(pieceColor, boardI, boardJ);
-                break;
-            case QUEEN:
-                piece = new QueenPiece(pieceColor, boardI, boardJ);
-                break;
-            case ROOK:
-                piece = new RookPiece(pieceColor, boardI, boardJ);
-                break;
-        }
     }
 
     /**
@@ -71,9 +43,9 @@ public class Square {
     /**
      * Devuelve el color de la pieza en este cuadrado.
      *
-     * @return El color de la pieza.
+     * @return El color de la pieza (Position.WHITE o Position.BLACK).
      */
-    public Color getPieceColor() {
+    public byte getPieceColor() {
         return pieceColor;
     }
 
@@ -92,7 +64,7 @@ public class Square {
      * @param color El color de la pieza que está en otro cuadrado.
      * @return true si la pieza en este cuadrado es del oponente.
      */
-    public boolean isOpponent(Color color){
+    public boolean isOpponent(byte color){
         return !isEmpty() && color != getPieceColor();
     }
 
@@ -102,7 +74,7 @@ public class Square {
      * @param color El color de la pieza que está en otro cuadrado.
      * @return true si el cuadrado está vacío o tiene una pieza del oponente.
      */
-    public boolean isEmptyOrOpponent(Color color){
+    public boolean isEmptyOrOpponent(byte color){
         if(isEmpty()){
             return true;
         }
@@ -136,38 +108,6 @@ public class Square {
         return pieceType == PieceType.PAWN;
     }
 
-    /**
-     * Marca la pieza en este cuadrado como movida.
-     */
-    public void pieceHasMoved(){
-        piece.setPieceMoved();
-    }
-
-    /**
-     * Devuelve true si la pieza ha sido movida o false si está en su posición inicial.
-     *
-     * @return true si la pieza ha sido movida, false si está en la posición inicial.
-     */
-    public boolean getPieceMoved(){
-        return piece.getPieceMoved();
-    }
-
-    /**
-     * Devuelve true si el peón se movió dos casillas hacia adelante.
-     *
-     * @return true si el peón ha sido movido dos casillas hacia adelante.
-     */
-    public boolean getTwoSquareMove(){
-        return piece.getTwoSquareMove();
-    }
-
-    /**
-     * Establece que el peón en este cuadrado se movió dos casillas hacia adelante.
-     */
-    public void setTwoSquareMove(){
-        piece.setTwoSquareMove();
-    }
-
     /**
      * Copia la información de la pieza de otro cuadrado a este cuadrado.
      *
@@ -176,7 +116,6 @@ public class Square {
     void setPieceFromSquare(Square sq){
         pieceColor = sq.pieceColor;
         pieceType = sq.pieceType;
-        piece = sq.piece;
     }
 
     /**
@@ -184,43 +123,52 @@ public class Square {
      */
     void setEmpty(){
         pieceType = PieceType.EMPTY;
-        pieceColor = Color.WHITE;
-        piece = null;
+        pieceColor = Position.WHITE;
     }
 
     /**
-     * Establece una Reina en lugar de un Peón (promoción).
+     * Establece la pieza elegida en lugar de un Peón (promoción).
+     *
+     * @param promotionType El tipo de la pieza a la que se promociona el peón.
      */
-    void setQuinInsteadOfPawn(){
-        piece = new QueenPiece(pieceColor, boardI, boardJ);
-        pieceType = PieceType.QUEEN;
+    void setPromotedPiece(PieceType promotionType){
+        pieceType = promotionType;
+    }
+
+    /**
+     * Coloca en este cuadrado una pieza (se utiliza al deshacer movimientos).
+     *
+     * @param pieceColor El color de la pieza.
+     * @param pieceType El tipo de la pieza.
+     */
+    void setPiece(byte pieceColor, PieceType pieceType){
+        this.pieceColor = pieceColor;
+        this.pieceType = pieceType;
     }
 
     /**
      * Verifica si el movimiento de este cuadrado a otro destino es válido.
      *
-     * @param board El arreglo de cuadrados que representa el tablero.
+     * @param position La posición del tablero representada mediante bitboards.
      * @param toI La coordenada I (fila) del destino.
      * @param toJ La coordenada J (columna) del destino.
+     * @param availableMovesList Lista reutilizable donde se generan los movimientos de la pieza.
      * @return true si el movimiento es válido, false en caso contrario.
      */
-    public boolean isValidMove(Square[][] board, int toI, int toJ){
-        return this.piece.isValidMove(board, this.boardI, this.boardJ, toI, toJ);
+    public boolean isValidMove(Position position, int toI, int toJ, MoveList availableMovesList){
+        return Piece.isValidMove(pieceType, pieceColor, position, Position.square(boardI, boardJ),
+                Position.square(toI, toJ), availableMovesList);
     }
 
     /**
      * Obtiene los movimientos disponibles de la pieza en este cuadrado.
      *
-     * @param board El arreglo de cuadrados que representa el tablero.
+     * @param position La posición del tablero representada mediante bitboards.
      * @param fromI La coordenada I (fila) de la casilla de origen.
      * @param fromJ La coordenada J (columna) de la casilla de origen.
-     * @return Una lista de los movimientos disponibles en formato
-     *         { { Color pieceColor, PieceType pieceType, boardI, boardJ } ...}
+     * @param availableMovesList Lista donde se añaden los movimientos codificados (ver {@link Move}).
      */
-    public ArrayList getPieceAvailableMoves(Square[][] board, int fromI, int fromJ){
-        if(board[fromI][fromJ].isEmpty()){
-            return new ArrayList();
-        }
-        return this.piece.makeAvailableMovesList(board, fromI, fromJ);
+    public void getPieceAvailableMoves(Position position, int fromI, int fromJ, MoveList availableMovesList){
+        Piece.generateMoves(pieceType, pieceColor, position, Position.square(fromI, fromJ), availableMovesList);
     }
 }
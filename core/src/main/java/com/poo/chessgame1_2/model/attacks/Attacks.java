@@ -0,0 +1,149 @@
+package com.poo.chessgame1_2.model.attacks;
+
+/**
+ * Clase con las tablas de ataques precalculadas de todas las piezas.
+ * Las casillas se indexan como {@code boardJ * 8 + boardI} y los ataques se devuelven como bitboards.
+ * Caballo, rey y peón usan máscaras fijas por casilla; torre, alfil y reina usan "magic bitboards",
+ * por lo que cualquier consulta se resuelve en tiempo constante.
+ */
+public final class Attacks {
+    private static final long[] KNIGHT_ATTACKS = new long[64]; // Ataques del caballo por casilla
+    private static final long[] KING_ATTACKS = new long[64]; // Ataques del rey por casilla
+    private static final long[][] PAWN_ATTACKS = new long[2][64]; // Ataques del peón por color y casilla
+    private static final long[][] BETWEEN = new long[64][64]; // Casillas estrictamente entre dos casillas alineadas
+    private static final long[][] LINE = new long[64][64]; // Línea completa que pasa por dos casillas alineadas
+
+    static {
+        int[][] knightOffsets = {{1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}};
+        int[][] kingOffsets = {{1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}};
+
+        for (int square = 0; square < 64; square++) {
+            int i = square & 7;
+            int j = square >>> 3;
+            KNIGHT_ATTACKS[square] = leaperAttacks(i, j, knightOffsets);
+            KING_ATTACKS[square] = leaperAttacks(i, j, kingOffsets);
+            PAWN_ATTACKS[0][square] = leaperAttacks(i, j, new int[][]{{-1, 1}, {1, 1}}); // Blancas avanzan hacia la fila 8
+            PAWN_ATTACKS[1][square] = leaperAttacks(i, j, new int[][]{{-1, -1}, {1, -1}}); // Negras avanzan hacia la fila 1
+        }
+
+        for (int a = 0; a < 64; a++) {
+            for (int b = 0; b < 64; b++) {
+                if (a == b) {
+                    continue;
+                }
+                long bits = (1L << a) | (1L << b);
+                if ((rookAttacks(a, 0L) & (1L << b)) != 0L) {
+                    BETWEEN[a][b] = rookAttacks(a, 1L << b) & rookAttacks(b, 1L << a);
+                    LINE[a][b] = (rookAttacks(a, 0L) & rookAttacks(b, 0L)) | bits;
+                } else if ((bishopAttacks(a, 0L) & (1L << b)) != 0L) {
+                    BETWEEN[a][b] = bishopAttacks(a, 1L << b) & bishopAttacks(b, 1L << a);
+                    LINE[a][b] = (bishopAttacks(a, 0L) & bishopAttacks(b, 0L)) | bits;
+                }
+            }
+        }
+    }
+
+    private Attacks() {
+    }
+
+    /**
+     * Obtiene los ataques de un caballo.
+     *
+     * @param square casilla del caballo
+     * @return bitboard con las casillas atacadas
+     */
+    public static long knightAttacks(int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    /**
+     * Obtiene los ataques de un rey.
+     *
+     * @param square casilla del rey
+     * @return bitboard con las casillas atacadas
+     */
+    public static long kingAttacks(int square) {
+        return KING_ATTACKS[square];
+    }
+
+    /**
+     * Obtiene las casillas que captura un peón.
+     *
+     * @param color 0 para peones que avanzan hacia la fila 8 (blancos), 1 para los que avanzan hacia la fila 1 (negros)
+     * @param square casilla del peón
+     * @return bitboard con las casillas atacadas
+     */
+    public static long pawnAttacks(int color, int square) {
+        return PAWN_ATTACKS[color][square];
+    }
+
+    /**
+     * Obtiene los ataques de una torre para la ocupación dada.
+     *
+     * @param square casilla de la torre
+     * @param occupancy bitboard con todas las piezas del tablero
+     * @return bitboard con las casillas atacadas (incluye la primera pieza de cada dirección)
+     */
+    public static long rookAttacks(int square, long occupancy) {
+        return MagicBitboards.rookAttacks(square, occupancy);
+    }
+
+    /**
+     * Obtiene los ataques de un alfil para la ocupación dada.
+     *
+     * @param square casilla del alfil
+     * @param occupancy bitboard con todas las piezas del tablero
+     * @return bitboard con las casillas atacadas (incluye la primera pieza de cada dirección)
+     */
+    public static long bishopAttacks(int square, long occupancy) {
+        return MagicBitboards.bishopAttacks(square, occupancy);
+    }
+
+    /**
+     * Obtiene los ataques de una reina para la ocupación dada.
+     *
+     * @param square casilla de la reina
+     * @param occupancy bitboard con todas las piezas del tablero
+     * @return bitboard con las casillas atacadas (incluye la primera pieza de cada dirección)
+     */
+    public static long queenAttacks(int square, long occupancy) {
+        return MagicBitboards.rookAttacks(square, occupancy) | MagicBitboards.bishopAttacks(square, occupancy);
+    }
+
+    /**
+     * Obtiene las casillas situadas estrictamente entre dos casillas de la misma fila, columna o diagonal.
+     *
+     * @param from primera casilla
+     * @param to segunda casilla
+     * @return bitboard con las casillas intermedias (0 si no están alineadas)
+     */
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    /**
+     * Obtiene la línea completa (de borde a borde) que pasa por dos casillas alineadas.
+     *
+     * @param from primera casilla
+     * @param to segunda casilla
+     * @return bitboard con la línea (0 si no están alineadas)
+     */
+    public static long line(int from, int to) {
+        return LINE[from][to];
+    }
+
+    /**
+     * Calcula la máscara de ataques de una pieza que salta a posiciones fijas.
+     */
+    private static long leaperAttacks(int i, int j, int[][] offsets) {
+        long attacks = 0L;
+        for (int[] offset : offsets) {
+            int toI = i + offset[0];
+            int toJ = j + offset[1];
+            if (toI >= 0 && toI < 8 && toJ >= 0 && toJ < 8) {
+                attacks |= 1L << (toJ * 8 + toI);
+            }
+        }
+        return attacks;
+    }
+}
@@ -0,0 +1,149 @@
+package com.poo.chessgame1_2.model.attacks;
+
+/**
+ * Clase que construye y consulta las tablas "magic bitboards" de las piezas deslizantes (torre y alfil).
+ * Para cada casilla se guarda la máscara de casillas relevantes, un número mágico y un desplazamiento,
+ * de modo que los ataques para cualquier ocupación se obtienen con una multiplicación y un acceso a la tabla.
+ * Las tablas se calculan una sola vez al cargar la clase y se comparten entre todas las partidas.
+ */
+final class MagicBitboards {
+    private static final int[][] ROOK_DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}}; // Direcciones de la torre
+    private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {-1, -1}, {1, -1}, {-1, 1}}; // Direcciones del alfil
+
+    // Números mágicos sin colisiones destructivas, obtenidos con una búsqueda de números aleatorios dispersos
+    private static final long[] ROOK_MAGICS = {
+            0x0A80004000801220L, 0x8040004010002008L, 0x2080200010008008L, 0x1100100008210004L,
+            0xC200209084020008L, 0x2100010004000208L, 0x0400081000822421L, 0x0200010422048844L,
+            0x0800800080400024L, 0x0001402000401000L, 0x3000801000802001L, 0x4400800800100083L,
+            0x0904802402480080L, 0x4040800400020080L, 0x0018808042000100L, 0x4040800080004100L,
+            0x0040048001458024L, 0x00A0004000205000L, 0x3100808010002000L, 0x4825010010000820L,
+            0x5004808008000401L, 0x2024818004000A00L, 0x0005808002000100L, 0x2100060004806104L,
+            0x0080400880008421L, 0x4062220600410280L, 0x010A004A00108022L, 0x0000100080080080L,
+            0x0021000500080010L, 0x0044000202001008L, 0x0000100400080102L, 0xC020128200040545L,
+            0x0080002000400040L, 0x0000804000802004L, 0x0000120022004080L, 0x010A386103001001L,
+            0x9010080080800400L, 0x8440020080800400L, 0x0004228824001001L, 0x000000490A000084L,
+            0x0080002000504000L, 0x200020005000C000L, 0x0012088020420010L, 0x0010010080080800L,
+            0x0085001008010004L, 0x0002000204008080L, 0x0040413002040008L, 0x0000304081020004L,
+            0x0080204000800080L, 0x3008804000290100L, 0x1010100080200080L, 0x2008100208028080L,
+            0x5000850800910100L, 0x8402019004680200L, 0x0120911028020400L, 0x0000008044010200L,
+            0x0020850200244012L, 0x0020850200244012L, 0x0000102001040841L, 0x140900040A100021L,
+            0x000200282410A102L, 0x000200282410A102L, 0x000200282410A102L, 0x4048240043802106L
+    };
+    private static final long[] BISHOP_MAGICS = {
+            0x40106000A1160020L, 0x0020010250810120L, 0x2010010220280081L, 0x002806004050C040L,
+            0x0002021018000000L, 0x2001112010000400L, 0x0881010120218080L, 0x1030820110010500L,
+            0x0000120222042400L, 0x2000020404040044L, 0x8000480094208000L, 0x0003422A02000001L,
+            0x000A220210100040L, 0x8004820202226000L, 0x0018234854100800L, 0x0100004042101040L,
+            0x0004001004082820L, 0x0010000810010048L, 0x1014004208081300L, 0x2080818802044202L,
+            0x0040880C00A00100L, 0x0080400200522010L, 0x0001000188180B04L, 0x0080249202020204L,
+            0x1004400004100410L, 0x00013100A0022206L, 0x2148500001040080L, 0x4241080011004300L,
+            0x4020848004002000L, 0x10101380D1004100L, 0x0008004422020284L, 0x01010A1041008080L,
+            0x0808080400082121L, 0x0808080400082121L, 0x0091128200100C00L, 0x0202200802010104L,
+            0x8C0A020200440085L, 0x01A0008080B10040L, 0x0889520080122800L, 0x100902022202010AL,
+            0x04081A0816002000L, 0x0000681208005000L, 0x8170840041008802L, 0x0A00004200810805L,
+            0x0830404408210100L, 0x2602208106006102L, 0x1048300680802628L, 0x2602208106006102L,
+            0x0602010120110040L, 0x0941010801043000L, 0x000040440A210428L, 0x0008240020880021L,
+            0x0400002012048200L, 0x00AC102001210220L, 0x0220021002009900L, 0x84440C080A013080L,
+            0x0001008044200440L, 0x0004C04410841000L, 0x2000500104011130L, 0x1A0C010011C20229L,
+            0x0044800112202200L, 0x0434804908100424L, 0x0300404822C08200L, 0x48081010008A2A80L
+    };
+
+    private static final long[] ROOK_MASKS = new long[64];
+    private static final int[] ROOK_SHIFTS = new int[64];
+    private static final int[] ROOK_OFFSETS = new int[64];
+    private static final long[] ROOK_TABLE = new long[102400]; // Suma de 2^bits de todas las casillas
+
+    private static final long[] BISHOP_MASKS = new long[64];
+    private static final int[] BISHOP_SHIFTS = new int[64];
+    private static final int[] BISHOP_OFFSETS = new int[64];
+    private static final long[] BISHOP_TABLE = new long[5248]; // Suma de 2^bits de todas las casillas
+
+    static {
+        initTables(ROOK_DIRECTIONS, ROOK_MAGICS, ROOK_MASKS, ROOK_SHIFTS, ROOK_OFFSETS, ROOK_TABLE);
+        initTables(BISHOP_DIRECTIONS, BISHOP_MAGICS, BISHOP_MASKS, BISHOP_SHIFTS, BISHOP_OFFSETS, BISHOP_TABLE);
+    }
+
+    private MagicBitboards() {
+    }
+
+    /**
+     * Obtiene los ataques de una torre.
+     *
+     * @param square casilla de la torre
+     * @param occupancy ocupación del tablero
+     * @return bitboard con las casillas atacadas
+     */
+    static long rookAttacks(int square, long occupancy) {
+        int index = (int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square]);
+        return ROOK_TABLE[ROOK_OFFSETS[square] + index];
+    }
+
+    /**
+     * Obtiene los ataques de un alfil.
+     *
+     * @param square casilla del alfil
+     * @param occupancy ocupación del tablero
+     * @return bitboard con las casillas atacadas
+     */
+    static long bishopAttacks(int square, long occupancy) {
+        int index = (int) (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square]);
+        return BISHOP_TABLE[BISHOP_OFFSETS[square] + index];
+    }
+
+    /**
+     * Calcula las máscaras y rellena las tablas de ataques de un tipo de pieza deslizante.
+     */
+    private static void initTables(int[][] directions, long[] magics, long[] masks, int[] shifts, int[] offsets, long[] table) {
+        int offset = 0;
+        for (int square = 0; square < 64; square++) {
+            long mask = slidingAttacks(square, 0L, directions) & ~edges(square);
+            int bits = Long.bitCount(mask);
+            masks[square] = mask;
+            shifts[square] = 64 - bits;
+            offsets[square] = offset;
+
+            // Recorre todos los subconjuntos de la máscara (Carry-Rippler)
+            long occupancy = 0L;
+            do {
+                int index = (int) ((occupancy * magics[square]) >>> shifts[square]);
+                table[offset + index] = slidingAttacks(square, occupancy, directions);
+                occupancy = (occupancy - mask) & mask;
+            } while (occupancy != 0L);
+
+            offset += 1 << bits;
+        }
+    }
+
+    /**
+     * Calcula los ataques de una pieza deslizante recorriendo cada dirección casilla a casilla.
+     * Solo se utiliza durante la construcción de las tablas.
+     */
+    private static long slidingAttacks(int square, long occupancy, int[][] directions) {
+        long attacks = 0L;
+        for (int[] direction : directions) {
+            int i = (square & 7) + direction[0];
+            int j = (square >>> 3) + direction[1];
+            while (i >= 0 && i < 8 && j >= 0 && j < 8) {
+                long bit = 1L << (j * 8 + i);
+                attacks |= bit;
+                if ((occupancy & bit) != 0L) {
+                    break;
+                }
+                i += direction[0];
+                j += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    /**
+     * Obtiene los bordes del tablero que no influyen en los ataques desde la casilla indicada.
+     */
+    private static long edges(int square) {
+        long fileA = 0x0101010101010101L;
+        long rank1 = 0xFFL;
+        long fileEdges = (fileA | fileA << 7) & ~(fileA << (square & 7));
+        long rankEdges = (rank1 | rank1 << 56) & ~(rank1 << ((square >>> 3) * 8));
+        return fileEdges | rankEdges;
+    }
+}
@@ -0,0 +1,163 @@
+package com.poo.chessgame1_2.model.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Buzón de comandos de una partida: todas las operaciones que modifican la partida (entradas de la red,
+ * relojes, respuestas del motor...) se encolan aquí y se ejecutan de una en una, en orden de llegada.
+ * Los comandos se guardan en una {@link MpscRingBuffer} y los consume una sola tarea del ejecutor a la vez,
+ * por lo que el modelo de la partida nunca se usa desde dos hilos simultáneamente y no hacen falta bloqueos.
+ * Cada tarea ejecuta hasta BATCH_SIZE comandos seguidos, de modo que los comandos que llegan en ráfaga
+ * se atienden en lote sin volver a pasar por el ejecutor.
+ * Los errores de los comandos no detienen el buzón: se informan al manejador de errores y se sigue con el
+ * siguiente comando.
+ */
+public class CommandMailbox implements Executor {
+    public static final int DEFAULT_CAPACITY = 1024; // Comandos pendientes admitidos por defecto
+    private static final int BATCH_SIZE = 64; // Comandos que ejecuta cada tarea antes de ceder el hilo
+
+    private final MpscRingBuffer<Runnable> commands; // Comandos pendientes
+    private final Executor executor; // Ejecutor donde se consumen los comandos
+    private final AtomicBoolean scheduled = new AtomicBoolean(false); // Indica si hay una tarea consumiendo o en espera
+    private volatile Thread.UncaughtExceptionHandler errorHandler; // Recibe los errores de los comandos (o null)
+
+    /**
+     * Constructor de la clase CommandMailbox.
+     *
+     * @param executor ejecutor donde se consumen los comandos (puede compartirse entre muchas partidas)
+     * @param capacity número máximo de comandos pendientes
+     */
+    public CommandMailbox(Executor executor, int capacity) {
+        this.executor = executor;
+        this.commands = new MpscRingBuffer<>(capacity);
+    }
+
+    /**
+     * Constructor de la clase CommandMailbox con la capacidad por defecto.
+     *
+     * @param executor ejecutor donde se consumen los comandos
+     */
+    public CommandMailbox(Executor executor) {
+        this(executor, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Establece el objeto que recibe los errores de los comandos y los rechazos del ejecutor.
+     * Se llama desde el hilo donde ocurrió el error.
+     *
+     * @param errorHandler manejador de errores, o null para usar el del hilo (por defecto, el de
+     *                     {@link Thread#getDefaultUncaughtExceptionHandler()})
+     */
+    public void setErrorHandler(Thread.UncaughtExceptionHandler errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Encola un comando. Puede llamarse desde cualquier hilo.
+     * Solo se rechaza si la cola está llena: una vez encolado, el comando siempre se ejecuta. Si el ejecutor
+     * rechaza la tarea de consumo, el rechazo se informa al manejador de errores y el comando sigue en la cola
+     * hasta que el ejecutor acepte la siguiente tarea.
+     *
+     * @param command comando a ejecutar
+     * @throws RejectedExecutionException si la cola de la partida está llena
+     */
+    @Override
+    public void execute(Runnable command) {
+        if (!commands.offer(command)) {
+            throw new RejectedExecutionException("Cola de comandos de la partida llena");
+        }
+        schedule();
+    }
+
+    /**
+     * Encola un comando que devuelve un resultado.
+     *
+     * @param command comando a ejecutar
+     * @param <T> tipo del resultado
+     * @return resultado del comando, que se completa con su excepción si el comando falla (también con un Error,
+     *         que además se vuelve a lanzar) o con RejectedExecutionException si la cola está llena
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            execute(() -> {
+                try {
+                    result.complete(command.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                    if (e instanceof Error) {
+                        throw (Error) e;
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Obtiene el número de comandos pendientes.
+     *
+     * @return número aproximado de comandos en la cola
+     */
+    public int getPendingCount() {
+        return commands.size();
+    }
+
+    /**
+     * Lanza una tarea de consumo si no hay ninguna en curso.
+     * Si el ejecutor la rechaza, los comandos quedan en la cola para la siguiente tarea que se acepte.
+     */
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                reportError(e);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta un lote de comandos. Si quedan comandos (o llegaron mientras se liberaba el consumo),
+     * se lanza otra tarea para que el hilo del ejecutor pueda atender a otras partidas entre lotes.
+     * Si un comando lanza un Error, el consumo se libera igualmente antes de propagarlo al ejecutor.
+     */
+    private void drain() {
+        try {
+            Runnable command;
+            for (int count = 0; count < BATCH_SIZE && (command = commands.poll()) != null; count++) {
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    reportError(e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            if (!commands.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Informa un error al manejador de errores o, si no hay, al del hilo actual.
+     *
+     * @param error error de un comando o rechazo del ejecutor
+     */
+    private void reportError(Throwable error) {
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = errorHandler;
+        if (handler == null) {
+            handler = thread.getUncaughtExceptionHandler();
+        }
+        handler.uncaughtException(thread, error);
+    }
+}
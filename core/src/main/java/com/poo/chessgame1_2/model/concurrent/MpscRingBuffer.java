@@ -0,0 +1,99 @@
+package com.poo.chessgame1_2.model.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cola circular acotada para varios productores y un único consumidor (MPSC), sin bloqueos.
+ * Los productores reservan una posición incrementando el índice de escritura con compareAndSet y después
+ * publican el elemento; el consumidor lee en orden y libera la posición. Solo un hilo a la vez puede
+ * consumir (ver {@link CommandMailbox}).
+ *
+ * @param <E> tipo de los elementos
+ */
+public final class MpscRingBuffer<E> {
+    private final AtomicReferenceArray<E> buffer; // Posiciones de la cola (null = libre o sin publicar)
+    private final int mask; // Máscara para obtener la posición a partir del índice
+    private final AtomicLong tail = new AtomicLong(); // Siguiente índice de escritura (productores)
+    private final AtomicLong head = new AtomicLong(); // Siguiente índice de lectura (consumidor)
+
+    /**
+     * Constructor de la clase MpscRingBuffer.
+     *
+     * @param capacity capacidad mínima (se redondea hacia arriba a una potencia de dos)
+     */
+    public MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        buffer = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    /**
+     * Añade un elemento al final de la cola. Puede llamarse desde cualquier hilo.
+     *
+     * @param element elemento (no nulo)
+     * @return true si se añadió, false si la cola está llena
+     */
+    public boolean offer(E element) {
+        long index;
+        do {
+            index = tail.get();
+            if (index - head.get() >= buffer.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(index, index + 1));
+        buffer.lazySet((int) (index & mask), element);
+        return true;
+    }
+
+    /**
+     * Saca el primer elemento de la cola. Solo debe llamarlo el consumidor.
+     * Si un productor ya reservó la posición pero aún no publicó el elemento, se espera a que lo haga.
+     *
+     * @return elemento, o null si la cola está vacía
+     */
+    public E poll() {
+        long index = head.get();
+        int position = (int) (index & mask);
+        E element = buffer.get(position);
+        if (element == null) {
+            if (index == tail.get()) {
+                return null;
+            }
+            do {
+                Thread.onSpinWait();
+                element = buffer.get(position);
+            } while (element == null);
+        }
+        buffer.lazySet(position, null);
+        head.lazySet(index + 1);
+        return element;
+    }
+
+    /**
+     * Verifica si la cola está vacía (incluye los elementos reservados que aún no se publicaron).
+     *
+     * @return true si no hay elementos
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /**
+     * Obtiene el número aproximado de elementos en la cola.
+     *
+     * @return número de elementos
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * Obtiene la capacidad de la cola.
+     *
+     * @return número máximo de elementos
+     */
+    public int capacity() {
+        return buffer.length();
+    }
+}
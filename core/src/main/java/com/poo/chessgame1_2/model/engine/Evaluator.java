@@ -0,0 +1,107 @@
+package com.poo.chessgame1_2.model.engine;
+
+import com.poo.chessgame1_2.model.Position;
+
+/**
+ * Clase que evalúa una posición estáticamente: material más tablas de bonificación por casilla.
+ * El resultado se da en centipeones desde el punto de vista del jugador que tiene el turno.
+ */
+public final class Evaluator {
+
+    // Valor de cada tipo de pieza, en el orden de los índices de Position (alfil, rey, caballo, peón, reina, torre)
+    static final int[] PIECE_VALUES = {330, 0, 320, 100, 900, 500};
+
+    // Tablas de bonificación por casilla vistas por las blancas, de la fila 8 (arriba) a la fila 1 (abajo)
+    private static final int[] PAWN_TABLE = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            50, 50, 50, 50, 50, 50, 50, 50,
+            10, 10, 20, 30, 30, 20, 10, 10,
+            5, 5, 10, 25, 25, 10, 5, 5,
+            0, 0, 0, 20, 20, 0, 0, 0,
+            5, -5, -10, 0, 0, -10, -5, 5,
+            5, 10, 10, -20, -20, 10, 10, 5,
+            0, 0, 0, 0, 0, 0, 0, 0
+    };
+    private static final int[] KNIGHT_TABLE = {
+            -50, -40, -30, -30, -30, -30, -40, -50,
+            -40, -20, 0, 0, 0, 0, -20, -40,
+            -30, 0, 10, 15, 15, 10, 0, -30,
+            -30, 5, 15, 20, 20, 15, 5, -30,
+            -30, 0, 15, 20, 20, 15, 0, -30,
+            -30, 5, 10, 15, 15, 10, 5, -30,
+            -40, -20, 0, 5, 5, 0, -20, -40,
+            -50, -40, -30, -30, -30, -30, -40, -50
+    };
+    private static final int[] BISHOP_TABLE = {
+            -20, -10, -10, -10, -10, -10, -10, -20,
+            -10, 0, 0, 0, 0, 0, 0, -10,
+            -10, 0, 5, 10, 10, 5, 0, -10,
+            -10, 5, 5, 10, 10, 5, 5, -10,
+            -10, 0, 10, 10, 10, 10, 0, -10,
+            -10, 10, 10, 10, 10, 10, 10, -10,
+            -10, 5, 0, 0, 0, 0, 5, -10,
+            -20, -10, -10, -10, -10, -10, -10, -20
+    };
+    private static final int[] ROOK_TABLE = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            5, 10, 10, 10, 10, 10, 10, 5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            0, 0, 0, 5, 5, 0, 0, 0
+    };
+    private static final int[] QUEEN_TABLE = {
+            -20, -10, -10, -5, -5, -10, -10, -20,
+            -10, 0, 0, 0, 0, 0, 0, -10,
+            -10, 0, 5, 5, 5, 5, 0, -10,
+            -5, 0, 5, 5, 5, 5, 0, -5,
+            0, 0, 5, 5, 5, 5, 0, -5,
+            -10, 5, 5, 5, 5, 5, 0, -10,
+            -10, 0, 5, 0, 0, 0, 0, -10,
+            -20, -10, -10, -5, -5, -10, -10, -20
+    };
+    private static final int[] KING_TABLE = {
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -20, -30, -30, -40, -40, -30, -30, -20,
+            -10, -20, -20, -20, -20, -20, -20, -10,
+            20, 20, 0, 0, 0, 0, 20, 20,
+            20, 30, 10, 0, 0, 10, 30, 20
+    };
+
+    // Tablas por tipo de pieza, en el orden de los índices de Position
+    private static final int[][] TABLES = {BISHOP_TABLE, KING_TABLE, KNIGHT_TABLE, PAWN_TABLE, QUEEN_TABLE, ROOK_TABLE};
+
+    private Evaluator() {
+    }
+
+    /**
+     * Evalúa la posición desde el punto de vista del jugador que tiene el turno.
+     *
+     * @param position posición a evaluar
+     * @return evaluación en centipeones (positiva si el jugador que tiene el turno va ganando)
+     */
+    public static int evaluate(Position position) {
+        int score = 0;
+        for (int type = Position.BISHOP; type <= Position.ROOK; type++) {
+            int[] table = TABLES[type];
+            long white = position.getPieces(Position.WHITE, type);
+            while (white != 0L) {
+                int square = Long.numberOfTrailingZeros(white);
+                score += PIECE_VALUES[type] + table[square ^ 56]; // Las tablas empiezan en la fila 8
+                white &= white - 1;
+            }
+            long black = position.getPieces(Position.BLACK, type);
+            while (black != 0L) {
+                int square = Long.numberOfTrailingZeros(black);
+                score -= PIECE_VALUES[type] + table[square];
+                black &= black - 1;
+            }
+        }
+        return position.getSideToMove() == Position.WHITE ? score : -score;
+    }
+}
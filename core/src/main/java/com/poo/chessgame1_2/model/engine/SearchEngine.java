@@ -0,0 +1,289 @@
+package com.poo.chessgame1_2.model.engine;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Motor de búsqueda del juego contra la computadora.
+ * Reparte la búsqueda entre varios hilos al estilo Lazy SMP: todos los hilos buscan la misma posición con
+ * profundización iterativa y comparten una tabla de transposición sin bloqueos, de modo que los resultados
+ * que encuentra cada hilo aceleran a los demás. El movimiento elegido es el del hilo principal.
+ * La búsqueda trabaja sobre copias de la posición, por lo que puede ejecutarse en otro hilo mientras
+ * el tablero de la partida se sigue mostrando. Solo se ejecuta una búsqueda a la vez: stop, newGame y
+ * setHashSize esperan a que termine la búsqueda en curso antes de regresar o de tocar la tabla y los hilos.
+ */
+public class SearchEngine {
+    public static final int MATE_SCORE = 30000; // Evaluación de un jaque mate (menos la distancia en plies)
+    public static final int MAX_PLY = 64; // Profundidad máxima de la búsqueda
+    public static final int DEFAULT_HASH_MEGABYTES = 64; // Tamaño por defecto de la tabla de transposición
+    public static final String HASH_SIZE_PROPERTY = "ajedrez.hash.mb"; // Propiedad del sistema con el tamaño de la tabla
+
+    private int maxDepth = MAX_PLY; // Profundidad máxima configurada
+    private long timeLimitMillis = 2000; // Tiempo máximo por búsqueda (0 o menos: sin límite)
+    private int threadCount = Runtime.getRuntime().availableProcessors(); // Número de hilos de búsqueda
+
+    private long hashMegabytes = Long.getLong(HASH_SIZE_PROPERTY, DEFAULT_HASH_MEGABYTES); // Tamaño de la tabla
+    private TranspositionTable table; // Tabla compartida (fuera del heap, se reserva en la primera búsqueda)
+    private SearchWorker[] workers = new SearchWorker[0]; // Hilos de búsqueda (se crean bajo demanda)
+    private volatile SearchListener listener; // Suscriptor del progreso de la búsqueda (o null)
+
+    private final ReentrantLock searchLock = new ReentrantLock(); // Lo tiene el hilo que está buscando
+    private volatile boolean stopped = false; // Indica que la búsqueda debe terminar cuanto antes
+    private volatile long deadline; // Instante (System.nanoTime) en que se agota el tiempo
+
+    /**
+     * Establece la profundidad máxima de la búsqueda.
+     *
+     * @param maxDepth profundidad máxima (1..MAX_PLY)
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = Math.max(1, Math.min(MAX_PLY, maxDepth));
+    }
+
+    /**
+     * Obtiene la profundidad máxima de la búsqueda.
+     *
+     * @return profundidad máxima
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Establece el tiempo máximo de cada búsqueda.
+     *
+     * @param timeLimitMillis tiempo en milisegundos (0 o menos para buscar sin límite de tiempo)
+     */
+    public void setTimeLimitMillis(long timeLimitMillis) {
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    /**
+     * Obtiene el tiempo máximo de cada búsqueda.
+     *
+     * @return tiempo en milisegundos
+     */
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+
+    /**
+     * Establece el número de hilos de búsqueda (el hilo que llama a search cuenta como el primero).
+     *
+     * @param threadCount número de hilos (al menos 1)
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    /**
+     * Obtiene el número de hilos de búsqueda.
+     *
+     * @return número de hilos
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Cambia el tamaño de la tabla de transposición, descartando su contenido.
+     * El tamaño inicial se toma de la propiedad del sistema {@value #HASH_SIZE_PROPERTY}
+     * (por ejemplo -Dajedrez.hash.mb=4096 para 4 GB) o, si no está definida, de DEFAULT_HASH_MEGABYTES.
+     * La memoria no se reserva hasta la primera búsqueda, por lo que las partidas que nunca usan el motor
+     * (por ejemplo, las partidas entre dos personas de un servidor) no ocupan memoria fuera del heap.
+     *
+     * @param megabytes tamaño en megabytes
+     */
+    public void setHashSize(long megabytes) {
+        searchLock.lock();
+        try {
+            hashMegabytes = megabytes;
+            if (table != null) {
+                table.resize(megabytes);
+            }
+        } finally {
+            searchLock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el tamaño de la tabla de transposición.
+     *
+     * @return tamaño en megabytes
+     */
+    public long getHashSize() {
+        return table != null ? table.getSizeMegabytes() : Long.highestOneBit(Math.max(1, hashMegabytes));
+    }
+
+    /**
+     * Establece el objeto que recibe el progreso de la búsqueda (el motor no escribe nada en la consola).
+     *
+     * @param listener suscriptor, o null para no informar el progreso
+     */
+    public void setSearchListener(SearchListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Informa al suscriptor que el hilo principal completó una iteración.
+     *
+     * @param bestMove mejor movimiento de la iteración
+     * @param score evaluación del mejor movimiento
+     * @param depth profundidad de la iteración
+     * @param elapsedMillis milisegundos transcurridos desde el inicio de la búsqueda
+     */
+    void iterationFinished(int bestMove, int score, int depth, long elapsedMillis) {
+        SearchListener current = listener;
+        if (current != null) {
+            current.iterationFinished(new SearchResult(bestMove, score, depth, getTotalNodes(), elapsedMillis));
+        }
+    }
+
+    /**
+     * Prepara el motor para una partida nueva, vaciando la tabla de transposición en paralelo.
+     * Si hay una búsqueda en curso, espera a que termine (ver {@link #stop()}).
+     */
+    public void newGame() {
+        searchLock.lock();
+        try {
+            if (table != null) {
+                table.clear();
+            }
+        } finally {
+            searchLock.unlock();
+        }
+    }
+
+    /**
+     * Detiene la búsqueda en curso y espera a que termine; search devuelve el resultado de la última
+     * iteración completa. La espera es corta, ya que los hilos consultan la señal de parada cada pocos nodos.
+     */
+    public void stop() {
+        stopped = true;
+        searchLock.lock();
+        searchLock.unlock();
+    }
+
+    /**
+     * Indica si la búsqueda en curso debe terminar.
+     *
+     * @return true si se recibió la señal de parada o se agotó el tiempo
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Detiene la búsqueda si se agotó el tiempo.
+     */
+    void checkTime() {
+        if (System.nanoTime() > deadline) {
+            stopped = true;
+        }
+    }
+
+    /**
+     * Suma los nodos visitados por todos los hilos (valor aproximado mientras la búsqueda está en curso).
+     *
+     * @return nodos visitados
+     */
+    long getTotalNodes() {
+        long nodes = 0;
+        for (SearchWorker worker : workers) {
+            nodes += worker.getNodes();
+        }
+        return nodes;
+    }
+
+    /**
+     * Busca el mejor movimiento para el jugador que tiene el turno en el tablero.
+     *
+     * @param board tablero de la partida (no se modifica)
+     * @return resultado de la búsqueda
+     */
+    public SearchResult search(Board board) {
+        return search(board.getPosition());
+    }
+
+    /**
+     * Busca el mejor movimiento para el jugador que tiene el turno.
+     * El hilo que llama actúa como hilo principal; los auxiliares se lanzan al empezar y se esperan al terminar.
+     * Si ya hay otra búsqueda en curso, espera a que termine.
+     *
+     * @param root posición a buscar (no se modifica)
+     * @return resultado de la búsqueda
+     */
+    public SearchResult search(Position root) {
+        searchLock.lock();
+        try {
+            return searchLocked(root);
+        } finally {
+            searchLock.unlock();
+        }
+    }
+
+    /**
+     * Realiza la búsqueda una vez obtenido el permiso exclusivo sobre la tabla y los hilos.
+     *
+     * @param root posición a buscar (no se modifica)
+     * @return resultado de la búsqueda
+     */
+    private SearchResult searchLocked(Position root) {
+        long start = System.nanoTime();
+        stopped = false;
+        if (table == null) {
+            table = new TranspositionTable(hashMegabytes);
+        }
+        table.newSearch();
+        deadline = timeLimitMillis > 0 ? start + timeLimitMillis * 1_000_000 : Long.MAX_VALUE;
+
+        MoveList rootMoves = new MoveList();
+        MoveGenerator.generateLegalMoves(root, rootMoves);
+        if (rootMoves.isEmpty()) {
+            int score = root.isInCheck(root.getSideToMove()) ? -MATE_SCORE : 0;
+            return new SearchResult(Move.NONE, score, 0, 0, elapsedMillis(start));
+        }
+
+        if (workers.length != threadCount) {
+            workers = new SearchWorker[threadCount];
+            for (int id = 0; id < threadCount; id++) {
+                workers[id] = new SearchWorker(this, table, id);
+            }
+        }
+
+        Thread[] helpers = new Thread[threadCount - 1];
+        for (int id = 1; id < threadCount; id++) {
+            SearchWorker worker = workers[id];
+            helpers[id - 1] = new Thread(() -> worker.iterativeDeepening(root, rootMoves, start), "motor-ajedrez-" + id);
+            helpers[id - 1].setDaemon(true);
+            helpers[id - 1].start();
+        }
+
+        SearchResult result = workers[0].iterativeDeepening(root, rootMoves, start);
+        stopped = true;
+        for (Thread helper : helpers) {
+            try {
+                helper.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return new SearchResult(result.getBestMove(), result.getScore(), result.getDepth(), getTotalNodes(),
+                elapsedMillis(start));
+    }
+
+    /**
+     * Calcula los milisegundos transcurridos desde el instante indicado.
+     *
+     * @param start instante de inicio (System.nanoTime)
+     * @return milisegundos transcurridos
+     */
+    static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
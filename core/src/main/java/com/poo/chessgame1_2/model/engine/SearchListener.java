@@ -0,0 +1,18 @@
+package com.poo.chessgame1_2.model.engine;
+
+/**
+ * Interfaz para los objetos que quieren conocer el progreso de la búsqueda del motor
+ * (profundidad, evaluación, nodos por segundo), por ejemplo para mostrarlo en la interfaz o en un registro.
+ * Se registra con {@link SearchEngine#setSearchListener(SearchListener)}.
+ */
+@FunctionalInterface
+public interface SearchListener {
+
+    /**
+     * Se llama al completar cada iteración de la profundización iterativa, en el hilo principal de la búsqueda.
+     * Debe terminar rápido, ya que la búsqueda no continúa hasta que regresa.
+     *
+     * @param result resultado de la iteración completa (los nodos incluyen los de todos los hilos)
+     */
+    void iterationFinished(SearchResult result);
+}
@@ -0,0 +1,91 @@
+package com.poo.chessgame1_2.model.engine;
+
+import com.poo.chessgame1_2.model.moves.Move;
+
+/**
+ * Resultado de una búsqueda: el mejor movimiento encontrado y las estadísticas de la búsqueda.
+ */
+public class SearchResult {
+    private final int bestMove; // Mejor movimiento codificado (Move.NONE si no hay movimientos legales)
+    private final int score; // Evaluación en centipeones desde el punto de vista del jugador que mueve
+    private final int depth; // Profundidad de la última iteración completa
+    private final long nodes; // Número de nodos visitados
+    private final long timeMillis; // Tiempo de búsqueda en milisegundos
+
+    /**
+     * Constructor de la clase SearchResult.
+     *
+     * @param bestMove mejor movimiento codificado
+     * @param score evaluación en centipeones
+     * @param depth profundidad alcanzada
+     * @param nodes nodos visitados
+     * @param timeMillis tiempo de búsqueda en milisegundos
+     */
+    SearchResult(int bestMove, int score, int depth, long nodes, long timeMillis) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.timeMillis = timeMillis;
+    }
+
+    /**
+     * Obtiene el mejor movimiento encontrado.
+     *
+     * @return movimiento codificado (ver {@link Move}), o Move.NONE si no hay movimientos legales
+     */
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * Obtiene la evaluación del mejor movimiento.
+     *
+     * @return evaluación en centipeones desde el punto de vista del jugador que mueve
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Obtiene la profundidad de la última iteración completa.
+     *
+     * @return profundidad alcanzada
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Obtiene el número de nodos visitados.
+     *
+     * @return nodos visitados
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Obtiene el tiempo de búsqueda.
+     *
+     * @return tiempo en milisegundos
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    /**
+     * Obtiene la velocidad de la búsqueda.
+     *
+     * @return nodos por segundo
+     */
+    public long getNodesPerSecond() {
+        return nodes * 1000 / Math.max(1, timeMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "profundidad " + depth + " | evaluación " + score + " | mejor " + Move.toCoordinates(bestMove)
+                + " | nodos " + nodes + " | " + timeMillis + " ms | " + getNodesPerSecond() + " nodos/s";
+    }
+}
@@ -0,0 +1,379 @@
+package com.poo.chessgame1_2.model.engine;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+
+/**
+ * Hilo de búsqueda del motor. Cada hilo tiene su propia copia de la posición, sus listas de movimientos y
+ * sus movimientos killer; lo único que comparten los hilos es la tabla de transposición y la señal de parada.
+ * Utiliza profundización iterativa con búsqueda alfa-beta de ventana principal (PVS), búsqueda de quietud
+ * para las capturas, extensión de jaques y ordenación de movimientos (movimiento de la tabla de
+ * transposición, capturas MVV-LVA y movimientos killer).
+ */
+class SearchWorker {
+    private static final int INFINITY = 32000; // Cota superior de cualquier evaluación
+    private static final int TIME_CHECK_MASK = 2047; // Se consulta el reloj cada 2048 nodos
+
+    // Puntuaciones para ordenar los movimientos
+    private static final int TT_MOVE_SCORE = 1000000;
+    private static final int CAPTURE_SCORE = 100000;
+    private static final int PROMOTION_SCORE = 90000;
+    private static final int FIRST_KILLER_SCORE = 80000;
+    private static final int SECOND_KILLER_SCORE = 70000;
+
+    private final SearchEngine engine; // Motor al que pertenece el hilo (límites, tabla y señal de parada)
+    private final TranspositionTable table; // Tabla de transposición compartida
+    private final int id; // Número del hilo (0 es el hilo principal)
+
+    private Position position; // Copia de la posición que se está buscando
+    private long nodes; // Nodos visitados en la búsqueda actual
+    private final MoveList[] moveLists = new MoveList[SearchEngine.MAX_PLY + 1]; // Lista de movimientos por ply
+    private final int[][] moveScores = new int[SearchEngine.MAX_PLY + 1][256]; // Puntuación de ordenación por ply
+    private final int[][] killers = new int[SearchEngine.MAX_PLY + 1][2]; // Movimientos killer por ply
+    private final long[] pathHashes = new long[SearchEngine.MAX_PLY + 1]; // Claves de las posiciones del camino actual
+
+    /**
+     * Constructor de la clase SearchWorker.
+     *
+     * @param engine motor al que pertenece el hilo
+     * @param table tabla de transposición compartida
+     * @param id número del hilo
+     */
+    SearchWorker(SearchEngine engine, TranspositionTable table, int id) {
+        this.engine = engine;
+        this.table = table;
+        this.id = id;
+        for (int ply = 0; ply <= SearchEngine.MAX_PLY; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+    }
+
+    /**
+     * Obtiene los nodos visitados en la búsqueda actual (puede leerse desde otro hilo de forma aproximada).
+     *
+     * @return nodos visitados
+     */
+    long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Busca la posición mediante profundización iterativa hasta agotar la profundidad o recibir la señal de parada.
+     * Los hilos auxiliares empiezan en profundidades alternas para que, compartiendo la tabla de transposición,
+     * no repitan exactamente el mismo trabajo que el hilo principal (Lazy SMP).
+     *
+     * @param root posición a buscar (no se modifica)
+     * @param rootMoves movimientos legales de la raíz (no vacía)
+     * @param start instante de inicio de la búsqueda (System.nanoTime)
+     * @return resultado de la última iteración completa
+     */
+    SearchResult iterativeDeepening(Position root, MoveList rootMoves, long start) {
+        position = new Position(root);
+        nodes = 0;
+        for (int[] plyKillers : killers) {
+            plyKillers[0] = Move.NONE;
+            plyKillers[1] = Move.NONE;
+        }
+
+        MoveList moves = new MoveList();
+        for (int k = 0; k < rootMoves.size(); k++) {
+            moves.add(rootMoves.get(k));
+        }
+        orderMoves(moves, 0, Move.NONE);
+        sortByScore(moves, 0);
+
+        int bestMove = moves.get(0);
+        int bestScore = 0;
+        int completedDepth = 0;
+        int maxDepth = engine.getMaxDepth();
+        long timeLimitMillis = engine.getTimeLimitMillis();
+        for (int depth = 1 + (id & 1); depth <= maxDepth; depth++) {
+            int score = searchRoot(moves, depth);
+            if (engine.isStopped() && completedDepth > 0) {
+                break; // La iteración incompleta no es fiable
+            }
+            bestMove = moves.get(0);
+            bestScore = score;
+            completedDepth = depth;
+            if (id != 0) {
+                continue;
+            }
+
+            long elapsed = SearchEngine.elapsedMillis(start);
+            engine.iterationFinished(bestMove, bestScore, depth, elapsed);
+
+            // No se empieza otra iteración si no va a dar tiempo a terminarla o si ya se encontró un mate
+            if (engine.isStopped() || Math.abs(score) >= SearchEngine.MATE_SCORE - SearchEngine.MAX_PLY
+                    || (timeLimitMillis > 0 && elapsed * 2 > timeLimitMillis)) {
+                break;
+            }
+        }
+        return new SearchResult(bestMove, bestScore, completedDepth, nodes, SearchEngine.elapsedMillis(start));
+    }
+
+    /**
+     * Busca todos los movimientos de la raíz y deja el mejor en la primera posición de la lista,
+     * para que la siguiente iteración lo busque primero.
+     *
+     * @return evaluación del mejor movimiento
+     */
+    private int searchRoot(MoveList rootMoves, int depth) {
+        int alpha = -INFINITY;
+        int bestIndex = 0;
+        pathHashes[0] = position.getHash();
+        for (int k = 0; k < rootMoves.size(); k++) {
+            int move = rootMoves.get(k);
+            position.makeMove(move);
+            int score;
+            if (k == 0) {
+                score = -pvs(depth - 1, -INFINITY, -alpha, 1);
+            } else {
+                score = -pvs(depth - 1, -alpha - 1, -alpha, 1);
+                if (score > alpha) {
+                    score = -pvs(depth - 1, -INFINITY, -alpha, 1);
+                }
+            }
+            position.unmakeMove(move);
+            if (engine.isStopped()) {
+                break;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestIndex = k;
+            }
+        }
+
+        // Mueve el mejor movimiento al principio conservando el orden del resto
+        int best = rootMoves.get(bestIndex);
+        for (int k = bestIndex; k > 0; k--) {
+            rootMoves.set(k, rootMoves.get(k - 1));
+        }
+        rootMoves.set(0, best);
+        if (!engine.isStopped()) {
+            table.store(pathHashes[0], best, TranspositionTable.scoreToTable(alpha, 0), depth, TranspositionTable.EXACT);
+        }
+        return alpha;
+    }
+
+    /**
+     * Búsqueda alfa-beta de ventana principal: el primer movimiento se busca con la ventana completa y
+     * el resto con una ventana nula, repitiendo la búsqueda solo si alguno resulta mejor.
+     *
+     * @return evaluación de la posición desde el punto de vista del jugador que tiene el turno
+     */
+    private int pvs(int depth, int alpha, int beta, int ply) {
+        if ((++nodes & TIME_CHECK_MASK) == 0) {
+            engine.checkTime();
+        }
+        if (engine.isStopped()) {
+            return 0;
+        }
+
+        // Repetición dentro del camino de búsqueda: se considera tablas
+        long hash = position.getHash();
+        for (int k = ply - 2; k >= 0; k -= 2) {
+            if (pathHashes[k] == hash) {
+                return 0;
+            }
+        }
+        if (ply >= SearchEngine.MAX_PLY - 1) {
+            return Evaluator.evaluate(position);
+        }
+        pathHashes[ply] = hash;
+
+        boolean inCheck = position.isInCheck(position.getSideToMove());
+        if (inCheck) {
+            depth++; // Extensión de jaque
+        }
+        if (depth <= 0) {
+            return quiescence(alpha, beta, ply);
+        }
+
+        // Tabla de transposición: fuera de la ventana principal se puede cortar con una búsqueda igual de profunda
+        int ttMove = Move.NONE;
+        long entry = table.probe(hash);
+        if (entry != 0L) {
+            ttMove = TranspositionTable.moveOf(entry);
+            if (TranspositionTable.depthOf(entry) >= depth && beta - alpha == 1) {
+                int ttScore = TranspositionTable.scoreFromTable(TranspositionTable.scoreOf(entry), ply);
+                int bound = TranspositionTable.boundOf(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && ttScore >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && ttScore <= alpha)) {
+                    return ttScore;
+                }
+            }
+        }
+
+        MoveList moveList = moveLists[ply];
+        moveList.clear();
+        MoveGenerator.generateLegalMoves(position, moveList);
+        if (moveList.isEmpty()) {
+            return inCheck ? -SearchEngine.MATE_SCORE + ply : 0;
+        }
+        orderMoves(moveList, ply, ttMove);
+
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = Move.NONE;
+        for (int k = 0; k < moveList.size(); k++) {
+            int move = pickMove(moveList, ply, k);
+            position.makeMove(move);
+            int score;
+            if (k == 0) {
+                score = -pvs(depth - 1, -beta, -alpha, ply + 1);
+            } else {
+                score = -pvs(depth - 1, -alpha - 1, -alpha, ply + 1);
+                if (score > alpha && score < beta) {
+                    score = -pvs(depth - 1, -beta, -alpha, ply + 1);
+                }
+            }
+            position.unmakeMove(move);
+            if (engine.isStopped()) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    if (score >= beta) {
+                        storeKiller(move, ply);
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = bestScore >= beta ? TranspositionTable.LOWER_BOUND
+                : bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+        table.store(hash, bestMove, TranspositionTable.scoreToTable(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    /**
+     * Búsqueda de quietud: solo se exploran capturas y promociones hasta llegar a una posición tranquila,
+     * para no evaluar en mitad de un intercambio.
+     *
+     * @return evaluación de la posición desde el punto de vista del jugador que tiene el turno
+     */
+    private int quiescence(int alpha, int beta, int ply) {
+        if ((++nodes & TIME_CHECK_MASK) == 0) {
+            engine.checkTime();
+        }
+        if (engine.isStopped()) {
+            return 0;
+        }
+
+        int standPat = Evaluator.evaluate(position);
+        if (ply >= SearchEngine.MAX_PLY - 1 || standPat >= beta) {
+            return standPat;
+        }
+        if (standPat > alpha) {
+            alpha = standPat;
+        }
+
+        MoveList moveList = moveLists[ply];
+        moveList.clear();
+        MoveGenerator.generateLegalMoves(position, moveList);
+        orderMoves(moveList, ply, Move.NONE);
+
+        for (int k = 0; k < moveList.size(); k++) {
+            int move = pickMove(moveList, ply, k);
+            if (!Move.isCapture(move) && !Move.isPromotion(move)) {
+                break; // Los movimientos tranquilos quedan al final de la ordenación
+            }
+            position.makeMove(move);
+            int score = -quiescence(-beta, -alpha, ply + 1);
+            position.unmakeMove(move);
+            if (engine.isStopped()) {
+                return 0;
+            }
+            if (score >= beta) {
+                return score;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+        }
+        return alpha;
+    }
+
+    /**
+     * Calcula la puntuación de ordenación de cada movimiento: primero el de la tabla de transposición,
+     * después capturas por MVV-LVA (víctima más valiosa, atacante menos valioso), promociones,
+     * movimientos killer y el resto.
+     */
+    private void orderMoves(MoveList moveList, int ply, int ttMove) {
+        int[] scores = moveScores[ply];
+        for (int k = 0; k < moveList.size(); k++) {
+            int move = moveList.get(k);
+            int score = 0;
+            if (move == ttMove) {
+                score = TT_MOVE_SCORE;
+            } else if (Move.isCapture(move)) {
+                int victim = Move.isEnPassant(move) ? Position.PAWN : position.typeAt(Move.to(move));
+                int attacker = position.typeAt(Move.from(move));
+                score = CAPTURE_SCORE + Evaluator.PIECE_VALUES[victim] * 10 - Evaluator.PIECE_VALUES[attacker] / 10;
+                if (Move.isPromotion(move)) {
+                    score += Evaluator.PIECE_VALUES[Move.promotion(move)];
+                }
+            } else if (Move.isPromotion(move)) {
+                score = PROMOTION_SCORE + Evaluator.PIECE_VALUES[Move.promotion(move)];
+            } else if (move == killers[ply][0]) {
+                score = FIRST_KILLER_SCORE;
+            } else if (move == killers[ply][1]) {
+                score = SECOND_KILLER_SCORE;
+            }
+            scores[k] = score;
+        }
+    }
+
+    /**
+     * Ordena toda la lista según las puntuaciones calculadas (se usa en la raíz).
+     */
+    private void sortByScore(MoveList moveList, int ply) {
+        for (int k = 0; k < moveList.size(); k++) {
+            pickMove(moveList, ply, k);
+        }
+    }
+
+    /**
+     * Selecciona el movimiento con mayor puntuación entre los restantes y lo coloca en la posición indicada.
+     * Ordenar de forma perezosa evita ordenar toda la lista cuando se produce un corte temprano.
+     *
+     * @return movimiento seleccionado
+     */
+    private int pickMove(MoveList moveList, int ply, int index) {
+        int[] scores = moveScores[ply];
+        int best = index;
+        for (int k = index + 1; k < moveList.size(); k++) {
+            if (scores[k] > scores[best]) {
+                best = k;
+            }
+        }
+        int move = moveList.get(best);
+        if (best != index) {
+            moveList.set(best, moveList.get(index));
+            moveList.set(index, move);
+            int score = scores[best];
+            scores[best] = scores[index];
+            scores[index] = score;
+        }
+        return move;
+    }
+
+    /**
+     * Guarda un movimiento tranquilo que produjo un corte beta para probarlo antes en otras posiciones del mismo ply.
+     */
+    private void storeKiller(int move, int ply) {
+        if (Move.isCapture(move) || Move.isPromotion(move) || killers[ply][0] == move) {
+            return;
+        }
+        killers[ply][1] = killers[ply][0];
+        killers[ply][0] = move;
+    }
+}
@@ -0,0 +1,274 @@
+package com.poo.chessgame1_2.model.engine;
+
+import com.poo.chessgame1_2.model.moves.Move;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.stream.IntStream;
+
+/**
+ * Tabla de transposición compartida entre los hilos de búsqueda, guardada fuera del heap de Java.
+ * La memoria se reserva en bloques de ByteBuffer directos de hasta 1 GB, por lo que la tabla puede medir
+ * varios gigabytes sin aumentar el heap ni las pausas del recolector de basura
+ * (la JVM debe permitirlo con -XX:MaxDirectMemorySize si la tabla es mayor que el heap).
+ *
+ * Las entradas se agrupan en cubetas de 4 (64 bytes, una línea de caché). Cada entrada ocupa dos long:
+ * la clave Zobrist mezclada (XOR) con los datos, y los datos empaquetados. Si dos hilos escriben a la vez
+ * la misma entrada, la clave deja de coincidir con los datos y la lectura se descarta como un fallo,
+ * en lugar de devolver datos de otra posición; no se utilizan bloqueos.
+ *
+ * Formato de los datos:
+ *  - 0..19  mejor movimiento (ver {@link Move})
+ *  - 20..35 evaluación + 32768
+ *  - 36..43 profundidad
+ *  - 44..45 tipo de cota (EXACT, LOWER_BOUND, UPPER_BOUND)
+ *  - 46..51 edad (número de búsqueda en que se guardó, módulo 64)
+ */
+public class TranspositionTable {
+    public static final int NONE = 0; // Sin entrada
+    public static final int EXACT = 1; // La evaluación es exacta
+    public static final int LOWER_BOUND = 2; // La evaluación es una cota inferior (corte beta)
+    public static final int UPPER_BOUND = 3; // La evaluación es una cota superior (ningún movimiento superó alfa)
+
+    private static final int ENTRY_BYTES = 16; // Dos long por entrada
+    private static final int BUCKET_ENTRIES = 4; // Entradas por cubeta
+    private static final int BUCKET_BYTES = ENTRY_BYTES * BUCKET_ENTRIES; // Una línea de caché
+    private static final int CHUNK_SHIFT = 30; // Bloques de 1 GB (un ByteBuffer se indexa con int)
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+    private static final int CLEAR_SLICE_BYTES = 1 << 20; // Porción de memoria que limpia cada tarea
+
+    private static final long MOVE_MASK = (1L << 20) - 1;
+    private static final int SCORE_SHIFT = 20;
+    private static final int SCORE_OFFSET = 32768;
+    private static final int DEPTH_SHIFT = 36;
+    private static final int BOUND_SHIFT = 44;
+    private static final int AGE_SHIFT = 46;
+    private static final int AGE_MASK = 63;
+
+    private ByteBuffer[] chunks; // Bloques de memoria fuera del heap
+    private long bucketMask; // Máscara para obtener el índice de la cubeta
+    private long sizeBytes; // Tamaño total de la tabla
+    private volatile int age = 0; // Edad actual (se incrementa en cada búsqueda)
+
+    /**
+     * Constructor de la clase TranspositionTable.
+     *
+     * @param megabytes tamaño de la tabla en megabytes (se redondea hacia abajo a una potencia de dos)
+     */
+    public TranspositionTable(long megabytes) {
+        resize(megabytes);
+    }
+
+    /**
+     * Cambia el tamaño de la tabla, descartando su contenido.
+     *
+     * @param megabytes tamaño de la tabla en megabytes
+     */
+    public void resize(long megabytes) {
+        chunks = null; // Permite liberar la tabla anterior antes de reservar la nueva
+        sizeBytes = Long.highestOneBit(Math.max(1, megabytes) * 1024L * 1024L);
+        int chunkCount = (int) Math.max(1, sizeBytes >>> CHUNK_SHIFT);
+        int chunkBytes = (int) Math.min(sizeBytes, 1L << CHUNK_SHIFT);
+        ByteBuffer[] newChunks = new ByteBuffer[chunkCount];
+        for (int k = 0; k < chunkCount; k++) {
+            newChunks[k] = ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.nativeOrder());
+        }
+        chunks = newChunks;
+        bucketMask = sizeBytes / BUCKET_BYTES - 1;
+    }
+
+    /**
+     * Obtiene el tamaño de la tabla.
+     *
+     * @return tamaño en megabytes
+     */
+    public long getSizeMegabytes() {
+        return sizeBytes >>> 20;
+    }
+
+    /**
+     * Vacía la tabla (por ejemplo, al empezar una partida nueva).
+     * La memoria se limpia por porciones en paralelo, utilizando todos los procesadores.
+     */
+    public void clear() {
+        ByteBuffer[] clearChunks = chunks;
+        int slicesPerChunk = clearChunks[0].capacity() / CLEAR_SLICE_BYTES;
+        int slices = Math.max(1, slicesPerChunk) * clearChunks.length;
+        IntStream.range(0, slices).parallel().forEach(slice -> {
+            ByteBuffer chunk = clearChunks[slicesPerChunk == 0 ? 0 : slice / slicesPerChunk];
+            int from = slicesPerChunk == 0 ? 0 : (slice % slicesPerChunk) * CLEAR_SLICE_BYTES;
+            int to = Math.min(chunk.capacity(), from + CLEAR_SLICE_BYTES);
+            for (int offset = from; offset < to; offset += Long.BYTES) {
+                chunk.putLong(offset, 0L);
+            }
+        });
+        age = 0;
+    }
+
+    /**
+     * Indica que empieza una nueva búsqueda: las entradas de búsquedas anteriores pasan a ser
+     * las primeras candidatas a reemplazarse.
+     */
+    public void newSearch() {
+        age = (age + 1) & AGE_MASK;
+    }
+
+    /**
+     * Busca la entrada de una posición.
+     *
+     * @param key clave Zobrist de la posición
+     * @return datos empaquetados de la entrada, o 0 si la posición no está en la tabla
+     */
+    public long probe(long key) {
+        long bucket = (key & bucketMask) * BUCKET_BYTES;
+        ByteBuffer chunk = chunks[(int) (bucket >>> CHUNK_SHIFT)];
+        int offset = (int) (bucket & CHUNK_MASK);
+        for (int k = 0; k < BUCKET_ENTRIES; k++, offset += ENTRY_BYTES) {
+            long entryData = chunk.getLong(offset + Long.BYTES);
+            if ((chunk.getLong(offset) ^ entryData) == key && entryData != 0L) {
+                return entryData;
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Guarda el resultado de la búsqueda de una posición.
+     * Si la posición ya está en la cubeta, solo se reemplaza por una búsqueda al menos igual de profunda
+     * (o exacta, o de una búsqueda más reciente). Si no está, se reemplaza la entrada vacía o, si no hay,
+     * la de menor valor: poca profundidad y mucha edad.
+     *
+     * @param key clave Zobrist de la posición
+     * @param move mejor movimiento (Move.NONE si no se conoce)
+     * @param score evaluación (ya ajustada con {@link #scoreToTable(int, int)})
+     * @param depth profundidad de la búsqueda
+     * @param bound EXACT, LOWER_BOUND o UPPER_BOUND
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        long bucket = (key & bucketMask) * BUCKET_BYTES;
+        ByteBuffer chunk = chunks[(int) (bucket >>> CHUNK_SHIFT)];
+        int bucketOffset = (int) (bucket & CHUNK_MASK);
+        int currentAge = age;
+
+        int target = bucketOffset;
+        int lowestValue = Integer.MAX_VALUE;
+        for (int k = 0, offset = bucketOffset; k < BUCKET_ENTRIES; k++, offset += ENTRY_BYTES) {
+            long oldData = chunk.getLong(offset + Long.BYTES);
+            if (oldData == 0L) {
+                if (lowestValue > Integer.MIN_VALUE) {
+                    target = offset;
+                    lowestValue = Integer.MIN_VALUE;
+                }
+                continue;
+            }
+            if ((chunk.getLong(offset) ^ oldData) == key) {
+                if (depth < depthOf(oldData) && bound != EXACT && ageOf(oldData) == currentAge) {
+                    return;
+                }
+                if (move == Move.NONE) {
+                    move = moveOf(oldData); // Se conserva el mejor movimiento conocido
+                }
+                target = offset;
+                break;
+            }
+            int value = depthOf(oldData) - 8 * ((currentAge - ageOf(oldData)) & AGE_MASK);
+            if (value < lowestValue) {
+                target = offset;
+                lowestValue = value;
+            }
+        }
+
+        long entryData = (move & MOVE_MASK)
+                | ((long) (score + SCORE_OFFSET) << SCORE_SHIFT)
+                | ((long) depth << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) currentAge << AGE_SHIFT);
+        chunk.putLong(target, key ^ entryData);
+        chunk.putLong(target + Long.BYTES, entryData);
+    }
+
+    /**
+     * Obtiene el mejor movimiento de los datos de una entrada.
+     *
+     * @param entryData datos empaquetados
+     * @return movimiento codificado
+     */
+    public static int moveOf(long entryData) {
+        return (int) (entryData & MOVE_MASK);
+    }
+
+    /**
+     * Obtiene la evaluación de los datos de una entrada.
+     *
+     * @param entryData datos empaquetados
+     * @return evaluación tal como se guardó (ver {@link #scoreFromTable(int, int)})
+     */
+    public static int scoreOf(long entryData) {
+        return (int) ((entryData >>> SCORE_SHIFT) & 0xFFFF) - SCORE_OFFSET;
+    }
+
+    /**
+     * Obtiene la profundidad de los datos de una entrada.
+     *
+     * @param entryData datos empaquetados
+     * @return profundidad
+     */
+    public static int depthOf(long entryData) {
+        return (int) ((entryData >>> DEPTH_SHIFT) & 0xFF);
+    }
+
+    /**
+     * Obtiene el tipo de cota de los datos de una entrada.
+     *
+     * @param entryData datos empaquetados
+     * @return NONE, EXACT, LOWER_BOUND o UPPER_BOUND
+     */
+    public static int boundOf(long entryData) {
+        return (int) ((entryData >>> BOUND_SHIFT) & 0x3);
+    }
+
+    /**
+     * Obtiene la edad de los datos de una entrada.
+     *
+     * @param entryData datos empaquetados
+     * @return número de búsqueda (módulo 64) en que se guardó la entrada
+     */
+    public static int ageOf(long entryData) {
+        return (int) ((entryData >>> AGE_SHIFT) & AGE_MASK);
+    }
+
+    /**
+     * Convierte una evaluación de mate a distancia desde la posición guardada (en lugar de desde la raíz),
+     * para que siga siendo correcta cuando la posición se alcance desde otro ply.
+     *
+     * @param score evaluación relativa a la raíz
+     * @param ply ply de la posición
+     * @return evaluación para guardar en la tabla
+     */
+    public static int scoreToTable(int score, int ply) {
+        if (score >= SearchEngine.MATE_SCORE - SearchEngine.MAX_PLY) {
+            return score + ply;
+        }
+        if (score <= -SearchEngine.MATE_SCORE + SearchEngine.MAX_PLY) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    /**
+     * Convierte una evaluación leída de la tabla a distancia desde la raíz.
+     *
+     * @param score evaluación guardada en la tabla
+     * @param ply ply de la posición
+     * @return evaluación relativa a la raíz
+     */
+    public static int scoreFromTable(int score, int ply) {
+        if (score >= SearchEngine.MATE_SCORE - SearchEngine.MAX_PLY) {
+            return score - ply;
+        }
+        if (score <= -SearchEngine.MATE_SCORE + SearchEngine.MAX_PLY) {
+            return score + ply;
+        }
+        return score;
+    }
+}
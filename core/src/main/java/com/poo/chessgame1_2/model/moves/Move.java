@@ -0,0 +1,402 @@
+package com.poo.chessgame1_2.model.moves;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.attacks.Attacks;
+
+/**
+ * Clase con las operaciones para codificar un movimiento en un único entero.
+ * Formato de los bits:
+ *  - 0..5   casilla de origen (boardJ * 8 + boardI)
+ *  - 6..11  casilla de destino
+ *  - 12..15 banderas del movimiento (captura, enroque, en passant, promoción...)
+ *  - 16..18 tipo de pieza de la promoción (índice de Position)
+ * Al ser un tipo primitivo, generar y recorrer movimientos no crea objetos.
+ */
+public final class Move {
+    public static final int NONE = 0; // Movimiento nulo (a1 -> a1)
+
+    // Banderas del movimiento
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+    public static final int PROMOTION_CAPTURE = 12;
+
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int FLAGS_SHIFT = 12;
+    private static final int PROMOTION_SHIFT = 16;
+    private static final long FILE_A = 0x0101010101010101L; // Casillas de la columna a
+    private static final long RANK_1 = 0xFFL; // Casillas de la fila 1
+    private static final ThreadLocal<MoveList> REPLIES = ThreadLocal.withInitial(MoveList::new); // Respuestas al jaque (para el jaque mate)
+
+    private Move() {
+    }
+
+    /**
+     * Codifica un movimiento sin promoción.
+     *
+     * @param from casilla de origen
+     * @param to casilla de destino
+     * @param flags banderas del movimiento
+     * @return movimiento codificado
+     */
+    public static int encode(int from, int to, int flags) {
+        return from | (to << 6) | (flags << FLAGS_SHIFT);
+    }
+
+    /**
+     * Codifica un movimiento con promoción.
+     *
+     * @param from casilla de origen
+     * @param to casilla de destino
+     * @param flags PROMOTION o PROMOTION_CAPTURE
+     * @param promotion tipo de pieza a la que se promociona
+     * @return movimiento codificado
+     */
+    public static int encode(int from, int to, int flags, int promotion) {
+        return from | (to << 6) | (flags << FLAGS_SHIFT) | (promotion << PROMOTION_SHIFT);
+    }
+
+    /**
+     * Obtiene la casilla de origen.
+     *
+     * @param move movimiento codificado
+     * @return casilla de origen
+     */
+    public static int from(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    /**
+     * Obtiene la casilla de destino.
+     *
+     * @param move movimiento codificado
+     * @return casilla de destino
+     */
+    public static int to(int move) {
+        return (move >>> 6) & SQUARE_MASK;
+    }
+
+    /**
+     * Obtiene las banderas del movimiento.
+     *
+     * @param move movimiento codificado
+     * @return banderas del movimiento
+     */
+    public static int flags(int move) {
+        return (move >>> FLAGS_SHIFT) & 0xF;
+    }
+
+    /**
+     * Obtiene el tipo de pieza de la promoción.
+     *
+     * @param move movimiento codificado
+     * @return tipo de pieza (solo tiene sentido si isPromotion devuelve true)
+     */
+    public static int promotion(int move) {
+        return (move >>> PROMOTION_SHIFT) & 0x7;
+    }
+
+    /**
+     * Verifica si el movimiento captura una pieza (incluye en passant).
+     *
+     * @param move movimiento codificado
+     * @return true si es una captura
+     */
+    public static boolean isCapture(int move) {
+        return (flags(move) & CAPTURE) != 0;
+    }
+
+    /**
+     * Verifica si el movimiento es una promoción.
+     *
+     * @param move movimiento codificado
+     * @return true si es una promoción
+     */
+    public static boolean isPromotion(int move) {
+        return (flags(move) & PROMOTION) != 0;
+    }
+
+    /**
+     * Verifica si el movimiento es un enroque.
+     *
+     * @param move movimiento codificado
+     * @return true si es un enroque
+     */
+    public static boolean isCastle(int move) {
+        int flags = flags(move);
+        return flags == KING_CASTLE || flags == QUEEN_CASTLE;
+    }
+
+    /**
+     * Verifica si el movimiento es una captura al paso.
+     *
+     * @param move movimiento codificado
+     * @return true si es una captura al paso
+     */
+    public static boolean isEnPassant(int move) {
+        return flags(move) == EN_PASSANT;
+    }
+
+    /**
+     * Convierte el movimiento en notación de coordenadas (por ejemplo "e2e4" o "e7e8q").
+     *
+     * @param move movimiento codificado
+     * @return cadena con la casilla de origen, la de destino y la pieza de promoción si la hay
+     */
+    public static String toCoordinates(int move) {
+        StringBuilder sb = new StringBuilder(5);
+        appendSquare(sb, from(move));
+        appendSquare(sb, to(move));
+        if (isPromotion(move)) {
+            sb.append("bknpqr".charAt(promotion(move))); // Letras en el orden de los índices de Position
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Añade el movimiento en notación algebraica estándar (SAN): "e4", "Nbd2", "exd5", "O-O", "e8=Q", "Qh4#"...
+     * La ambigüedad se resuelve con las piezas del mismo tipo que atacan la casilla de destino (consulta de
+     * bitboards), y solo si hay alguna se comprueba en la lista de movimientos legales que puedan moverse (clavadas).
+     * Para añadir "+" o "#" el movimiento se realiza y se deshace en la posición; las respuestas al jaque
+     * se generan en una lista auxiliar de cada hilo, por lo que no se crean objetos.
+     *
+     * @param sb destino
+     * @param move movimiento codificado (legal en la posición)
+     * @param position posición antes del movimiento (al terminar queda igual)
+     * @param legalMoves movimientos legales de la posición (no se modifican)
+     */
+    public static void appendSAN(StringBuilder sb, int move, Position position, MoveList legalMoves) {
+        int flags = flags(move);
+        if (flags == KING_CASTLE) {
+            sb.append("O-O");
+        } else if (flags == QUEEN_CASTLE) {
+            sb.append("O-O-O");
+        } else {
+            int from = from(move);
+            int to = to(move);
+            int pieceType = position.typeAt(from);
+            if (pieceType == Position.PAWN) {
+                if (isCapture(move)) {
+                    sb.append((char) ('a' + (from & 7))).append('x');
+                }
+                appendSquare(sb, to);
+                if (isPromotion(move)) {
+                    sb.append('=').append(Character.toUpperCase("bknpqr".charAt(promotion(move))));
+                }
+            } else {
+                sb.append(Character.toUpperCase("bknpqr".charAt(pieceType)));
+                appendDisambiguation(sb, from, to, pieceType, position, legalMoves);
+                if (isCapture(move)) {
+                    sb.append('x');
+                }
+                appendSquare(sb, to);
+            }
+        }
+
+        position.makeMove(move);
+        int side = position.getSideToMove();
+        if (position.isInCheck(side)) {
+            sb.append(MoveGenerator.hasLegalMoves(position, REPLIES.get()) ? '+' : '#');
+        }
+        position.unmakeMove(move);
+    }
+
+    /**
+     * Añade la columna, la fila o la casilla de origen cuando otra pieza del mismo tipo y color también puede
+     * llegar a la casilla de destino.
+     */
+    private static void appendDisambiguation(StringBuilder sb, int from, int to, int pieceType, Position position,
+                                             MoveList legalMoves) {
+        long occupancy = position.getOccupancy();
+        long attackers;
+        switch (pieceType) {
+            case Position.KNIGHT:
+                attackers = Attacks.knightAttacks(to);
+                break;
+            case Position.BISHOP:
+                attackers = Attacks.bishopAttacks(to, occupancy);
+                break;
+            case Position.ROOK:
+                attackers = Attacks.rookAttacks(to, occupancy);
+                break;
+            case Position.QUEEN:
+                attackers = Attacks.queenAttacks(to, occupancy);
+                break;
+            default:
+                return; // Solo hay un rey
+        }
+        long others = attackers & position.getPieces(position.getSideToMove(), pieceType) & ~(1L << from);
+        for (long candidates = others; candidates != 0L; candidates &= candidates - 1) {
+            int square = Long.numberOfTrailingZeros(candidates);
+            if (!legalMoves.contains(square, to)) {
+                others &= ~(1L << square); // Pieza clavada
+            }
+        }
+        if (others == 0L) {
+            return;
+        }
+        if ((others & (FILE_A << (from & 7))) == 0L) {
+            sb.append((char) ('a' + (from & 7)));
+        } else if ((others & (RANK_1 << (from & 56))) == 0L) {
+            sb.append((char) ('1' + (from >>> 3)));
+        } else {
+            appendSquare(sb, from);
+        }
+    }
+
+    /**
+     * Busca el movimiento escrito en notación de coordenadas (por ejemplo "e2e4" o "e7e8n") dentro de una lista
+     * de movimientos legales; es la operación inversa de {@link #toCoordinates(int)}.
+     * Si un peón llega a la última fila sin indicar la pieza, se promociona a reina.
+     *
+     * @param coordinates movimiento en notación de coordenadas
+     * @param legalMoves movimientos legales de la posición
+     * @return movimiento codificado, o Move.NONE si el texto no es válido o el movimiento no es legal
+     */
+    public static int fromCoordinates(CharSequence coordinates, MoveList legalMoves) {
+        int length = coordinates.length();
+        if (length != 4 && length != 5) {
+            return NONE;
+        }
+        int from = parseSquare(coordinates, 0);
+        int to = parseSquare(coordinates, 2);
+        int promotion = length == 5 ? "bknpqr".indexOf(Character.toLowerCase(coordinates.charAt(4))) : 4; // Reina
+        if (from < 0 || to < 0 || promotion < 0) {
+            return NONE;
+        }
+        for (int k = 0; k < legalMoves.size(); k++) {
+            int move = legalMoves.get(k);
+            if (from(move) == from && to(move) == to && (!isPromotion(move) || promotion(move) == promotion)) {
+                return move;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Busca el movimiento escrito en notación algebraica estándar (SAN, por ejemplo "Nf3", "exd5", "O-O" o "e8=Q+")
+     * dentro de una lista de movimientos legales. También se aceptan las variantes habituales: enroques con ceros,
+     * promociones sin "=", la casilla de origen completa ("Ng1f3") y los sufijos "+", "#", "!" y "?".
+     * Si un peón llega a la última fila sin indicar la pieza, se promociona a reina.
+     * El texto se lee directamente, sin crear cadenas.
+     *
+     * @param san texto que contiene el movimiento
+     * @param start índice del primer carácter del movimiento
+     * @param end índice siguiente al último carácter del movimiento
+     * @param position posición antes del movimiento
+     * @param legalMoves movimientos legales de la posición
+     * @return movimiento codificado, o Move.NONE si el texto no es válido, el movimiento no es legal o es ambiguo
+     */
+    public static int fromSAN(CharSequence san, int start, int end, Position position, MoveList legalMoves) {
+        while (end > start && isAnnotation(san.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start < 2) {
+            return NONE;
+        }
+
+        // Enroques
+        char first = san.charAt(start);
+        if (first == 'O' || first == '0') {
+            int castleFlags = end - start == 5 ? QUEEN_CASTLE : end - start == 3 ? KING_CASTLE : -1;
+            for (int k = 0; k < legalMoves.size(); k++) {
+                if (flags(legalMoves.get(k)) == castleFlags) {
+                    return legalMoves.get(k);
+                }
+            }
+            return NONE;
+        }
+
+        int k = start;
+        int pieceType = Position.PAWN;
+        if (first == 'K' || first == 'Q' || first == 'R' || first == 'B' || first == 'N') {
+            pieceType = "bknpqr".indexOf(Character.toLowerCase(first));
+            k++;
+        }
+
+        int promotion = -1;
+        char last = san.charAt(end - 1);
+        if (pieceType == Position.PAWN && last > '8') {
+            promotion = "bnqr".indexOf(Character.toLowerCase(last)) >= 0
+                    ? "bknpqr".indexOf(Character.toLowerCase(last)) : -1;
+            if (promotion < 0) {
+                return NONE;
+            }
+            end--;
+            if (end > k && san.charAt(end - 1) == '=') {
+                end--;
+            }
+        }
+        if (end - k < 2) {
+            return NONE;
+        }
+        int to = parseSquare(san, end - 2);
+        if (to < 0) {
+            return NONE;
+        }
+
+        // Origen parcial o completo, y la "x" de las capturas
+        int fromFile = -1, fromRank = -1;
+        for (; k < end - 2; k++) {
+            char c = san.charAt(k);
+            if (c >= 'a' && c <= 'h') {
+                fromFile = c - 'a';
+            } else if (c >= '1' && c <= '8') {
+                fromRank = c - '1';
+            } else if (c != 'x' && c != ':' && c != '-') {
+                return NONE;
+            }
+        }
+
+        int found = NONE;
+        for (int i = 0; i < legalMoves.size(); i++) {
+            int move = legalMoves.get(i);
+            int from = from(move);
+            if (to(move) != to || position.typeAt(from) != pieceType
+                    || (fromFile >= 0 && (from & 7) != fromFile) || (fromRank >= 0 && (from >>> 3) != fromRank)) {
+                continue;
+            }
+            if (isPromotion(move) ? promotion(move) != (promotion < 0 ? Position.QUEEN : promotion) : promotion >= 0) {
+                continue;
+            }
+            if (found != NONE) {
+                return NONE; // Ambiguo
+            }
+            found = move;
+        }
+        return found;
+    }
+
+    /**
+     * Verifica si un carácter es un sufijo de jaque o de comentario ("+", "#", "!" o "?").
+     */
+    private static boolean isAnnotation(char c) {
+        return c == '+' || c == '#' || c == '!' || c == '?';
+    }
+
+    /**
+     * Lee una casilla en notación algebraica ("a1".."h8").
+     *
+     * @return índice de la casilla o -1 si no es válida
+     */
+    private static int parseSquare(CharSequence text, int offset) {
+        char file = text.charAt(offset);
+        char rank = text.charAt(offset + 1);
+        if (file < 'a' || file > 'h' || rank < '1' || rank > '8') {
+            return -1;
+        }
+        return (file - 'a') | ((rank - '1') << 3);
+    }
+
+    /**
+     * Añade la casilla en notación algebraica ("a1".."h8").
+     */
+    private static void appendSquare(StringBuilder sb, int square) {
+        sb.append((char) ('a' + (square & 7)));
+        sb.append((char) ('1' + (square >>> 3)));
+    }
+}
@@ -0,0 +1,254 @@
+package com.poo.chessgame1_2.model.moves;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.attacks.Attacks;
+
+/**
+ * Generador de movimientos legales para el jugador que tiene el turno.
+ * Calcula una sola vez por posición las piezas que dan jaque y las piezas clavadas, y con ello
+ * restringe los destinos de cada pieza, por lo que nunca necesita realizar un movimiento para
+ * comprobar si deja al rey en jaque.
+ */
+public final class MoveGenerator {
+    private static final long RANK_1 = 0xFFL; // Fila 1
+    private static final long RANK_8 = 0xFFL << 56; // Fila 8
+    private static final int[] PROMOTION_TYPES = {Position.QUEEN, Position.ROOK, Position.BISHOP, Position.KNIGHT}; // La reina va primero
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * Añade a la lista todos los movimientos legales del jugador que tiene el turno.
+     *
+     * @param position posición del tablero
+     * @param moveList lista donde se añaden los movimientos codificados
+     */
+    public static void generateLegalMoves(Position position, MoveList moveList) {
+        int us = position.getSideToMove();
+        int them = us ^ 1;
+        long own = position.getColorOccupancy(us);
+        long enemies = position.getColorOccupancy(them);
+        long occupancy = position.getOccupancy();
+
+        long kingBit = position.getPieces(us, Position.KING);
+        if (kingBit == 0L) {
+            return;
+        }
+        int kingSquare = Long.numberOfTrailingZeros(kingBit);
+        long checkers = position.attackersTo(kingSquare, them);
+
+        // El rey se retira de la ocupación para que no tape las casillas que quedan detrás de él.
+        long kingTargets = Attacks.kingAttacks(kingSquare) & ~own;
+        while (kingTargets != 0L) {
+            int to = Long.numberOfTrailingZeros(kingTargets);
+            if (!position.isSquareAttacked(to, them, occupancy ^ kingBit)) {
+                moveList.add(Move.encode(kingSquare, to, (enemies & (1L << to)) != 0L ? Move.CAPTURE : Move.QUIET));
+            }
+            kingTargets &= kingTargets - 1;
+        }
+
+        // Con jaque doble solo puede moverse el rey.
+        if (Long.bitCount(checkers) > 1) {
+            return;
+        }
+
+        // Casillas a las que deben ir las demás piezas: capturar a la pieza que da jaque o interponerse.
+        long checkMask = -1L;
+        if (checkers != 0L) {
+            checkMask = checkers | Attacks.between(kingSquare, Long.numberOfTrailingZeros(checkers));
+        } else {
+            addCastlingMoves(position, us, kingSquare, occupancy, moveList);
+        }
+
+        long pinned = pinnedPieces(position, us, kingSquare);
+        long targetMask = ~own & checkMask;
+
+        long knights = position.getPieces(us, Position.KNIGHT) & ~pinned; // Un caballo clavado nunca puede moverse
+        while (knights != 0L) {
+            int from = Long.numberOfTrailingZeros(knights);
+            addMoves(from, Attacks.knightAttacks(from) & targetMask, enemies, moveList);
+            knights &= knights - 1;
+        }
+
+        long queens = position.getPieces(us, Position.QUEEN);
+        long bishops = position.getPieces(us, Position.BISHOP) | queens;
+        while (bishops != 0L) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            long targets = Attacks.bishopAttacks(from, occupancy) & targetMask;
+            if ((pinned & (1L << from)) != 0L) {
+                targets &= Attacks.line(kingSquare, from);
+            }
+            addMoves(from, targets, enemies, moveList);
+            bishops &= bishops - 1;
+        }
+
+        long rooks = position.getPieces(us, Position.ROOK) | queens;
+        while (rooks != 0L) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            long targets = Attacks.rookAttacks(from, occupancy) & targetMask;
+            if ((pinned & (1L << from)) != 0L) {
+                targets &= Attacks.line(kingSquare, from);
+            }
+            addMoves(from, targets, enemies, moveList);
+            rooks &= rooks - 1;
+        }
+
+        addPawnMoves(position, us, kingSquare, checkers, checkMask, pinned, moveList);
+    }
+
+    /**
+     * Verifica si el jugador que tiene el turno dispone de al menos un movimiento legal.
+     *
+     * @param position posición del tablero
+     * @param moveList lista auxiliar que se utiliza para generar los movimientos
+     * @return true si hay algún movimiento legal, false si es jaque mate o ahogado
+     */
+    public static boolean hasLegalMoves(Position position, MoveList moveList) {
+        moveList.clear();
+        generateLegalMoves(position, moveList);
+        return !moveList.isEmpty();
+    }
+
+    /**
+     * Calcula las piezas propias clavadas contra el rey por alfiles, torres o reinas enemigas.
+     *
+     * @param position posición del tablero
+     * @param us color del jugador
+     * @param kingSquare casilla del rey
+     * @return bitboard con las piezas clavadas
+     */
+    private static long pinnedPieces(Position position, int us, int kingSquare) {
+        int them = us ^ 1;
+        long enemies = position.getColorOccupancy(them);
+        long enemyQueens = position.getPieces(them, Position.QUEEN);
+        long snipers = (Attacks.rookAttacks(kingSquare, enemies) & (position.getPieces(them, Position.ROOK) | enemyQueens))
+                | (Attacks.bishopAttacks(kingSquare, enemies) & (position.getPieces(them, Position.BISHOP) | enemyQueens));
+
+        long pinned = 0L;
+        while (snipers != 0L) {
+            int sniper = Long.numberOfTrailingZeros(snipers);
+            long blockers = Attacks.between(kingSquare, sniper) & position.getOccupancy();
+            if (Long.bitCount(blockers) == 1) {
+                pinned |= blockers & position.getColorOccupancy(us);
+            }
+            snipers &= snipers - 1;
+        }
+        return pinned;
+    }
+
+    /**
+     * Añade los enroques disponibles. Solo se llama cuando el rey no está en jaque; además comprueba
+     * que las casillas intermedias estén vacías y que el rey no pase por casillas atacadas.
+     */
+    private static void addCastlingMoves(Position position, int us, int kingSquare, long occupancy, MoveList moveList) {
+        int them = us ^ 1;
+        int castlingRights = position.getCastlingRights();
+        int kingSide = us == Position.WHITE ? Position.WHITE_KING_SIDE : Position.BLACK_KING_SIDE;
+        int queenSide = us == Position.WHITE ? Position.WHITE_QUEEN_SIDE : Position.BLACK_QUEEN_SIDE;
+
+        if ((castlingRights & kingSide) != 0 && (occupancy & ((1L << (kingSquare + 1)) | (1L << (kingSquare + 2)))) == 0L
+                && !position.isSquareAttacked(kingSquare + 1, them) && !position.isSquareAttacked(kingSquare + 2, them)) {
+            moveList.add(Move.encode(kingSquare, kingSquare + 2, Move.KING_CASTLE));
+        }
+        if ((castlingRights & queenSide) != 0
+                && (occupancy & ((1L << (kingSquare - 1)) | (1L << (kingSquare - 2)) | (1L << (kingSquare - 3)))) == 0L
+                && !position.isSquareAttacked(kingSquare - 1, them) && !position.isSquareAttacked(kingSquare - 2, them)) {
+            moveList.add(Move.encode(kingSquare, kingSquare - 2, Move.QUEEN_CASTLE));
+        }
+    }
+
+    /**
+     * Añade los movimientos de los peones: avances, avances dobles, capturas, promociones y captura al paso.
+     */
+    private static void addPawnMoves(Position position, int us, int kingSquare, long checkers, long checkMask,
+                                     long pinned, MoveList moveList) {
+        int them = us ^ 1;
+        long occupancy = position.getOccupancy();
+        long enemies = position.getColorOccupancy(them);
+        int forward = us == Position.WHITE ? 8 : -8;
+        int startRank = us == Position.WHITE ? 1 : 6;
+        long promotionRank = us == Position.WHITE ? RANK_8 : RANK_1;
+
+        long pawns = position.getPieces(us, Position.PAWN);
+        while (pawns != 0L) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+
+            long allowed = checkMask;
+            if ((pinned & (1L << from)) != 0L) {
+                allowed &= Attacks.line(kingSquare, from);
+            }
+
+            int to = from + forward;
+            if ((occupancy & (1L << to)) == 0L) {
+                if ((allowed & (1L << to)) != 0L) {
+                    addPawnMove(from, to, Move.QUIET, promotionRank, moveList);
+                }
+                int doubleTo = to + forward;
+                if (Position.rankOf(from) == startRank && (occupancy & (1L << doubleTo)) == 0L
+                        && (allowed & (1L << doubleTo)) != 0L) {
+                    moveList.add(Move.encode(from, doubleTo, Move.DOUBLE_PAWN_PUSH));
+                }
+            }
+
+            long attacks = Attacks.pawnAttacks(us, from);
+            long captures = attacks & enemies & allowed;
+            while (captures != 0L) {
+                addPawnMove(from, Long.numberOfTrailingZeros(captures), Move.CAPTURE, promotionRank, moveList);
+                captures &= captures - 1;
+            }
+
+            int enPassantSquare = position.getEnPassantSquare();
+            if (enPassantSquare != Position.NONE && (attacks & (1L << enPassantSquare)) != 0L
+                    && isLegalEnPassant(position, us, kingSquare, checkers, from, enPassantSquare)) {
+                moveList.add(Move.encode(from, enPassantSquare, Move.EN_PASSANT));
+            }
+        }
+    }
+
+    /**
+     * Verifica la captura al paso rehaciendo la ocupación: desaparecen dos peones de la misma fila y aparece
+     * uno en otra casilla, lo que puede descubrir un ataque de una pieza deslizante (incluso horizontal) sobre el rey.
+     */
+    private static boolean isLegalEnPassant(Position position, int us, int kingSquare, long checkers, int from, int to) {
+        int them = us ^ 1;
+        long capturedBit = 1L << Position.square(Position.fileOf(to), Position.rankOf(from));
+
+        // Un jaque de caballo o de otro peón no se resuelve capturando al paso.
+        long sliders = position.getPieces(them, Position.ROOK) | position.getPieces(them, Position.BISHOP)
+                | position.getPieces(them, Position.QUEEN);
+        if ((checkers & ~sliders & ~capturedBit) != 0L) {
+            return false;
+        }
+
+        long occupancy = (position.getOccupancy() ^ (1L << from) ^ capturedBit) | (1L << to);
+        long queens = position.getPieces(them, Position.QUEEN);
+        return (Attacks.rookAttacks(kingSquare, occupancy) & (position.getPieces(them, Position.ROOK) | queens)) == 0L
+                && (Attacks.bishopAttacks(kingSquare, occupancy) & (position.getPieces(them, Position.BISHOP) | queens)) == 0L;
+    }
+
+    /**
+     * Añade un movimiento de peón, o las cuatro promociones si llega a la última fila.
+     */
+    private static void addPawnMove(int from, int to, int flags, long promotionRank, MoveList moveList) {
+        if ((promotionRank & (1L << to)) != 0L) {
+            int promotionFlags = flags == Move.CAPTURE ? Move.PROMOTION_CAPTURE : Move.PROMOTION;
+            for (int type : PROMOTION_TYPES) {
+                moveList.add(Move.encode(from, to, promotionFlags, type));
+            }
+        } else {
+            moveList.add(Move.encode(from, to, flags));
+        }
+    }
+
+    /**
+     * Añade un movimiento por cada casilla activa del bitboard, marcando como captura las ocupadas por el rival.
+     */
+    private static void addMoves(int from, long targets, long enemies, MoveList moveList) {
+        while (targets != 0L) {
+            int to = Long.numberOfTrailingZeros(targets);
+            moveList.add(Move.encode(from, to, (enemies & (1L << to)) != 0L ? Move.CAPTURE : Move.QUIET));
+            targets &= targets - 1;
+        }
+    }
+}
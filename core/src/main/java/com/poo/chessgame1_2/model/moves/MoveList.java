@@ -0,0 +1,95 @@
+package com.poo.chessgame1_2.model.moves;
+
+/**
+ * Clase que almacena movimientos codificados (ver {@link Move}) en un arreglo de enteros reutilizable.
+ * Los generadores añaden los movimientos directamente en el arreglo y la lista se vacía con clear(),
+ * por lo que una misma instancia puede usarse para todas las generaciones sin crear objetos nuevos.
+ */
+public class MoveList {
+    public static final int MAX_MOVES = 256; // Máximo de movimientos en una posición de ajedrez
+
+    private final int[] moves = new int[MAX_MOVES]; // Movimientos codificados
+    private int size = 0; // Número de movimientos almacenados
+
+    /**
+     * Añade un movimiento al final de la lista.
+     *
+     * @param move movimiento codificado
+     */
+    public void add(int move) {
+        moves[size++] = move;
+    }
+
+    /**
+     * Obtiene el movimiento en la posición indicada.
+     *
+     * @param index posición en la lista
+     * @return movimiento codificado
+     */
+    public int get(int index) {
+        return moves[index];
+    }
+
+    /**
+     * Reemplaza el movimiento en la posición indicada.
+     *
+     * @param index posición en la lista
+     * @param move movimiento codificado
+     */
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    /**
+     * Obtiene el número de movimientos de la lista.
+     *
+     * @return número de movimientos
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica si la lista está vacía.
+     *
+     * @return true si no hay movimientos
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Vacía la lista sin liberar el arreglo.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Busca un movimiento con las casillas de origen y destino indicadas.
+     *
+     * @param from casilla de origen
+     * @param to casilla de destino
+     * @return el primer movimiento que coincide o Move.NONE si no hay ninguno
+     */
+    public int find(int from, int to) {
+        for (int i = 0; i < size; i++) {
+            int move = moves[i];
+            if (Move.from(move) == from && Move.to(move) == to) {
+                return move;
+            }
+        }
+        return Move.NONE;
+    }
+
+    /**
+     * Verifica si la lista contiene un movimiento con las casillas de origen y destino indicadas.
+     *
+     * @param from casilla de origen
+     * @param to casilla de destino
+     * @return true si existe el movimiento
+     */
+    public boolean contains(int from, int to) {
+        return find(from, to) != Move.NONE;
+    }
+}
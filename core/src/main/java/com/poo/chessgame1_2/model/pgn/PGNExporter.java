@@ -0,0 +1,468 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.utils.FENParser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exportador de partidas a un único archivo PGN (o a un flujo gzip).
+ * Cada partida se escribe en notación SAN en un buffer de bytes grande que se reutiliza; cuando se llena,
+ * un hilo escritor lo envía al disco mientras se sigue llenando otro buffer, de modo que dar formato a las partidas
+ * y escribirlas en el disco se solapan. Solo hay unos pocos buffers, por lo que la memoria utilizada no depende
+ * del número de partidas. Mientras no se llena el primer buffer no hay hilo escritor ni buffers de reserva:
+ * exportar una sola partida (por ejemplo, al guardar la partida actual) la escribe directamente al cerrar.
+ * El hilo escritor es daemon, por lo que un exportador que no se cierra no impide que termine la aplicación
+ * (pero las partidas que no llegaron al disco se pierden).
+ *
+ * El método write debe llamarse desde un único hilo. Para no bloquear la interfaz, {@link #exportAsync}
+ * realiza toda la exportación (abrir, escribir y cerrar el archivo) en un hilo propio y avisa al terminar.
+ *
+ * Uso: &lt;entrada.pgn&gt; &lt;salida.pgn&gt; [--gzip] [--threads N] [--buffer MB]
+ */
+public class PGNExporter implements Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20; // Tamaño de cada buffer (1 MB)
+    private static final int BUFFERS = 3; // Buffers del exportador: uno que se llena y hasta dos esperando al disco
+    private static final int GZIP_BUFFER_SIZE = 64 << 10; // Buffer interno del compresor
+    private static final int MAX_LINE_SIZE = 79; // Longitud máxima de las líneas de movimientos (formato de exportación PGN)
+    private static final int MAX_CHAR_BYTES = 4; // Bytes máximos de un carácter en UTF-8
+    private static final ByteBuffer END = ByteBuffer.allocate(0); // Marca que indica al hilo escritor que termine
+
+    private final OutputStream out; // Destino de los bytes
+    private final BlockingQueue<ByteBuffer> filled = new ArrayBlockingQueue<>(BUFFERS + 1); // Buffers llenos, en orden
+    private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(BUFFERS); // Buffers vacíos
+    private Thread writer; // Hilo que escribe los buffers llenos (se inicia al llenarse el primer buffer)
+    private volatile IOException failure; // Primer error de escritura (se informa en write o close)
+    private ByteBuffer buffer; // Buffer que se está llenando
+    private long bytesWritten; // Bytes de texto PGN entregados al hilo escritor
+    private boolean closed; // true si ya se cerró el exportador
+
+    private final Position startPosition = new Position(); // Posición inicial estándar
+    private final Position position = new Position(); // Posición donde se reproduce la partida que se escribe
+    private final MoveList legalMoves = new MoveList(); // Movimientos legales de la posición
+    private final StringBuilder text = new StringBuilder(4096); // Texto de la partida que se escribe (reutilizable)
+    private int lineStart; // Índice del texto donde empieza la línea de movimientos actual
+
+    /**
+     * Interfaz que recibe el aviso de que terminó una exportación en segundo plano.
+     */
+    @FunctionalInterface
+    public interface Callback {
+
+        /**
+         * Se llama desde el hilo de la exportación cuando termina, con éxito o con error.
+         *
+         * @param games número de partidas escritas
+         * @param error error de entrada/salida (IOException) o partida que no se pudo escribir
+         *              (por ejemplo, IllegalArgumentException por una posición FEN no válida),
+         *              o null si el archivo se escribió completo
+         */
+        void exportFinished(long games, Exception error);
+    }
+
+    /**
+     * Constructor que crea (o reemplaza) el archivo PGN.
+     *
+     * @param file archivo de destino
+     * @param gzip true para comprimir el archivo con gzip
+     * @param bufferSize tamaño de cada buffer en bytes
+     * @throws IOException si no se puede crear el archivo
+     */
+    public PGNExporter(Path file, boolean gzip, int bufferSize) throws IOException {
+        this(open(file, gzip), bufferSize);
+    }
+
+    /**
+     * Constructor que escribe en un flujo de salida. El flujo se cierra al cerrar el exportador.
+     *
+     * @param out flujo de destino
+     * @param bufferSize tamaño de cada buffer en bytes
+     */
+    public PGNExporter(OutputStream out, int bufferSize) {
+        this.out = out;
+        buffer = ByteBuffer.allocate(bufferSize);
+        FENParser.parse(FENParser.START_FEN, startPosition);
+    }
+
+    /**
+     * Reserva los demás buffers e inicia el hilo escritor (al llenarse el primer buffer).
+     */
+    private void startWriter() {
+        for (int k = 1; k < BUFFERS; k++) {
+            free.add(ByteBuffer.allocate(buffer.capacity()));
+        }
+        writer = new Thread(this::writeBuffers, "Escritor PGN");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Abre el archivo de destino, con compresión gzip si se indica.
+     */
+    private static OutputStream open(Path file, boolean gzip) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        return gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out;
+    }
+
+    /**
+     * Exporta las partidas en un hilo nuevo, sin bloquear el hilo que llama (por ejemplo, el de la interfaz).
+     *
+     * @param games partidas a exportar (no deben modificarse hasta que termine la exportación)
+     * @param file archivo de destino
+     * @param gzip true para comprimir el archivo con gzip
+     * @param callback aviso al terminar, llamado desde el hilo de la exportación
+     * @return hilo de la exportación (ya iniciado)
+     */
+    public static Thread exportAsync(Iterable<PGNGame> games, Path file, boolean gzip, Callback callback) {
+        Thread thread = new Thread(() -> {
+            long count = 0;
+            Exception error = null;
+            try (PGNExporter exporter = new PGNExporter(file, gzip, DEFAULT_BUFFER_SIZE)) {
+                for (PGNGame game : games) {
+                    exporter.write(game);
+                    count++;
+                }
+            } catch (IOException | RuntimeException e) {
+                error = e;
+            }
+            callback.exportFinished(count, error);
+        }, "Exportación PGN");
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Método principal del exportador: importa un archivo PGN y lo vuelve a escribir, mostrando la velocidad.
+     *
+     * @param args Argumentos de línea de comandos (ver la descripción de la clase).
+     */
+    public static void main(String[] args) throws IOException {
+        String input = null;
+        String output = null;
+        boolean gzip = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int bufferMegabytes = DEFAULT_BUFFER_SIZE >> 20;
+        for (int k = 0; k < args.length; k++) {
+            switch (args[k]) {
+                case "--gzip":
+                    gzip = true;
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++k]);
+                    break;
+                case "--buffer":
+                    bufferMegabytes = Integer.parseInt(args[++k]);
+                    break;
+                default:
+                    if (output != null || args[k].startsWith("--")) {
+                        System.out.println("Argumento desconocido: " + args[k]);
+                        return;
+                    }
+                    if (input == null) {
+                        input = args[k];
+                    } else {
+                        output = args[k];
+                    }
+            }
+        }
+        if (output == null) {
+            System.out.println("Uso: <entrada.pgn> <salida.pgn> [--gzip] [--threads N] [--buffer MB]");
+            return;
+        }
+
+        long start = System.nanoTime();
+        long games;
+        PGNExporter exporter = new PGNExporter(Path.of(output), gzip, bufferMegabytes << 20);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try (exporter) {
+            games = new PGNImporter(pool, PGNImporter.DEFAULT_CHUNK_SIZE).importFile(Path.of(input), game -> {
+                try {
+                    exporter.write(game);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        long bytes = exporter.getBytesWritten();
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        System.out.println(games + " partidas, " + (bytes >> 20) + " MB | " + millis + " ms | "
+                + (games * 1000 / millis) + " partidas/s | " + (bytes * 1000 / millis >> 20) + " MB/s");
+    }
+
+    /**
+     * Escribe una partida: sus etiquetas en el orden de la partida, los movimientos en notación SAN
+     * (reproducidos desde la posición inicial de la partida) y el resultado.
+     *
+     * @param game partida con movimientos legales
+     * @throws IOException si falló la escritura de un buffer anterior
+     */
+    public void write(PGNGame game) throws IOException {
+        if (closed) {
+            throw new IOException("El exportador PGN está cerrado");
+        }
+        text.setLength(0);
+        appendGame(game);
+        put(text);
+    }
+
+    /**
+     * Obtiene el número de bytes de texto PGN escritos hasta el momento (antes de comprimirlos).
+     * Incluye el buffer que se está llenando.
+     *
+     * @return bytes escritos
+     */
+    public long getBytesWritten() {
+        return bytesWritten + (closed ? 0 : buffer.position());
+    }
+
+    /**
+     * Envía al disco el último buffer, espera a que el hilo escritor termine y cierra el destino.
+     *
+     * @throws IOException si falló alguna escritura
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            bytesWritten += buffer.position();
+            if (writer == null) {
+                // Nunca se llenó un buffer: se escribe directamente, sin hilo escritor
+                out.write(buffer.array(), 0, buffer.position());
+            } else {
+                buffer.flip();
+                filled.put(buffer);
+                filled.put(END);
+                writer.join();
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writer.interrupt();
+            throw new InterruptedIOException("Exportación PGN interrumpida");
+        } finally {
+            buffer = null;
+            try {
+                out.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Añade al texto la partida completa en formato de exportación PGN.
+     */
+    private void appendGame(PGNGame game) {
+        for (Map.Entry<String, String> tag : game.getTags().entrySet()) {
+            text.append('[').append(tag.getKey()).append(" \"");
+            appendEscaped(tag.getValue());
+            text.append("\"]\n");
+        }
+        text.append('\n');
+
+        String fen = game.getTag("FEN");
+        if (fen == null) {
+            position.copyFrom(startPosition);
+        } else {
+            FENParser.parse(fen, position);
+        }
+        int moveNumber = fen == null ? 1 : fullMoveNumber(fen);
+
+        lineStart = text.length();
+        for (int k = 0; k < game.getMoveCount(); k++) {
+            int move = game.getMove(k);
+            int unitStart = startToken();
+            if (position.getSideToMove() == Position.WHITE) {
+                text.append(moveNumber).append(". ");
+            } else if (k == 0) {
+                text.append(moveNumber).append("... ");
+            }
+            if (position.getSideToMove() == Position.BLACK) {
+                moveNumber++;
+            }
+
+            legalMoves.clear();
+            MoveGenerator.generateLegalMoves(position, legalMoves);
+            Move.appendSAN(text, move, position, legalMoves);
+            wrapLine(unitStart);
+            position.makeMove(move);
+        }
+        int resultStart = startToken();
+        text.append(game.getResult());
+        wrapLine(resultStart);
+        text.append("\n\n");
+    }
+
+    /**
+     * Separa el siguiente token de movimientos del anterior con un espacio (salvo al comienzo de una línea).
+     *
+     * @return índice donde empieza el token
+     */
+    private int startToken() {
+        if (text.length() > lineStart) {
+            text.append(' ');
+        }
+        return text.length();
+    }
+
+    /**
+     * Pasa el último token (un movimiento con su número de jugada, o el resultado) a la línea siguiente
+     * si la línea supera la longitud máxima.
+     *
+     * @param tokenStart índice donde empieza el token
+     */
+    private void wrapLine(int tokenStart) {
+        if (text.length() - lineStart > MAX_LINE_SIZE && tokenStart > lineStart) {
+            text.setCharAt(tokenStart - 1, '\n');
+            lineStart = tokenStart;
+        }
+    }
+
+    /**
+     * Añade el valor de una etiqueta escapando las comillas y las barras.
+     */
+    private void appendEscaped(String value) {
+        for (int k = 0; k < value.length(); k++) {
+            char c = value.charAt(k);
+            if (c == '"' || c == '\\') {
+                text.append('\\');
+            }
+            text.append(c);
+        }
+    }
+
+    /**
+     * Obtiene el número de jugada del último campo de una posición FEN, o 1 si la posición no lo indica.
+     */
+    private static int fullMoveNumber(String fen) {
+        int end = fen.length();
+        while (end > 0 && fen.charAt(end - 1) == ' ') {
+            end--;
+        }
+        int start = end;
+        while (start > 0 && end - start < 6 && fen.charAt(start - 1) >= '0' && fen.charAt(start - 1) <= '9') {
+            start--;
+        }
+        if (start == end || start == 0 || fen.charAt(start - 1) != ' ') {
+            return 1;
+        }
+        return Math.max(1, Integer.parseInt(fen, start, end, 10));
+    }
+
+    /**
+     * Copia el texto al buffer en UTF-8 (los caracteres ASCII, casi todo el texto PGN, se copian directamente)
+     * y entrega el buffer al hilo escritor cada vez que se llena.
+     */
+    private void put(CharSequence chars) throws IOException {
+        byte[] bytes = buffer.array();
+        int position = buffer.position();
+        int limit = buffer.limit();
+        for (int k = 0; k < chars.length(); k++) {
+            if (limit - position < MAX_CHAR_BYTES) {
+                buffer.position(position);
+                swapBuffer();
+                bytes = buffer.array();
+                position = buffer.position();
+                limit = buffer.limit();
+            }
+            char c = chars.charAt(k);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && k + 1 < chars.length()
+                    && Character.isLowSurrogate(chars.charAt(k + 1))) {
+                int codePoint = Character.toCodePoint(c, chars.charAt(++k));
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                bytes[position++] = '?'; // Carácter incompleto
+            } else {
+                bytes[position++] = (byte) (0xE0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buffer.position(position);
+    }
+
+    /**
+     * Entrega el buffer lleno al hilo escritor y toma uno vacío (espera si el disco va más lento).
+     *
+     * @throws IOException si falló la escritura de un buffer anterior
+     */
+    private void swapBuffer() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        if (writer == null) {
+            startWriter();
+        }
+        try {
+            bytesWritten += buffer.position();
+            buffer.flip();
+            filled.put(buffer);
+            buffer = free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Exportación PGN interrumpida");
+        }
+    }
+
+    /**
+     * Bucle del hilo escritor: escribe los buffers llenos en orden y los devuelve vacíos.
+     * Después de un error sigue devolviendo los buffers sin escribirlos, para que el hilo que da formato no se bloquee.
+     */
+    private void writeBuffers() {
+        try {
+            while (true) {
+                ByteBuffer full = filled.take();
+                if (full == END) {
+                    return;
+                }
+                if (failure == null) {
+                    try {
+                        out.write(full.array(), full.position(), full.remaining());
+                    } catch (IOException e) {
+                        failure = e;
+                    }
+                }
+                full.clear();
+                free.put(full);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
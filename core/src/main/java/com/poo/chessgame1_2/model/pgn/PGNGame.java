@@ -0,0 +1,197 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.utils.FENParser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Partida leída de un archivo PGN: etiquetas, movimientos (ya comprobados al reproducirlos en un tablero),
+ * resultado y ubicación de la partida dentro del archivo.
+ * Los movimientos se guardan codificados (ver {@link Move}), por lo que la partida ocupa poca memoria.
+ * También representa las partidas jugadas en el programa, que se escriben con {@link PGNExporter}.
+ */
+public final class PGNGame {
+    private static final long[] NO_HASHES = new long[0]; // Claves de una partida que no se leyó de un archivo
+
+    private final long offset; // Posición del primer byte de la partida en el archivo (-1 si no se leyó de un archivo)
+    private final int length; // Número de bytes de la partida en el archivo
+    private final Map<String, String> tags; // Etiquetas en el orden del archivo (no se modifican)
+    private final int[] moves; // Movimientos codificados
+    private final String result; // Resultado ("1-0", "0-1", "1/2-1/2" o "*")
+    private final String error; // Motivo por el que no se pudo reproducir la partida (null si no hubo errores)
+    private final long[] positionHashes; // Claves Zobrist de las posiciones de la partida, en orden
+
+    /**
+     * Constructor de una partida jugada en el programa (no leída de un archivo).
+     *
+     * @param tags etiquetas de la partida, en el orden en que se escriben (se copian)
+     * @param moves movimientos codificados, legales desde la posición de la etiqueta FEN o desde la inicial (se copian)
+     * @param result resultado de la partida ("1-0", "0-1", "1/2-1/2" o "*")
+     */
+    public PGNGame(Map<String, String> tags, int[] moves, String result) {
+        this(-1, 0, new LinkedHashMap<>(tags), Arrays.copyOf(moves, moves.length), result, null, NO_HASHES);
+    }
+
+    /**
+     * Constructor de una partida leída de un archivo.
+     *
+     * @param offset posición del primer byte de la partida en el archivo
+     * @param length número de bytes de la partida en el archivo
+     * @param tags etiquetas de la partida
+     * @param moves movimientos codificados (el array no se copia)
+     * @param result resultado de la partida
+     * @param error motivo por el que no se pudo reproducir la partida completa, o null
+     * @param positionHashes claves Zobrist de las posiciones reproducidas, desde la inicial (el array no se copia)
+     */
+    PGNGame(long offset, int length, Map<String, String> tags, int[] moves, String result, String error,
+            long[] positionHashes) {
+        this.offset = offset;
+        this.length = length;
+        this.tags = Collections.unmodifiableMap(tags);
+        this.moves = moves;
+        this.result = result;
+        this.error = error;
+        this.positionHashes = positionHashes;
+    }
+
+    /**
+     * Obtiene la posición del primer byte de la partida en el archivo.
+     *
+     * @return desplazamiento en bytes, o -1 si la partida no se leyó de un archivo
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Obtiene el número de bytes que ocupa la partida en el archivo.
+     *
+     * @return longitud en bytes
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Obtiene el valor de una etiqueta (por ejemplo "White", "Date" o "ECO").
+     *
+     * @param name nombre de la etiqueta
+     * @return valor, o null si la partida no tiene esa etiqueta
+     */
+    public String getTag(String name) {
+        return tags.get(name);
+    }
+
+    /**
+     * Obtiene todas las etiquetas en el orden del archivo.
+     *
+     * @return mapa de solo lectura
+     */
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Obtiene el número de movimientos (medios movimientos) de la partida.
+     *
+     * @return número de movimientos
+     */
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    /**
+     * Obtiene un movimiento de la partida.
+     *
+     * @param index índice del movimiento (0 es el primer movimiento)
+     * @return movimiento codificado
+     */
+    public int getMove(int index) {
+        return moves[index];
+    }
+
+    /**
+     * Obtiene una copia de los movimientos de la partida.
+     *
+     * @return movimientos codificados
+     */
+    public int[] getMoves() {
+        return Arrays.copyOf(moves, moves.length);
+    }
+
+    /**
+     * Obtiene el número de posiciones de la partida cuya clave Zobrist se calculó al importarla: la posición inicial
+     * y la posición después de cada movimiento (0 si la partida no se leyó de un archivo o su posición inicial
+     * no es válida). Permite indexar las posiciones sin volver a reproducir la partida (ver {@link PositionIndex}).
+     *
+     * @return número de posiciones
+     */
+    public int getPositionCount() {
+        return positionHashes.length;
+    }
+
+    /**
+     * Obtiene la clave Zobrist de una posición de la partida (ver {@link com.poo.chessgame1_2.model.Position#getHash()}).
+     *
+     * @param index índice de la posición (0 es la posición inicial; k es la posición después de k movimientos)
+     * @return clave Zobrist
+     */
+    public long getPositionHash(int index) {
+        return positionHashes[index];
+    }
+
+    /**
+     * Obtiene el resultado escrito al final de la partida.
+     *
+     * @return "1-0", "0-1", "1/2-1/2" o "*"
+     */
+    public String getResult() {
+        return result;
+    }
+
+    /**
+     * Obtiene el motivo por el que no se pudo reproducir la partida (movimiento no válido, FEN no válido...).
+     * En ese caso la partida solo contiene los movimientos anteriores al error.
+     *
+     * @return descripción del error, o null si la partida se reprodujo completa
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Verifica si la partida se reprodujo completa.
+     *
+     * @return true si no hubo errores
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * Obtiene la posición inicial de la partida: la etiqueta FEN o, si no la tiene, la posición inicial estándar.
+     *
+     * @return posición inicial en notación FEN
+     */
+    public String getStartFEN() {
+        String fen = tags.get("FEN");
+        return fen != null ? fen : FENParser.START_FEN;
+    }
+
+    /**
+     * Reproduce la partida en un tablero: carga la posición inicial y realiza todos los movimientos.
+     *
+     * @param board tablero donde se reproduce (se reemplaza su posición)
+     */
+    public void replay(Board board) {
+        board.loadFEN(getStartFEN());
+        for (int move : moves) {
+            board.makeMove(move);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Importador de archivos PGN de cualquier tamaño.
+ * El archivo se divide en bloques de unos pocos megabytes que siempre empiezan en una etiqueta [Event
+ * (o, si el archivo no la usa, en la primera etiqueta después de una línea en blanco),
+ * de modo que ninguna partida queda partida entre dos bloques. Si en {@link #MAX_CHUNK_SIZE} bytes no aparece
+ * el inicio de ninguna partida, la importación falla en lugar de proyectar en memoria un bloque enorme. Cada bloque se proyecta en memoria y se interpreta
+ * en un ForkJoinPool; cada hilo del pool reutiliza su propio {@link PGNParser} (y su tablero) para todos sus bloques.
+ * Las partidas se entregan en el orden del archivo y solo hay unos pocos bloques en proceso a la vez,
+ * por lo que la memoria utilizada no depende del tamaño del archivo.
+ *
+ * Uso: &lt;archivo.pgn&gt; [--threads N] [--chunk MB]
+ */
+public class PGNImporter {
+    public static final int DEFAULT_CHUNK_SIZE = 4 << 20; // Tamaño aproximado de cada bloque (4 MB)
+    public static final int MAX_CHUNK_SIZE = 256 << 20; // Tamaño máximo de un bloque (256 MB)
+    private static final int CHUNKS_PER_THREAD = 4; // Bloques en proceso o esperando a entregarse, por hilo
+    private static final int SCAN_WINDOW = 64 << 10; // Bytes leídos a la vez al buscar el inicio de una partida
+    private static final int LOOKBEHIND = 3; // Bytes anteriores necesarios para reconocer una línea en blanco
+    private static final byte[] GAME_START = {'[', 'E', 'v', 'e', 'n', 't'}; // Etiqueta con la que empieza cada partida
+
+    private final ForkJoinPool pool; // Pool donde se interpretan los bloques
+    private final int chunkSize; // Tamaño aproximado de cada bloque
+    private final ThreadLocal<PGNParser> parsers = ThreadLocal.withInitial(PGNParser::new); // Intérprete de cada hilo
+
+    /**
+     * Constructor que utiliza el pool común y el tamaño de bloque por defecto.
+     */
+    public PGNImporter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor de la clase PGNImporter.
+     *
+     * @param pool pool donde se interpretan los bloques
+     * @param chunkSize tamaño aproximado de cada bloque en bytes
+     * @throws IllegalArgumentException si el tamaño de bloque no está entre 1 y {@link #MAX_CHUNK_SIZE}
+     */
+    public PGNImporter(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0 || chunkSize >= MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Tamaño de bloque no válido: " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Método principal del importador: lee un archivo PGN y muestra el número de partidas y la velocidad.
+     *
+     * @param args Argumentos de línea de comandos (ver la descripción de la clase).
+     */
+    public static void main(String[] args) throws IOException {
+        String file = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkMegabytes = DEFAULT_CHUNK_SIZE >> 20;
+        for (int k = 0; k < args.length; k++) {
+            switch (args[k]) {
+                case "--threads":
+                    threads = Integer.parseInt(args[++k]);
+                    break;
+                case "--chunk":
+                    chunkMegabytes = Integer.parseInt(args[++k]);
+                    break;
+                default:
+                    if (file != null || args[k].startsWith("--")) {
+                        System.out.println("Argumento desconocido: " + args[k]);
+                        return;
+                    }
+                    file = args[k];
+            }
+        }
+        if (file == null) {
+            System.out.println("Uso: <archivo.pgn> [--threads N] [--chunk MB]");
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long[] counts = new long[3]; // Partidas, partidas con errores y movimientos
+            long start = System.nanoTime();
+            new PGNImporter(pool, chunkMegabytes << 20).importFile(Path.of(file), game -> {
+                counts[0]++;
+                counts[1] += game.isValid() ? 0 : 1;
+                counts[2] += game.getMoveCount();
+            });
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            System.out.println(counts[0] + " partidas (" + counts[1] + " con errores), " + counts[2] + " movimientos | "
+                    + millis + " ms | " + (counts[0] * 1000 / millis) + " partidas/s");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Importa todas las partidas de un archivo PGN.
+     *
+     * @param file archivo PGN
+     * @param consumer destino de las partidas, en el orden del archivo (se llama desde el hilo que importa)
+     * @return número de partidas importadas
+     * @throws IOException si no se puede leer el archivo
+     */
+    public long importFile(Path file, Consumer<PGNGame> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int maxPending = pool.getParallelism() * CHUNKS_PER_THREAD;
+            ArrayDeque<ChunkTask> pending = new ArrayDeque<>();
+            ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_WINDOW);
+
+            long count = 0;
+            long chunkStart = 0;
+            while (chunkStart < size || !pending.isEmpty()) {
+                // Lanza bloques hasta llenar la ventana y entrega el más antiguo cuando termina
+                while (chunkStart < size && pending.size() < maxPending) {
+                    long chunkEnd = nextGameStart(channel, scanBuffer, Math.min(size, chunkStart + chunkSize),
+                            chunkStart + MAX_CHUNK_SIZE, size);
+                    ChunkTask task = new ChunkTask(channel, chunkStart, chunkEnd);
+                    pool.execute(task);
+                    pending.add(task);
+                    chunkStart = chunkEnd;
+                }
+                for (PGNGame game : join(pending.poll())) {
+                    consumer.accept(game);
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Espera el resultado de un bloque.
+     *
+     * @throws IOException si no se pudo leer el bloque
+     */
+    private static List<PGNGame> join(ChunkTask task) throws IOException {
+        try {
+            return task.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Busca el inicio de la siguiente partida a partir de la posición indicada: una línea que empieza con "[Event"
+     * o, para los archivos que no usan esa etiqueta, una línea que empieza con "[" después de una línea en blanco
+     * (el final de los movimientos de la partida anterior).
+     *
+     * @param channel archivo
+     * @param scanBuffer buffer reutilizable para leer el archivo
+     * @param from posición desde la que se busca
+     * @param limit posición hasta la que se busca (el bloque no puede pasar de ahí)
+     * @param size tamaño del archivo
+     * @return posición del inicio de la partida, o el tamaño del archivo si no hay más partidas
+     * @throws IOException si no se puede leer el archivo o no hay ningún inicio de partida antes del límite
+     */
+    private static long nextGameStart(FileChannel channel, ByteBuffer scanBuffer, long from, long limit, long size)
+            throws IOException {
+        // Se leen también los bytes anteriores para saber si la etiqueta está al comienzo de una línea
+        long windowStart = Math.max(0, from - LOOKBEHIND);
+        while (from < size) {
+            scanBuffer.clear();
+            int read = 0;
+            while (scanBuffer.hasRemaining() && windowStart + read < size) {
+                int n = channel.read(scanBuffer, windowStart + read);
+                if (n < 0) {
+                    break;
+                }
+                read += n;
+            }
+            long windowEnd = windowStart + read;
+            // Al final de la ventana se dejan sin revisar los bytes que podrían ser el comienzo de la etiqueta
+            long last = windowEnd == size ? size : windowEnd - GAME_START.length;
+            for (long position = from; position < last; position++) {
+                if (position >= limit) {
+                    throw new IOException("No se encontró el inicio de ninguna partida entre las posiciones "
+                            + (limit - MAX_CHUNK_SIZE) + " y " + limit + " (el bloque superaría los "
+                            + (MAX_CHUNK_SIZE >> 20) + " MB); el archivo no parece estar en formato PGN");
+                }
+                if (isGameStart(scanBuffer, (int) (position - windowStart), read, position)) {
+                    return position;
+                }
+            }
+            if (windowEnd == size) {
+                break;
+            }
+            from = last;
+            windowStart = from - LOOKBEHIND;
+        }
+        return size;
+    }
+
+    /**
+     * Verifica si en el índice del buffer empieza una partida (ver {@link #nextGameStart}).
+     *
+     * @param buffer ventana del archivo
+     * @param index índice en la ventana
+     * @param read número de bytes de la ventana
+     * @param position posición en el archivo del byte del índice
+     */
+    private static boolean isGameStart(ByteBuffer buffer, int index, int read, long position) {
+        if (buffer.get(index) != '[') {
+            return false;
+        }
+        if (position == 0) {
+            return true;
+        }
+        if (buffer.get(index - 1) != '\n') {
+            return false;
+        }
+        if (index + GAME_START.length <= read && startsWith(buffer, index)) {
+            return true;
+        }
+        // Línea en blanco antes de la etiqueta ("\n\n[" o "\n\r\n[")
+        return index >= 2 && (buffer.get(index - 2) == '\n'
+                || (index >= 3 && buffer.get(index - 2) == '\r' && buffer.get(index - 3) == '\n'));
+    }
+
+    /**
+     * Verifica si en el índice del buffer empieza la etiqueta [Event.
+     */
+    private static boolean startsWith(ByteBuffer buffer, int index) {
+        for (int k = 0; k < GAME_START.length; k++) {
+            if (buffer.get(index + k) != GAME_START[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tarea que proyecta en memoria un bloque del archivo e interpreta sus partidas con el intérprete del hilo.
+     */
+    @SuppressWarnings("serial") // Las tareas no se serializan
+    private class ChunkTask extends RecursiveTask<List<PGNGame>> {
+        private final FileChannel channel; // Archivo
+        private final long start; // Posición del primer byte del bloque
+        private final long end; // Posición siguiente al último byte del bloque
+
+        ChunkTask(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected List<PGNGame> compute() {
+            MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            List<PGNGame> games = new ArrayList<>();
+            parsers.get().parseGames(buffer, start, games::add);
+            return games;
+        }
+    }
+}
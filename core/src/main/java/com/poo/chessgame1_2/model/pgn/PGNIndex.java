@@ -0,0 +1,604 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import com.poo.chessgame1_2.model.Board;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Índice de acceso directo a las partidas de un archivo PGN.
+ * Se guarda en un archivo aparte (&lt;archivo.pgn&gt;.idx) con un registro de tamaño fijo por partida: posición y
+ * longitud de la partida en el archivo PGN, número de movimientos, jugadores, fecha, resultado y código ECO.
+ * Los nombres de los jugadores se guardan una sola vez en una tabla de cadenas al final del índice.
+ *
+ * Al abrirlo, el índice se proyecta en memoria, de modo que consultar los datos de la partida n es leer su registro
+ * (sin recorrer el archivo PGN ni cargar el índice en el heap) y leer la partida completa es una sola lectura
+ * en la posición indicada. Las consultas pueden hacerse desde varios hilos a la vez.
+ *
+ * Uso: &lt;archivo.pgn&gt; [--game N] [--rebuild]
+ */
+public final class PGNIndex implements Closeable {
+    public static final String EXTENSION = ".idx"; // Extensión del archivo del índice
+    private static final long MAGIC = 0x50474E4944580001L; // "PGNIDX" y la versión del formato
+
+    // Cabecera del índice
+    private static final int HEADER_PGN_SIZE = 8; // Tamaño del archivo PGN indexado
+    private static final int HEADER_PGN_MODIFIED = 16; // Fecha de modificación del archivo PGN (milisegundos)
+    private static final int HEADER_GAME_COUNT = 24; // Número de partidas
+    private static final int HEADER_STRINGS_OFFSET = 32; // Posición de la tabla de cadenas
+    private static final int HEADER_STRINGS_LENGTH = 40; // Tamaño de la tabla de cadenas
+    private static final int HEADER_SIZE = 48;
+
+    // Registro de cada partida
+    private static final int RECORD_OFFSET = 0; // long: posición de la partida en el archivo PGN
+    private static final int RECORD_LENGTH = 8; // int: bytes de la partida
+    private static final int RECORD_MOVES = 12; // int: número de movimientos
+    private static final int RECORD_WHITE = 16; // int: posición del jugador de blancas en la tabla de cadenas (-1 si no hay)
+    private static final int RECORD_BLACK = 20; // int: posición del jugador de negras en la tabla de cadenas (-1 si no hay)
+    private static final int RECORD_DATE = 24; // int: fecha como aaaammdd (0 en las partes desconocidas)
+    private static final int RECORD_ECO = 28; // short: código ECO (letra * 100 + número + 1, 0 si no hay)
+    private static final int RECORD_RESULT = 30; // byte: índice en RESULTS
+    private static final int RECORD_FLAGS = 31; // byte: FLAG_INVALID si la partida tiene errores
+    private static final int RECORD_SIZE = 32;
+
+    private static final String[] RESULTS = {"*", "1-0", "0-1", "1/2-1/2"}; // Resultados posibles
+    private static final int FLAG_INVALID = 1; // La partida no se pudo reproducir completa
+
+    private final FileChannel indexChannel; // Archivo del índice
+    private final FileChannel pgnChannel; // Archivo PGN indexado
+    private final MappedByteBuffer records; // Registros de las partidas (proyectados en memoria)
+    private final MappedByteBuffer strings; // Tabla de cadenas (proyectada en memoria)
+    private final long gameCount; // Número de partidas
+    private final ThreadLocal<PGNParser> parsers = ThreadLocal.withInitial(PGNParser::new); // Intérprete de cada hilo
+
+    /**
+     * Constructor que proyecta en memoria un índice ya abierto.
+     */
+    private PGNIndex(FileChannel indexChannel, FileChannel pgnChannel, MappedByteBuffer header) throws IOException {
+        this.indexChannel = indexChannel;
+        this.pgnChannel = pgnChannel;
+        gameCount = header.getLong(HEADER_GAME_COUNT);
+        records = indexChannel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, mappedSize(gameCount * RECORD_SIZE));
+        strings = indexChannel.map(FileChannel.MapMode.READ_ONLY, header.getLong(HEADER_STRINGS_OFFSET),
+                mappedSize(header.getLong(HEADER_STRINGS_LENGTH)));
+    }
+
+    /**
+     * Obtiene la ruta del índice de un archivo PGN.
+     *
+     * @param pgnFile archivo PGN
+     * @return ruta del índice (el archivo PGN con la extensión .idx añadida)
+     */
+    public static Path indexPath(Path pgnFile) {
+        return pgnFile.resolveSibling(pgnFile.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Abre el índice de un archivo PGN.
+     *
+     * @param pgnFile archivo PGN
+     * @return índice abierto
+     * @throws IOException si el índice no existe, no es válido o no corresponde a la versión actual del archivo PGN
+     */
+    public static PGNIndex open(Path pgnFile) throws IOException {
+        Path indexFile = indexPath(pgnFile);
+        FileChannel indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ);
+        FileChannel pgnChannel = null;
+        try {
+            if (indexChannel.size() < HEADER_SIZE) {
+                throw new IOException("Índice PGN no válido: " + indexFile);
+            }
+            MappedByteBuffer header = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getLong(0) != MAGIC) {
+                throw new IOException("Índice PGN no válido: " + indexFile);
+            }
+            if (header.getLong(HEADER_PGN_SIZE) != Files.size(pgnFile)
+                    || header.getLong(HEADER_PGN_MODIFIED) != Files.getLastModifiedTime(pgnFile).toMillis()) {
+                throw new IOException("El índice no corresponde al archivo PGN: " + pgnFile);
+            }
+            pgnChannel = FileChannel.open(pgnFile, StandardOpenOption.READ);
+            return new PGNIndex(indexChannel, pgnChannel, header);
+        } catch (IOException | RuntimeException e) {
+            indexChannel.close();
+            if (pgnChannel != null) {
+                pgnChannel.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Abre el índice de un archivo PGN, creándolo antes si no existe o si el archivo PGN cambió.
+     *
+     * @param pgnFile archivo PGN
+     * @return índice abierto
+     * @throws IOException si no se puede leer el archivo PGN o escribir el índice
+     */
+    public static PGNIndex openOrBuild(Path pgnFile) throws IOException {
+        try {
+            return open(pgnFile);
+        } catch (IOException e) {
+            build(pgnFile, new PGNImporter());
+            return open(pgnFile);
+        }
+    }
+
+    /**
+     * Crea (o reemplaza) el índice de un archivo PGN importando todas sus partidas.
+     *
+     * @param pgnFile archivo PGN
+     * @param importer importador con el que se leen las partidas
+     * @return número de partidas indexadas
+     * @throws IOException si no se puede leer el archivo PGN o escribir el índice
+     */
+    public static long build(Path pgnFile, PGNImporter importer) throws IOException {
+        try (Builder builder = new Builder(pgnFile)) {
+            importer.importFile(pgnFile, builder);
+            return builder.getGameCount();
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(indexPath(pgnFile)); // No se deja un índice incompleto
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(indexPath(pgnFile));
+            throw e;
+        }
+    }
+
+    /**
+     * Método principal del índice: crea el índice de un archivo PGN si hace falta y muestra una partida.
+     *
+     * @param args Argumentos de línea de comandos (ver la descripción de la clase).
+     */
+    public static void main(String[] args) throws IOException {
+        String file = null;
+        long game = 0;
+        boolean rebuild = false;
+        for (int k = 0; k < args.length; k++) {
+            switch (args[k]) {
+                case "--game":
+                    game = Long.parseLong(args[++k]);
+                    break;
+                case "--rebuild":
+                    rebuild = true;
+                    break;
+                default:
+                    if (file != null || args[k].startsWith("--")) {
+                        System.out.println("Argumento desconocido: " + args[k]);
+                        return;
+                    }
+                    file = args[k];
+            }
+        }
+        if (file == null) {
+            System.out.println("Uso: <archivo.pgn> [--game N] [--rebuild]");
+            return;
+        }
+
+        Path pgnFile = Path.of(file);
+        if (rebuild || !Files.exists(indexPath(pgnFile))) {
+            long start = System.nanoTime();
+            long count = build(pgnFile, new PGNImporter());
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            System.out.println("Índice creado: " + count + " partidas | " + millis + " ms | "
+                    + Files.size(indexPath(pgnFile)) / 1024 + " KB");
+        }
+        try (PGNIndex index = open(pgnFile)) {
+            if (game < 0 || game >= index.size()) {
+                System.out.println("El archivo tiene " + index.size() + " partidas");
+                return;
+            }
+            long start = System.nanoTime();
+            Board board = new Board();
+            index.replay(game, board);
+            long micros = (System.nanoTime() - start) / 1000;
+            StringBuilder fen = new StringBuilder();
+            board.appendFEN(fen);
+            System.out.println("Partida " + game + ": " + index.getWhite(game) + " - " + index.getBlack(game) + ", "
+                    + index.getDate(game) + ", " + index.getEco(game) + ", " + index.getResult(game) + ", "
+                    + index.getMoveCount(game) + " movimientos");
+            System.out.println("Posición final: " + fen + " | " + micros + " µs");
+        }
+    }
+
+    /**
+     * Obtiene el número de partidas del índice.
+     *
+     * @return número de partidas
+     */
+    public long size() {
+        return gameCount;
+    }
+
+    /**
+     * Obtiene la posición de una partida en el archivo PGN.
+     *
+     * @param game número de la partida (0 es la primera del archivo)
+     * @return desplazamiento en bytes
+     */
+    public long getOffset(long game) {
+        return records.getLong(record(game) + RECORD_OFFSET);
+    }
+
+    /**
+     * Obtiene el número de bytes que ocupa una partida en el archivo PGN.
+     *
+     * @param game número de la partida
+     * @return longitud en bytes
+     */
+    public int getLength(long game) {
+        return records.getInt(record(game) + RECORD_LENGTH);
+    }
+
+    /**
+     * Obtiene el número de movimientos (medios movimientos) de una partida.
+     *
+     * @param game número de la partida
+     * @return número de movimientos reproducidos
+     */
+    public int getMoveCount(long game) {
+        return records.getInt(record(game) + RECORD_MOVES);
+    }
+
+    /**
+     * Obtiene el jugador de las blancas.
+     *
+     * @param game número de la partida
+     * @return valor de la etiqueta White, o null si la partida no la tiene
+     */
+    public String getWhite(long game) {
+        return string(records.getInt(record(game) + RECORD_WHITE));
+    }
+
+    /**
+     * Obtiene el jugador de las negras.
+     *
+     * @param game número de la partida
+     * @return valor de la etiqueta Black, o null si la partida no la tiene
+     */
+    public String getBlack(long game) {
+        return string(records.getInt(record(game) + RECORD_BLACK));
+    }
+
+    /**
+     * Obtiene la fecha de una partida en formato PGN.
+     *
+     * @param game número de la partida
+     * @return fecha "aaaa.mm.dd", con "?" en las partes desconocidas
+     */
+    public String getDate(long game) {
+        int date = records.getInt(record(game) + RECORD_DATE);
+        int year = date / 10000;
+        int month = date / 100 % 100;
+        int day = date % 100;
+        return (year == 0 ? "????" : String.format("%04d", year)) + '.' + (month == 0 ? "??" : String.format("%02d", month))
+                + '.' + (day == 0 ? "??" : String.format("%02d", day));
+    }
+
+    /**
+     * Obtiene la fecha de una partida como número, útil para ordenar o filtrar por fecha.
+     *
+     * @param game número de la partida
+     * @return fecha como aaaammdd, con 0 en las partes desconocidas
+     */
+    public int getDateValue(long game) {
+        return records.getInt(record(game) + RECORD_DATE);
+    }
+
+    /**
+     * Obtiene el código ECO de la apertura de una partida.
+     *
+     * @param game número de la partida
+     * @return código (por ejemplo "B90"), o null si la partida no tiene un código válido
+     */
+    public String getEco(long game) {
+        int eco = records.getShort(record(game) + RECORD_ECO) - 1;
+        if (eco < 0) {
+            return null;
+        }
+        return (char) ('A' + eco / 100) + String.format("%02d", eco % 100);
+    }
+
+    /**
+     * Obtiene el resultado de una partida.
+     *
+     * @param game número de la partida
+     * @return "1-0", "0-1", "1/2-1/2" o "*"
+     */
+    public String getResult(long game) {
+        return RESULTS[records.get(record(game) + RECORD_RESULT)];
+    }
+
+    /**
+     * Verifica si la partida se reprodujo completa al crear el índice.
+     *
+     * @param game número de la partida
+     * @return true si no hubo errores
+     */
+    public boolean isValid(long game) {
+        return (records.get(record(game) + RECORD_FLAGS) & FLAG_INVALID) == 0;
+    }
+
+    /**
+     * Lee una partida del archivo PGN (una sola lectura en su posición) y la interpreta.
+     *
+     * @param game número de la partida
+     * @return partida leída
+     * @throws IOException si no se puede leer el archivo PGN
+     */
+    public PGNGame readGame(long game) throws IOException {
+        long offset = getOffset(game);
+        ByteBuffer buffer = ByteBuffer.allocate(getLength(game));
+        while (buffer.hasRemaining()) {
+            if (pgnChannel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("El archivo PGN terminó antes de la partida " + game);
+            }
+        }
+        buffer.flip();
+        PGNGame[] result = new PGNGame[1];
+        parsers.get().parseGames(buffer, offset, parsed -> {
+            if (result[0] == null) {
+                result[0] = parsed;
+            }
+        });
+        if (result[0] == null) {
+            throw new IOException("No hay ninguna partida en la posición " + offset);
+        }
+        return result[0];
+    }
+
+    /**
+     * Lee una partida y la reproduce en un tablero.
+     *
+     * @param game número de la partida
+     * @param board tablero donde se reproduce (se reemplaza su posición)
+     * @throws IOException si no se puede leer el archivo PGN
+     */
+    public void replay(long game, Board board) throws IOException {
+        readGame(game).replay(board);
+    }
+
+    /**
+     * Cierra el índice y el archivo PGN.
+     *
+     * @throws IOException si no se pueden cerrar los archivos
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            indexChannel.close();
+        } finally {
+            pgnChannel.close();
+        }
+    }
+
+    /**
+     * Obtiene la posición del registro de una partida.
+     */
+    private int record(long game) {
+        if (game < 0 || game >= gameCount) {
+            throw new IndexOutOfBoundsException("Partida " + game + " de " + gameCount);
+        }
+        return (int) (game * RECORD_SIZE);
+    }
+
+    /**
+     * Lee una cadena de la tabla de cadenas (longitud en bytes seguida del texto UTF-8).
+     */
+    private String string(int position) {
+        if (position < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[strings.getInt(position)];
+        strings.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Comprueba que una región del índice pueda proyectarse en un único buffer.
+     */
+    private static long mappedSize(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Índice PGN demasiado grande para proyectarlo en memoria");
+        }
+        return size;
+    }
+
+    /**
+     * Constructor del índice: recibe las partidas en el orden del archivo (por ejemplo, como destino de
+     * {@link PGNImporter#importFile}) y escribe sus registros; al cerrarlo escribe la tabla de cadenas y la cabecera.
+     * Como es un Consumer, puede combinarse con otros destinos de la misma importación (con andThen).
+     */
+    public static final class Builder implements Consumer<PGNGame>, Closeable {
+        private static final int BUFFER_SIZE = 1 << 20; // Tamaño del buffer de registros
+
+        private final FileChannel channel; // Archivo del índice
+        private final long pgnSize; // Tamaño del archivo PGN
+        private final long pgnModified; // Fecha de modificación del archivo PGN
+        private final ByteBuffer records = ByteBuffer.allocate(BUFFER_SIZE); // Registros pendientes de escribir
+        private final Map<String, Integer> stringPositions = new HashMap<>(); // Posición de cada cadena ya guardada
+        private ByteBuffer strings = ByteBuffer.allocate(BUFFER_SIZE); // Tabla de cadenas
+        private long gameCount; // Partidas recibidas
+        private boolean closed; // true si ya se escribió el índice
+
+        /**
+         * Constructor que crea (o reemplaza) el archivo del índice de un archivo PGN.
+         *
+         * @param pgnFile archivo PGN que se va a indexar
+         * @throws IOException si no se puede crear el índice
+         */
+        public Builder(Path pgnFile) throws IOException {
+            pgnSize = Files.size(pgnFile);
+            pgnModified = Files.getLastModifiedTime(pgnFile).toMillis();
+            channel = FileChannel.open(indexPath(pgnFile), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.position(HEADER_SIZE);
+        }
+
+        /**
+         * Añade el registro de la siguiente partida del archivo.
+         *
+         * @param game partida importada
+         * @throws UncheckedIOException si no se puede escribir el índice
+         */
+        @Override
+        public void accept(PGNGame game) {
+            if (!records.hasRemaining()) {
+                flushRecords();
+            }
+            records.putLong(game.getOffset());
+            records.putInt(game.getLength());
+            records.putInt(game.getMoveCount());
+            records.putInt(stringPosition(game.getTag("White")));
+            records.putInt(stringPosition(game.getTag("Black")));
+            records.putInt(dateValue(game.getTag("Date")));
+            records.putShort(ecoValue(game.getTag("ECO")));
+            records.put(resultValue(game.getResult()));
+            records.put((byte) (game.isValid() ? 0 : FLAG_INVALID));
+            gameCount++;
+        }
+
+        /**
+         * Obtiene el número de partidas recibidas.
+         *
+         * @return número de partidas (el número de la siguiente partida)
+         */
+        public long getGameCount() {
+            return gameCount;
+        }
+
+        /**
+         * Escribe los registros pendientes, la tabla de cadenas y la cabecera, y cierra el archivo del índice.
+         *
+         * @throws IOException si no se puede escribir el índice
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writeFully(records);
+                long stringsOffset = channel.position();
+                long stringsLength = strings.position();
+                writeFully(strings);
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putLong(MAGIC);
+                header.putLong(pgnSize);
+                header.putLong(pgnModified);
+                header.putLong(gameCount);
+                header.putLong(stringsOffset);
+                header.putLong(stringsLength);
+                channel.position(0);
+                writeFully(header);
+            } finally {
+                channel.close();
+            }
+        }
+
+        /**
+         * Escribe los registros del buffer en el archivo.
+         */
+        private void flushRecords() {
+            try {
+                writeFully(records);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Escribe en el archivo el contenido del buffer (desde el comienzo hasta su posición) y lo vacía.
+         */
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Obtiene la posición de una cadena en la tabla, añadiéndola si todavía no está.
+         */
+        private int stringPosition(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer position = stringPositions.get(value);
+            if (position != null) {
+                return position;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (strings.remaining() < Integer.BYTES + bytes.length) {
+                int capacity = Math.max(strings.capacity() * 2, strings.position() + Integer.BYTES + bytes.length);
+                strings = ByteBuffer.allocate(capacity).put(strings.flip());
+            }
+            position = strings.position();
+            strings.putInt(bytes.length);
+            strings.put(bytes);
+            stringPositions.put(value, position);
+            return position;
+        }
+
+        /**
+         * Convierte la fecha "aaaa.mm.dd" en el número aaaammdd (0 en las partes desconocidas).
+         */
+        private static int dateValue(String date) {
+            if (date == null || date.length() != 10) {
+                return 0;
+            }
+            return datePart(date, 0, 4) * 10000 + datePart(date, 5, 7) * 100 + datePart(date, 8, 10);
+        }
+
+        /**
+         * Lee una parte de la fecha, o 0 si no es un número (por ejemplo "??").
+         */
+        private static int datePart(String date, int start, int end) {
+            int value = 0;
+            for (int k = start; k < end; k++) {
+                char c = date.charAt(k);
+                if (c < '0' || c > '9') {
+                    return 0;
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+
+        /**
+         * Convierte el código ECO ("A00" a "E99") en un número, o 0 si no es válido.
+         */
+        private static short ecoValue(String eco) {
+            if (eco == null || eco.length() != 3 || eco.charAt(0) < 'A' || eco.charAt(0) > 'E'
+                    || eco.charAt(1) < '0' || eco.charAt(1) > '9' || eco.charAt(2) < '0' || eco.charAt(2) > '9') {
+                return 0;
+            }
+            return (short) ((eco.charAt(0) - 'A') * 100 + (eco.charAt(1) - '0') * 10 + (eco.charAt(2) - '0') + 1);
+        }
+
+        /**
+         * Obtiene el índice del resultado en RESULTS.
+         */
+        private static byte resultValue(String result) {
+            for (byte k = 0; k < RESULTS.length; k++) {
+                if (RESULTS[k].equals(result)) {
+                    return k;
+                }
+            }
+            return 0;
+        }
+    }
+}
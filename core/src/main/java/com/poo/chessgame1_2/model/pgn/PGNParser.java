@@ -0,0 +1,370 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.utils.ByteSequence;
+import com.poo.chessgame1_2.model.utils.FENParser;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Intérprete de partidas PGN que lee el texto directamente (por ejemplo de un archivo proyectado en memoria)
+ * y reproduce cada partida en su propia posición para convertir los movimientos SAN en movimientos codificados.
+ * La reproducción usa {@link Position} directamente (sin el tablero de casillas, sus registros ni sus instantáneas),
+ * por lo que no reserva memoria por movimiento. Al reproducirla guarda también la clave Zobrist de cada posición,
+ * que el índice de posiciones usa sin volver a reproducir la partida.
+ * Se omiten los comentarios ({...} y ;), las variantes (...), los NAG ($n) y los números de jugada.
+ *
+ * Cada intérprete reutiliza su posición, su lista de movimientos y sus buffers para todas las partidas, por lo que
+ * no es seguro entre hilos: cada hilo debe usar el suyo (ver {@link PGNImporter}).
+ */
+public class PGNParser {
+    private static final int INITIAL_MOVES = 256; // Capacidad inicial del buffer de movimientos
+
+    private final Position position = new Position(); // Posición donde se reproducen las partidas
+    private final MoveList legalMoves = new MoveList(); // Movimientos legales de la posición actual
+    private final ByteSequence view = new ByteSequence(); // Vista reutilizable del buffer que se interpreta
+    private final StringBuilder tagValue = new StringBuilder(); // Valor de una etiqueta con caracteres escapados
+
+    // Estado de la partida que se está interpretando
+    private int[] moves = new int[INITIAL_MOVES]; // Movimientos de la partida
+    private int moveCount; // Número de movimientos de la partida
+    private long[] hashes = new long[INITIAL_MOVES + 1]; // Claves Zobrist de las posiciones de la partida
+    private int hashCount; // Número de claves de la partida
+    private Map<String, String> tags; // Etiquetas de la partida
+    private String result; // Resultado de la partida
+    private boolean started; // true si ya se cargó la posición inicial
+    private String error; // Motivo por el que se dejó de reproducir la partida (o null)
+
+    /**
+     * Interpreta todas las partidas de un buffer, desde su posición actual hasta su límite.
+     * La posición del buffer no se modifica.
+     *
+     * @param buffer buffer con texto PGN
+     * @param baseOffset posición en el archivo del primer byte del buffer (para calcular la ubicación de cada partida)
+     * @param consumer destino de las partidas, en el orden del texto
+     * @return número de partidas interpretadas
+     */
+    public int parseGames(ByteBuffer buffer, long baseOffset, Consumer<PGNGame> consumer) {
+        view.wrap(buffer, 0, buffer.limit());
+        return parseGames(view, buffer.position(), buffer.limit(), baseOffset, consumer);
+    }
+
+    /**
+     * Interpreta todas las partidas de una parte del texto.
+     *
+     * @param text texto PGN
+     * @param start índice del primer carácter
+     * @param end índice siguiente al último carácter
+     * @param baseOffset posición en el archivo del carácter de índice 0 del texto
+     * @param consumer destino de las partidas, en el orden del texto
+     * @return número de partidas interpretadas
+     */
+    public int parseGames(CharSequence text, int start, int end, long baseOffset, Consumer<PGNGame> consumer) {
+        int count = 0;
+        int k = start;
+        while (true) {
+            k = skipSeparators(text, k, end);
+            if (k >= end) {
+                return count;
+            }
+            int gameStart = k;
+            k = parseGame(text, k, end);
+            consumer.accept(finishGame(baseOffset + gameStart, k - gameStart));
+            count++;
+        }
+    }
+
+    /**
+     * Interpreta una partida que empieza en el índice indicado (etiquetas y movimientos hasta el resultado,
+     * hasta la siguiente etiqueta después de los movimientos o hasta el final del texto).
+     *
+     * @return índice siguiente al final de la partida
+     */
+    private int parseGame(CharSequence text, int k, int end) {
+        tags = new LinkedHashMap<>();
+        moveCount = 0;
+        hashCount = 0;
+        started = false;
+        error = null;
+        result = "*";
+
+        boolean inMovetext = false;
+        while (true) {
+            k = skipSeparators(text, k, end);
+            if (k >= end) {
+                return k;
+            }
+            char c = text.charAt(k);
+            switch (c) {
+                case '[':
+                    if (inMovetext) {
+                        return k; // Empieza la siguiente partida (la anterior no tenía resultado)
+                    }
+                    k = parseTag(text, k, end);
+                    break;
+                case '{':
+                    k = skipComment(text, k, end);
+                    break;
+                case ';':
+                case '%':
+                    k = skipLine(text, k, end);
+                    break;
+                case '(':
+                    k = skipVariation(text, k, end);
+                    break;
+                case '$':
+                    k = tokenEnd(text, k + 1, end);
+                    break;
+                case ')':
+                case '}':
+                    k++; // Cierre sin apertura
+                    break;
+                default:
+                    inMovetext = true;
+                    int tokenEnd = tokenEnd(text, k, end);
+                    String tokenResult = resultOf(text, k, tokenEnd);
+                    if (tokenResult != null) {
+                        result = tokenResult;
+                        return tokenEnd;
+                    }
+                    parseMoveToken(text, k, tokenEnd);
+                    k = tokenEnd;
+            }
+        }
+    }
+
+    /**
+     * Interpreta un token de los movimientos: un número de jugada ("12." o "12..."), un movimiento SAN
+     * o ambos juntos ("12.e4").
+     */
+    private void parseMoveToken(CharSequence text, int k, int end) {
+        int digitsEnd = k;
+        while (digitsEnd < end && text.charAt(digitsEnd) >= '0' && text.charAt(digitsEnd) <= '9') {
+            digitsEnd++;
+        }
+        if (digitsEnd == end) {
+            return; // Número de jugada sin punto
+        }
+        if (text.charAt(digitsEnd) == '.') {
+            k = digitsEnd;
+            while (k < end && text.charAt(k) == '.') {
+                k++;
+            }
+        }
+        if (k == end || error != null || isEnPassantNote(text, k, end)) {
+            return;
+        }
+        if (!started && !loadStartPosition()) {
+            return;
+        }
+
+        legalMoves.clear();
+        MoveGenerator.generateLegalMoves(position, legalMoves);
+        int move = Move.fromSAN(text, k, end, position, legalMoves);
+        if (move == Move.NONE) {
+            error = "Movimiento no válido: " + text.subSequence(k, end);
+            return;
+        }
+        position.makeMove(move);
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moveCount * 2);
+            hashes = Arrays.copyOf(hashes, moveCount * 2 + 1);
+        }
+        moves[moveCount++] = move;
+        hashes[hashCount++] = position.getHash();
+    }
+
+    /**
+     * Carga la posición inicial de la partida (la etiqueta FEN o la posición inicial estándar) y guarda su clave.
+     *
+     * @return true si la posición es válida; si no, se anota el error y la partida queda sin movimientos
+     */
+    private boolean loadStartPosition() {
+        started = true;
+        try {
+            FENParser.parse(tags.getOrDefault("FEN", FENParser.START_FEN), position);
+        } catch (IllegalArgumentException e) {
+            error = e.getMessage();
+            return false;
+        }
+        hashes[hashCount++] = position.getHash();
+        return true;
+    }
+
+    /**
+     * Verifica si el token es la anotación "e.p." que algunos programas escriben después de una captura al paso.
+     */
+    private static boolean isEnPassantNote(CharSequence text, int k, int end) {
+        return end - k == 4 && text.charAt(k) == 'e' && text.charAt(k + 1) == '.' && text.charAt(k + 2) == 'p'
+                && text.charAt(k + 3) == '.';
+    }
+
+    /**
+     * Crea la partida con los datos interpretados.
+     */
+    private PGNGame finishGame(long offset, int length) {
+        if (!started) {
+            loadStartPosition(); // Partida sin movimientos: solo tiene la posición inicial
+        }
+        return new PGNGame(offset, length, tags, Arrays.copyOf(moves, moveCount), result, error,
+                Arrays.copyOf(hashes, hashCount));
+    }
+
+    /**
+     * Interpreta una etiqueta: [Nombre "Valor"].
+     *
+     * @return índice siguiente al cierre de la etiqueta
+     */
+    private int parseTag(CharSequence text, int k, int end) {
+        int nameStart = skipSeparators(text, k + 1, end);
+        int nameEnd = nameStart;
+        while (nameEnd < end && !isSeparator(text.charAt(nameEnd)) && text.charAt(nameEnd) != '"'
+                && text.charAt(nameEnd) != ']') {
+            nameEnd++;
+        }
+        k = nameEnd;
+        while (k < end && text.charAt(k) != '"' && text.charAt(k) != ']') {
+            k++;
+        }
+        String value = "";
+        if (k < end && text.charAt(k) == '"') {
+            int valueStart = ++k;
+            boolean escaped = false;
+            while (k < end && text.charAt(k) != '"') {
+                if (text.charAt(k) == '\\') {
+                    escaped = true;
+                    k++;
+                }
+                k++;
+            }
+            value = text.subSequence(valueStart, Math.min(k, end)).toString();
+            if (escaped) {
+                value = unescape(value);
+            }
+        }
+        while (k < end && text.charAt(k) != ']' && text.charAt(k) != '\n') {
+            k++;
+        }
+        if (nameEnd > nameStart) {
+            tags.put(text.subSequence(nameStart, nameEnd).toString(), value);
+        }
+        return k < end ? k + 1 : end;
+    }
+
+    /**
+     * Quita las barras de escape (\" y \\) del valor de una etiqueta.
+     */
+    private String unescape(String value) {
+        tagValue.setLength(0);
+        for (int k = 0; k < value.length(); k++) {
+            char c = value.charAt(k);
+            if (c == '\\' && k + 1 < value.length()) {
+                c = value.charAt(++k);
+            }
+            tagValue.append(c);
+        }
+        return tagValue.toString();
+    }
+
+    /**
+     * Obtiene el resultado escrito en el token, o null si no es un resultado.
+     */
+    private static String resultOf(CharSequence text, int start, int end) {
+        int length = end - start;
+        char first = text.charAt(start);
+        if (length == 1 && first == '*') {
+            return "*";
+        }
+        if (length == 3 && text.charAt(start + 1) == '-') {
+            if (first == '1' && text.charAt(start + 2) == '0') {
+                return "1-0";
+            }
+            if (first == '0' && text.charAt(start + 2) == '1') {
+                return "0-1";
+            }
+        }
+        if (length == 7 && first == '1' && text.charAt(start + 1) == '/' && text.charAt(start + 3) == '-') {
+            return "1/2-1/2";
+        }
+        return null;
+    }
+
+    /**
+     * Omite un comentario entre llaves.
+     */
+    private static int skipComment(CharSequence text, int k, int end) {
+        while (k < end && text.charAt(k) != '}') {
+            k++;
+        }
+        return k < end ? k + 1 : end;
+    }
+
+    /**
+     * Omite el resto de la línea.
+     */
+    private static int skipLine(CharSequence text, int k, int end) {
+        while (k < end && text.charAt(k) != '\n') {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Omite una variante entre paréntesis, incluidas las variantes y los comentarios que contiene.
+     */
+    private static int skipVariation(CharSequence text, int k, int end) {
+        int depth = 0;
+        while (k < end) {
+            char c = text.charAt(k);
+            if (c == '{') {
+                k = skipComment(text, k, end);
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return k + 1;
+            }
+            k++;
+        }
+        return end;
+    }
+
+    /**
+     * Obtiene el índice siguiente al último carácter del token que empieza en k.
+     */
+    private static int tokenEnd(CharSequence text, int k, int end) {
+        while (k < end) {
+            char c = text.charAt(k);
+            if (isSeparator(c) || c == '{' || c == '}' || c == '(' || c == ')' || c == '[' || c == ';' || c == '$') {
+                break;
+            }
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Obtiene el índice del primer carácter que no es un separador.
+     */
+    private static int skipSeparators(CharSequence text, int k, int end) {
+        while (k < end && isSeparator(text.charAt(k))) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Verifica si un carácter separa los tokens.
+     */
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+}
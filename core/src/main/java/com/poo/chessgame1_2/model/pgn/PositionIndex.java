@@ -0,0 +1,974 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.utils.FENParser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Índice de posiciones de un archivo PGN: para cada posición (su clave Zobrist de 64 bits, ver
+ * {@link Position#getHash()}) guarda la lista de partidas que pasaron por ella. Los números de partida son los mismos
+ * que los de {@link PGNIndex} (el orden de las partidas en el archivo), por lo que cada resultado puede leerse
+ * y reproducirse con él.
+ *
+ * El índice se guarda en un archivo aparte (&lt;archivo.pgn&gt;.pos) formado por segmentos. Cada segmento tiene las
+ * claves ordenadas (sin repetir), la posición de la lista de partidas de cada clave y las listas, escritas como
+ * diferencias entre números de partida consecutivos en enteros de longitud variable (varint), por lo que las
+ * posiciones frecuentes (la apertura) ocupan uno o dos bytes por partida.
+ *
+ * Al crearlo, los pares (posición, partida) se acumulan en memoria y se escriben en segmentos ordenados cada vez
+ * que se llena el buffer; al terminar, si hay más de uno, los segmentos se unen (mezcla de k vías) en segmentos
+ * de hasta {@link #MAX_SEGMENT_BYTES} bytes que dividen las claves en rangos, de modo que cada clave está en un solo
+ * segmento y su lista de partidas está completa.
+ *
+ * Al abrirlo, los segmentos se proyectan en memoria (el índice no se carga en el heap). Como las claves Zobrist
+ * están distribuidas de manera uniforme, cada clave se busca con búsqueda por interpolación, que solo lee unas
+ * pocas claves de cada segmento (los segmentos cuyo rango no contiene la clave se descartan con dos lecturas).
+ * Las consultas pueden hacerse desde varios hilos a la vez.
+ *
+ * Uso: &lt;archivo.pgn&gt; [--fen FEN] [--rebuild] [--segment MB]
+ * (--segment: memoria para los pares acumulados antes de escribir cada segmento)
+ */
+public final class PositionIndex implements Closeable {
+    public static final String EXTENSION = ".pos"; // Extensión del archivo del índice
+    public static final int DEFAULT_SEGMENT_PAIRS = 1 << 22; // Pares (posición, partida) por segmento (64 MB)
+    public static final int MAX_SEGMENT_BYTES = 1 << 30; // Tamaño máximo de un segmento unido (1 GB)
+    private static final int PAIR_BYTES = 2 * Long.BYTES; // Memoria de cada par acumulado (clave y partida)
+    public static final int MAX_SEGMENT_PAIRS = MAX_SEGMENT_BYTES / PAIR_BYTES; // Pares máximos por segmento (1 GB)
+    private static final long MAGIC = 0x504F534944580001L; // "POSIDX" y la versión del formato
+
+    // Cabecera del índice
+    private static final int HEADER_PGN_SIZE = 8; // Tamaño del archivo PGN indexado
+    private static final int HEADER_PGN_MODIFIED = 16; // Fecha de modificación del archivo PGN (milisegundos)
+    private static final int HEADER_GAME_COUNT = 24; // Número de partidas
+    private static final int HEADER_SEGMENT_COUNT = 32; // Número de segmentos
+    private static final int HEADER_DIRECTORY_OFFSET = 40; // Posición del directorio de segmentos
+    private static final int HEADER_SIZE = 48;
+
+    // Entrada del directorio de cada segmento
+    private static final int SEGMENT_OFFSET = 0; // long: posición del segmento en el archivo
+    private static final int SEGMENT_KEYS = 8; // int: número de claves
+    private static final int SEGMENT_POSTINGS = 12; // int: bytes de las listas de partidas
+    private static final int SEGMENT_FIRST_GAME = 16; // long: primera partida del segmento (base de las diferencias)
+    private static final int SEGMENT_ENTRY_SIZE = 24;
+
+    private static final int BINARY_SEARCH_SIZE = 16; // Tamaño del rango a partir del cual se termina con búsqueda binaria
+
+    private final FileChannel channel; // Archivo del índice
+    private final Segment[] segments; // Segmentos en el orden de las partidas
+    private final long gameCount; // Número de partidas indexadas
+
+    /**
+     * Segmento proyectado en memoria: claves (long), posición de la lista de cada clave (int, una más que claves)
+     * y listas de partidas (varint).
+     */
+    private static final class Segment {
+        private final MappedByteBuffer buffer; // Contenido del segmento
+        private final int keyCount; // Número de claves
+        private final int offsetsStart; // Posición de la tabla de posiciones de las listas
+        private final int postingsStart; // Posición de las listas de partidas
+        private final long firstGame; // Número de la primera partida del segmento
+
+        Segment(MappedByteBuffer buffer, int keyCount, long firstGame) {
+            this.buffer = buffer;
+            this.keyCount = keyCount;
+            this.offsetsStart = keyCount * Long.BYTES;
+            this.postingsStart = offsetsStart + (keyCount + 1) * Integer.BYTES;
+            this.firstGame = firstGame;
+        }
+
+        /**
+         * Busca una clave con búsqueda por interpolación (y búsqueda binaria en los rangos pequeños).
+         *
+         * @return índice de la clave, o -1 si no está en el segmento
+         */
+        int find(long key) {
+            int low = 0;
+            int high = keyCount - 1;
+            while (high - low > BINARY_SEARCH_SIZE) {
+                long lowKey = key(low);
+                long highKey = key(high);
+                if (key < lowKey || key > highKey) {
+                    return -1;
+                }
+                if (lowKey == highKey) {
+                    return lowKey == key ? low : -1;
+                }
+                // Las claves son uniformes: la posición esperada es proporcional a la distancia entre claves
+                double fraction = ((double) key - (double) lowKey) / ((double) highKey - (double) lowKey);
+                int probe = low + (int) (fraction * (high - low));
+                probe = Math.max(low, Math.min(high, probe));
+                long probeKey = key(probe);
+                if (probeKey == key) {
+                    return probe;
+                }
+                if (probeKey < key) {
+                    low = probe + 1;
+                } else {
+                    high = probe - 1;
+                }
+            }
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                long middleKey = key(middle);
+                if (middleKey == key) {
+                    return middle;
+                }
+                if (middleKey < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return -1;
+        }
+
+        long key(int index) {
+            return buffer.getLong(index * Long.BYTES);
+        }
+
+        /**
+         * Recorre la lista de partidas de una clave, decodificando las diferencias.
+         *
+         * @return número de partidas de la lista
+         */
+        int forEachGame(int keyIndex, LongConsumer action) {
+            int position = postingsStart + buffer.getInt(offsetsStart + keyIndex * Integer.BYTES);
+            int end = postingsStart + buffer.getInt(offsetsStart + (keyIndex + 1) * Integer.BYTES);
+            long game = firstGame;
+            int count = 0;
+            while (position < end) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = buffer.get(position++);
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                game += delta;
+                if (action != null) {
+                    action.accept(game);
+                }
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Constructor que proyecta en memoria los segmentos de un índice ya abierto.
+     */
+    private PositionIndex(FileChannel channel, MappedByteBuffer header) throws IOException {
+        this.channel = channel;
+        gameCount = header.getLong(HEADER_GAME_COUNT);
+        int segmentCount = (int) header.getLong(HEADER_SEGMENT_COUNT);
+        ByteBuffer directory = channel.map(FileChannel.MapMode.READ_ONLY, header.getLong(HEADER_DIRECTORY_OFFSET),
+                (long) segmentCount * SEGMENT_ENTRY_SIZE);
+        segments = new Segment[segmentCount];
+        for (int k = 0; k < segmentCount; k++) {
+            int entry = k * SEGMENT_ENTRY_SIZE;
+            int keyCount = directory.getInt(entry + SEGMENT_KEYS);
+            long size = (long) keyCount * Long.BYTES + (keyCount + 1L) * Integer.BYTES
+                    + (directory.getInt(entry + SEGMENT_POSTINGS) & 0xFFFFFFFFL);
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Segmento del índice de posiciones demasiado grande");
+            }
+            segments[k] = new Segment(channel.map(FileChannel.MapMode.READ_ONLY,
+                    directory.getLong(entry + SEGMENT_OFFSET), size), keyCount,
+                    directory.getLong(entry + SEGMENT_FIRST_GAME));
+        }
+    }
+
+    /**
+     * Obtiene la ruta del índice de posiciones de un archivo PGN.
+     *
+     * @param pgnFile archivo PGN
+     * @return ruta del índice (el archivo PGN con la extensión .pos añadida)
+     */
+    public static Path indexPath(Path pgnFile) {
+        return pgnFile.resolveSibling(pgnFile.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Abre el índice de posiciones de un archivo PGN.
+     *
+     * @param pgnFile archivo PGN
+     * @return índice abierto
+     * @throws IOException si el índice no existe, no es válido o no corresponde a la versión actual del archivo PGN
+     */
+    public static PositionIndex open(Path pgnFile) throws IOException {
+        Path indexFile = indexPath(pgnFile);
+        FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Índice de posiciones no válido: " + indexFile);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getLong(0) != MAGIC) {
+                throw new IOException("Índice de posiciones no válido: " + indexFile);
+            }
+            if (header.getLong(HEADER_PGN_SIZE) != Files.size(pgnFile)
+                    || header.getLong(HEADER_PGN_MODIFIED) != Files.getLastModifiedTime(pgnFile).toMillis()) {
+                throw new IOException("El índice de posiciones no corresponde al archivo PGN: " + pgnFile);
+            }
+            return new PositionIndex(channel, header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Crea (o reemplaza) el índice de partidas ({@link PGNIndex}) y el índice de posiciones de un archivo PGN
+     * en una sola importación.
+     *
+     * @param pgnFile archivo PGN
+     * @param importer importador con el que se leen las partidas
+     * @param segmentPairs pares (posición, partida) que se acumulan en memoria antes de escribir cada segmento
+     * @return número de partidas indexadas
+     * @throws IOException si no se puede leer el archivo PGN o escribir los índices
+     */
+    public static long build(Path pgnFile, PGNImporter importer, int segmentPairs) throws IOException {
+        try (PGNIndex.Builder games = new PGNIndex.Builder(pgnFile);
+             Builder positions = new Builder(pgnFile, segmentPairs)) {
+            importer.importFile(pgnFile, games.andThen(positions));
+            return games.getGameCount();
+        } catch (UncheckedIOException e) {
+            deleteIndexes(pgnFile); // No se dejan índices incompletos
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            deleteIndexes(pgnFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Elimina los dos índices de un archivo PGN.
+     */
+    private static void deleteIndexes(Path pgnFile) throws IOException {
+        Files.deleteIfExists(PGNIndex.indexPath(pgnFile));
+        Files.deleteIfExists(indexPath(pgnFile));
+    }
+
+    /**
+     * Método principal del índice de posiciones: crea los índices de un archivo PGN si hace falta
+     * y busca las partidas que pasaron por una posición.
+     *
+     * @param args Argumentos de línea de comandos (ver la descripción de la clase).
+     */
+    public static void main(String[] args) throws IOException {
+        String file = null;
+        String fen = FENParser.START_FEN;
+        boolean rebuild = false;
+        int segmentPairs = DEFAULT_SEGMENT_PAIRS;
+        for (int k = 0; k < args.length; k++) {
+            switch (args[k]) {
+                case "--fen":
+                    fen = args[++k];
+                    break;
+                case "--rebuild":
+                    rebuild = true;
+                    break;
+                case "--segment":
+                    segmentPairs = (int) Math.min(MAX_SEGMENT_PAIRS, (Long.parseLong(args[++k]) << 20) / PAIR_BYTES);
+                    break;
+                default:
+                    if (file != null || args[k].startsWith("--")) {
+                        System.out.println("Argumento desconocido: " + args[k]);
+                        return;
+                    }
+                    file = args[k];
+            }
+        }
+        if (file == null) {
+            System.out.println("Uso: <archivo.pgn> [--fen FEN] [--rebuild] [--segment MB]");
+            return;
+        }
+
+        Path pgnFile = Path.of(file);
+        if (rebuild || !Files.exists(indexPath(pgnFile)) || !Files.exists(PGNIndex.indexPath(pgnFile))) {
+            long start = System.nanoTime();
+            long count = build(pgnFile, new PGNImporter(), segmentPairs);
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            System.out.println("Índices creados: " + count + " partidas | " + millis + " ms | "
+                    + Files.size(indexPath(pgnFile)) / 1024 + " KB");
+        }
+
+        Position position = new Position();
+        FENParser.parse(fen, position);
+        try (PositionIndex positions = open(pgnFile); PGNIndex games = PGNIndex.open(pgnFile)) {
+            long start = System.nanoTime();
+            long[] found = positions.findGames(position.getHash());
+            long micros = (System.nanoTime() - start) / 1000;
+            System.out.println(found.length + " de " + positions.getGameCount() + " partidas pasaron por la posición | "
+                    + positions.getSegmentCount() + " segmentos | " + micros + " µs");
+            for (int k = 0; k < Math.min(10, found.length); k++) {
+                long game = found[k];
+                System.out.println("  " + game + ": " + games.getWhite(game) + " - " + games.getBlack(game) + ", "
+                        + games.getDate(game) + ", " + games.getResult(game));
+            }
+        }
+    }
+
+    /**
+     * Obtiene el número de partidas indexadas.
+     *
+     * @return número de partidas
+     */
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Obtiene el número de segmentos del índice.
+     *
+     * @return número de segmentos
+     */
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * Recorre las partidas que pasaron por una posición, en el orden del archivo.
+     *
+     * @param hash clave Zobrist de la posición
+     * @param action acción que recibe cada número de partida
+     * @return número de partidas
+     */
+    public int forEachGame(long hash, LongConsumer action) {
+        int count = 0;
+        for (Segment segment : segments) {
+            int keyIndex = segment.find(hash);
+            if (keyIndex >= 0) {
+                count += segment.forEachGame(keyIndex, action);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Cuenta las partidas que pasaron por una posición.
+     *
+     * @param hash clave Zobrist de la posición
+     * @return número de partidas
+     */
+    public int countGames(long hash) {
+        return forEachGame(hash, null);
+    }
+
+    /**
+     * Obtiene las partidas que pasaron por una posición.
+     *
+     * @param hash clave Zobrist de la posición
+     * @return números de partida, en el orden del archivo
+     */
+    public long[] findGames(long hash) {
+        long[][] games = {new long[16]};
+        int[] count = {0};
+        forEachGame(hash, game -> {
+            if (count[0] == games[0].length) {
+                games[0] = Arrays.copyOf(games[0], count[0] * 2);
+            }
+            games[0][count[0]++] = game;
+        });
+        return Arrays.copyOf(games[0], count[0]);
+    }
+
+    /**
+     * Obtiene las partidas que pasaron por la posición actual de un tablero.
+     *
+     * @param board tablero
+     * @return números de partida, en el orden del archivo
+     */
+    public long[] findGames(Board board) {
+        return findGames(board.getHash());
+    }
+
+    /**
+     * Cierra el archivo del índice.
+     *
+     * @throws IOException si no se puede cerrar el archivo
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Une los segmentos de un índice recién creado, que están ordenados por partida, en segmentos que dividen las
+     * claves en rangos: mezcla de k vías de las claves de todos los segmentos, concatenando sus listas de partidas.
+     * Se hacen dos pasadas, la primera para calcular el tamaño de cada segmento unido y la segunda para escribirlo,
+     * por lo que la memoria utilizada no depende del tamaño del índice.
+     */
+    private static final class Merger implements LongConsumer {
+        private static final int BUFFER_SIZE = 1 << 20; // Tamaño de cada buffer de escritura
+
+        private final Segment[] runs; // Segmentos que se unen, en el orden de las partidas
+        private final FileChannel out; // Archivo del índice unido
+        private final int[] next; // Índice de la clave actual de cada segmento
+        private final long[] current; // Clave actual de cada segmento
+        private final int[] heap; // Segmentos pendientes ordenados por clave actual y número de segmento
+        private int heapSize; // Número de segmentos pendientes
+        private final int[] matchRuns; // Segmentos que tienen la clave que se une, en orden
+        private final int[] matchKeys; // Índice de la clave en cada uno de esos segmentos
+        private int matchCount; // Número de segmentos que tienen la clave
+        private long key; // Clave que se une
+
+        private boolean counting; // true en la primera pasada (solo se calcula el tamaño de las listas)
+        private long previousGame; // Última partida de la lista que se une
+        private int listBytes; // Bytes de la lista que se une
+        private int[] plannedKeys = new int[16]; // Claves de cada segmento unido (primera pasada)
+        private int plannedCount; // Número de segmentos unidos
+
+        // Cada parte del segmento que se escribe tiene su buffer y su posición en el archivo
+        private final ByteBuffer keysOut = ByteBuffer.allocate(BUFFER_SIZE);
+        private final ByteBuffer offsetsOut = ByteBuffer.allocate(BUFFER_SIZE);
+        private final ByteBuffer postingsOut = ByteBuffer.allocate(BUFFER_SIZE);
+        private long keysPosition, offsetsPosition, postingsPosition;
+
+        Merger(Segment[] runs, FileChannel out) {
+            this.runs = runs;
+            this.out = out;
+            next = new int[runs.length];
+            current = new long[runs.length];
+            heap = new int[runs.length];
+            matchRuns = new int[runs.length];
+            matchKeys = new int[runs.length];
+        }
+
+        /**
+         * Une los segmentos y escribe el índice completo (cabecera, segmentos y directorio).
+         *
+         * @param pgnSize tamaño del archivo PGN
+         * @param pgnModified fecha de modificación del archivo PGN
+         * @param gameCount número de partidas
+         * @throws IOException si no se puede escribir el índice
+         */
+        void merge(long pgnSize, long pgnModified, long gameCount) throws IOException {
+            // Primera pasada: se divide en segmentos de hasta MAX_SEGMENT_BYTES bytes sin separar ninguna clave
+            counting = true;
+            start();
+            long segmentBytes = Integer.BYTES;
+            int segmentKeys = 0;
+            while (nextKey()) {
+                long keyBytes = Long.BYTES + Integer.BYTES + mergeList();
+                if (segmentKeys > 0 && segmentBytes + keyBytes > MAX_SEGMENT_BYTES) {
+                    addPlannedSegment(segmentKeys);
+                    segmentBytes = Integer.BYTES;
+                    segmentKeys = 0;
+                }
+                segmentBytes += keyBytes;
+                segmentKeys++;
+            }
+            if (segmentKeys > 0) {
+                addPlannedSegment(segmentKeys);
+            }
+
+            // Segunda pasada: se escriben las claves, las posiciones de las listas y las listas de cada segmento
+            counting = false;
+            start();
+            ByteBuffer directory = ByteBuffer.allocate(plannedCount * SEGMENT_ENTRY_SIZE);
+            long segmentOffset = HEADER_SIZE;
+            for (int segment = 0; segment < plannedCount; segment++) {
+                int keyCount = plannedKeys[segment];
+                keysPosition = segmentOffset;
+                offsetsPosition = segmentOffset + (long) keyCount * Long.BYTES;
+                postingsPosition = offsetsPosition + (keyCount + 1L) * Integer.BYTES;
+                int postingsLength = 0;
+                for (int k = 0; k < keyCount; k++) {
+                    nextKey();
+                    if (!keysOut.hasRemaining()) {
+                        keysPosition = flush(keysOut, keysPosition);
+                    }
+                    keysOut.putLong(key);
+                    putOffset(postingsLength);
+                    postingsLength += mergeList();
+                }
+                putOffset(postingsLength);
+                keysPosition = flush(keysOut, keysPosition);
+                offsetsPosition = flush(offsetsOut, offsetsPosition);
+                postingsPosition = flush(postingsOut, postingsPosition);
+
+                directory.putLong(segmentOffset);
+                directory.putInt(keyCount);
+                directory.putInt(postingsLength);
+                directory.putLong(0); // Las listas unidas guardan los números de partida desde 0
+                segmentOffset = postingsPosition;
+            }
+            flush(directory, segmentOffset);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putLong(MAGIC);
+            header.putLong(pgnSize);
+            header.putLong(pgnModified);
+            header.putLong(gameCount);
+            header.putLong(plannedCount);
+            header.putLong(segmentOffset);
+            flush(header, 0);
+        }
+
+        /**
+         * Recorre las listas de la clave actual en todos los segmentos que la tienen, en orden, y las escribe
+         * (o solo las mide en la primera pasada) como una única lista.
+         *
+         * @return bytes de la lista unida
+         */
+        private int mergeList() {
+            previousGame = 0;
+            listBytes = 0;
+            for (int k = 0; k < matchCount; k++) {
+                runs[matchRuns[k]].forEachGame(matchKeys[k], this);
+            }
+            return listBytes;
+        }
+
+        /**
+         * Añade una partida a la lista unida, como diferencia con la anterior en varint.
+         *
+         * @param game número de partida
+         */
+        @Override
+        public void accept(long game) {
+            long delta = game - previousGame;
+            previousGame = game;
+            if (!counting && postingsOut.remaining() < 10) {
+                try {
+                    postingsPosition = flush(postingsOut, postingsPosition);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            while ((delta & ~0x7FL) != 0) {
+                if (!counting) {
+                    postingsOut.put((byte) ((delta & 0x7F) | 0x80));
+                }
+                delta >>>= 7;
+                listBytes++;
+            }
+            if (!counting) {
+                postingsOut.put((byte) delta);
+            }
+            listBytes++;
+        }
+
+        /**
+         * Añade la posición de una lista al buffer de posiciones, escribiéndolo en el archivo si está lleno.
+         */
+        private void putOffset(int offset) throws IOException {
+            if (!offsetsOut.hasRemaining()) {
+                offsetsPosition = flush(offsetsOut, offsetsPosition);
+            }
+            offsetsOut.putInt(offset);
+        }
+
+        private void addPlannedSegment(int keyCount) {
+            if (plannedCount == plannedKeys.length) {
+                plannedKeys = Arrays.copyOf(plannedKeys, plannedCount * 2);
+            }
+            plannedKeys[plannedCount++] = keyCount;
+        }
+
+        /**
+         * Escribe el contenido del buffer en la posición indicada del archivo y lo vacía.
+         *
+         * @return posición siguiente al último byte escrito
+         */
+        private long flush(ByteBuffer buffer, long position) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += out.write(buffer, position);
+            }
+            buffer.clear();
+            return position;
+        }
+
+        /**
+         * Vuelve a la primera clave de cada segmento.
+         */
+        private void start() {
+            heapSize = 0;
+            for (int run = 0; run < runs.length; run++) {
+                next[run] = 0;
+                if (runs[run].keyCount > 0) {
+                    current[run] = runs[run].key(0);
+                    heap[heapSize++] = run;
+                }
+            }
+            for (int k = heapSize / 2 - 1; k >= 0; k--) {
+                siftDown(k);
+            }
+        }
+
+        /**
+         * Avanza a la siguiente clave (la menor de las claves actuales) y anota los segmentos que la tienen.
+         *
+         * @return false si ya se recorrieron todas las claves
+         */
+        private boolean nextKey() {
+            if (heapSize == 0) {
+                return false;
+            }
+            key = current[heap[0]];
+            matchCount = 0;
+            while (heapSize > 0 && current[heap[0]] == key) {
+                int run = heap[0];
+                matchRuns[matchCount] = run;
+                matchKeys[matchCount++] = next[run]++;
+                if (next[run] < runs[run].keyCount) {
+                    current[run] = runs[run].key(next[run]);
+                } else {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(0);
+            }
+            return true;
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                if (left < heapSize && less(heap[left], heap[smallest])) {
+                    smallest = left;
+                }
+                if (left + 1 < heapSize && less(heap[left + 1], heap[smallest])) {
+                    smallest = left + 1;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                int run = heap[index];
+                heap[index] = heap[smallest];
+                heap[smallest] = run;
+                index = smallest;
+            }
+        }
+
+        private boolean less(int runA, int runB) {
+            return current[runA] < current[runB] || (current[runA] == current[runB] && runA < runB);
+        }
+    }
+
+    /**
+     * Constructor del índice de posiciones: recibe las partidas en el orden del archivo (por ejemplo, como destino de
+     * {@link PGNImporter#importFile}) y acumula los pares (posición, partida) con las claves que el intérprete calculó
+     * al reproducirlas, por lo que las partidas no se vuelven a reproducir; cada vez que se llena el buffer ordena
+     * los pares y escribe un segmento. Al cerrarlo escribe el último segmento, el directorio y la cabecera, y une
+     * los segmentos si hay más de uno.
+     */
+    public static final class Builder implements Consumer<PGNGame>, Closeable {
+        private static final int BUFFER_SIZE = 1 << 20; // Tamaño del buffer de escritura
+        private static final int INSERTION_SORT_SIZE = 16; // Tamaño a partir del cual se ordena por inserción
+
+        private final Path pgnFile; // Archivo PGN que se indexa
+        private final FileChannel channel; // Archivo del índice
+        private final long pgnSize; // Tamaño del archivo PGN
+        private final long pgnModified; // Fecha de modificación del archivo PGN
+        private final ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE); // Buffer de escritura
+
+        private final long[] hashes; // Claves de los pares acumulados
+        private final long[] games; // Partidas de los pares acumulados
+        private int pairCount; // Número de pares acumulados
+        private long[] gameHashes = new long[256]; // Claves de la partida que se añade
+        private byte[] postings = new byte[BUFFER_SIZE]; // Listas de partidas del segmento que se escribe
+        private ByteBuffer directory = ByteBuffer.allocate(SEGMENT_ENTRY_SIZE * 64); // Directorio de segmentos
+        private int segmentCount; // Segmentos escritos
+        private long segmentFirstGame; // Primera partida del segmento que se acumula
+        private long gameCount; // Partidas recibidas
+        private boolean closed; // true si ya se escribió el índice
+
+        /**
+         * Constructor que crea (o reemplaza) el archivo del índice de posiciones de un archivo PGN.
+         *
+         * @param pgnFile archivo PGN que se va a indexar
+         * @param segmentPairs pares (posición, partida) por segmento (16 bytes de memoria cada uno)
+         * @throws IOException si no se puede crear el índice
+         * @throws IllegalArgumentException si el número de pares no está entre 1 y {@link #MAX_SEGMENT_PAIRS}
+         */
+        public Builder(Path pgnFile, int segmentPairs) throws IOException {
+            if (segmentPairs <= 0 || segmentPairs > MAX_SEGMENT_PAIRS) {
+                throw new IllegalArgumentException("Número de pares por segmento no válido: " + segmentPairs);
+            }
+            this.pgnFile = pgnFile;
+            pgnSize = Files.size(pgnFile);
+            pgnModified = Files.getLastModifiedTime(pgnFile).toMillis();
+            hashes = new long[segmentPairs];
+            games = new long[segmentPairs];
+            channel = FileChannel.open(indexPath(pgnFile), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.position(HEADER_SIZE);
+        }
+
+        /**
+         * Añade un par por cada posición distinta de la siguiente partida del archivo (incluida la inicial),
+         * con las claves calculadas al importarla (ver {@link PGNGame#getPositionHash(int)}).
+         *
+         * @param game partida importada
+         * @throws UncheckedIOException si no se puede escribir un segmento
+         */
+        @Override
+        public void accept(PGNGame game) {
+            long gameNumber = gameCount++;
+            int positionCount = game.getPositionCount(); // 0 si la posición inicial no es válida
+            if (gameHashes.length < positionCount) {
+                gameHashes = new long[Math.max(gameHashes.length * 2, positionCount)];
+            }
+            for (int k = 0; k < positionCount; k++) {
+                gameHashes[k] = game.getPositionHash(k);
+            }
+
+            // Una posición repetida en la partida solo se guarda una vez
+            Arrays.sort(gameHashes, 0, positionCount);
+            for (int k = 0; k < positionCount; k++) {
+                if (k > 0 && gameHashes[k] == gameHashes[k - 1]) {
+                    continue;
+                }
+                if (pairCount == hashes.length) {
+                    writeSegment(gameNumber);
+                }
+                hashes[pairCount] = gameHashes[k];
+                games[pairCount] = gameNumber;
+                pairCount++;
+            }
+        }
+
+        /**
+         * Escribe el último segmento, el directorio y la cabecera, cierra el archivo del índice y, si tiene
+         * más de un segmento, lo reemplaza por sus segmentos unidos.
+         *
+         * @throws IOException si no se puede escribir el índice
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                if (pairCount > 0) {
+                    writeSegment(gameCount);
+                }
+                long directoryOffset = channel.position();
+                writeFully(directory);
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putLong(MAGIC);
+                header.putLong(pgnSize);
+                header.putLong(pgnModified);
+                header.putLong(gameCount);
+                header.putLong(segmentCount);
+                header.putLong(directoryOffset);
+                channel.position(0);
+                writeFully(header);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                channel.close();
+            }
+            if (segmentCount > 1) {
+                merge();
+            }
+        }
+
+        /**
+         * Reemplaza el índice por sus segmentos unidos (ver {@link Merger}).
+         *
+         * @throws IOException si no se puede leer o escribir el índice
+         */
+        private void merge() throws IOException {
+            Path indexFile = indexPath(pgnFile);
+            Path mergedFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (PositionIndex runs = open(pgnFile);
+                 FileChannel mergedChannel = FileChannel.open(mergedFile, StandardOpenOption.CREATE,
+                         StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                new Merger(runs.segments, mergedChannel).merge(pgnSize, pgnModified, gameCount);
+            } catch (UncheckedIOException e) {
+                Files.deleteIfExists(mergedFile);
+                throw e.getCause();
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(mergedFile);
+                throw e;
+            }
+            Files.move(mergedFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        /**
+         * Ordena los pares acumulados por clave (y por partida) y los escribe como un segmento: claves sin repetir,
+         * posición de la lista de cada clave y listas de partidas codificadas como diferencias en varint.
+         *
+         * @param nextFirstGame primera partida del siguiente segmento
+         */
+        private void writeSegment(long nextFirstGame) {
+            try {
+                sort(0, pairCount - 1);
+                long segmentOffset = channel.position();
+
+                int keyCount = 0;
+                for (int k = 0; k < pairCount; k++) {
+                    if (k == 0 || hashes[k] != hashes[k - 1]) {
+                        put(hashes[k]);
+                        keyCount++;
+                    }
+                }
+
+                int postingsLength = 0;
+                long previous = segmentFirstGame;
+                for (int k = 0; k < pairCount; k++) {
+                    if (k == 0 || hashes[k] != hashes[k - 1]) {
+                        putInt(postingsLength);
+                        previous = segmentFirstGame;
+                    }
+                    if (postings.length - postingsLength < 10) {
+                        postings = Arrays.copyOf(postings, postings.length * 2);
+                    }
+                    long delta = games[k] - previous;
+                    previous = games[k];
+                    while ((delta & ~0x7FL) != 0) {
+                        postings[postingsLength++] = (byte) ((delta & 0x7F) | 0x80);
+                        delta >>>= 7;
+                    }
+                    postings[postingsLength++] = (byte) delta;
+                }
+                putInt(postingsLength);
+                for (int k = 0; k < postingsLength; ) {
+                    if (!out.hasRemaining()) {
+                        writeFully(out);
+                    }
+                    int length = Math.min(out.remaining(), postingsLength - k);
+                    out.put(postings, k, length);
+                    k += length;
+                }
+                writeFully(out);
+
+                if (directory.remaining() < SEGMENT_ENTRY_SIZE) {
+                    directory = ByteBuffer.allocate(directory.capacity() * 2).put(directory.flip());
+                }
+                directory.putLong(segmentOffset);
+                directory.putInt(keyCount);
+                directory.putInt(postingsLength);
+                directory.putLong(segmentFirstGame);
+                segmentCount++;
+                segmentFirstGame = nextFirstGame;
+                pairCount = 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Añade un long al buffer de escritura, escribiéndolo en el archivo si está lleno.
+         */
+        private void put(long value) throws IOException {
+            if (out.remaining() < Long.BYTES) {
+                writeFully(out);
+            }
+            out.putLong(value);
+        }
+
+        /**
+         * Añade un int al buffer de escritura, escribiéndolo en el archivo si está lleno.
+         */
+        private void putInt(int value) throws IOException {
+            if (out.remaining() < Integer.BYTES) {
+                writeFully(out);
+            }
+            out.putInt(value);
+        }
+
+        /**
+         * Escribe en el archivo el contenido del buffer (desde el comienzo hasta su posición) y lo vacía.
+         */
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Ordena los pares de un rango por clave y, con la misma clave, por partida (quicksort con la mediana
+         * de tres; los pares nunca se repiten, por lo que las claves frecuentes no degradan el orden).
+         */
+        private void sort(int low, int high) {
+            while (high - low > INSERTION_SORT_SIZE) {
+                int middle = (low + high) >>> 1;
+                if (less(middle, low)) {
+                    swap(middle, low);
+                }
+                if (less(high, low)) {
+                    swap(high, low);
+                }
+                if (less(high, middle)) {
+                    swap(high, middle);
+                }
+                long pivotHash = hashes[middle];
+                long pivotGame = games[middle];
+                int i = low;
+                int j = high;
+                while (i <= j) {
+                    while (less(hashes[i], games[i], pivotHash, pivotGame)) {
+                        i++;
+                    }
+                    while (less(pivotHash, pivotGame, hashes[j], games[j])) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(i++, j--);
+                    }
+                }
+                // Se ordena primero la parte más pequeña para limitar la profundidad de la recursión
+                if (j - low < high - i) {
+                    sort(low, j);
+                    low = i;
+                } else {
+                    sort(i, high);
+                    high = j;
+                }
+            }
+            for (int i = low + 1; i <= high; i++) {
+                long hash = hashes[i];
+                long game = games[i];
+                int j = i - 1;
+                while (j >= low && less(hash, game, hashes[j], games[j])) {
+                    hashes[j + 1] = hashes[j];
+                    games[j + 1] = games[j];
+                    j--;
+                }
+                hashes[j + 1] = hash;
+                games[j + 1] = game;
+            }
+        }
+
+        private boolean less(int a, int b) {
+            return less(hashes[a], games[a], hashes[b], games[b]);
+        }
+
+        private static boolean less(long hashA, long gameA, long hashB, long gameB) {
+            return hashA < hashB || (hashA == hashB && gameA < gameB);
+        }
+
+        private void swap(int a, int b) {
+            long hash = hashes[a];
+            hashes[a] = hashes[b];
+            hashes[b] = hash;
+            long game = games[a];
+            games[a] = games[b];
+            games[b] = game;
+        }
+    }
+}
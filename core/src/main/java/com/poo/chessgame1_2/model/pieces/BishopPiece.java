@@ -0,0 +1,37 @@
+package com.poo.chessgame1_2.model.pieces;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.attacks.Attacks;
+import com.poo.chessgame1_2.model.moves.MoveList;
+
+/**
+ * Clase que representa al alfil en el juego de ajedrez.
+ * El alfil se mueve en las cuatro diagonales del tablero,
+ * limitándose a avanzar a casillas vacías o capturar piezas enemigas.
+ */
+final class BishopPiece extends Piece {
+
+    /**
+     * Constructor de la clase BishopPiece (hay una única instancia, ver Piece.of).
+     */
+    BishopPiece() {
+    }
+
+    /**
+     * Genera una lista de movimientos posibles para el alfil.
+     * El alfil se mueve diagonalmente en todas las direcciones (noroeste, noreste, suroeste, sureste).
+     * Puede capturar piezas enemigas si se encuentra en una casilla correspondiente.
+     *
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param color Color de la pieza (Position.WHITE o Position.BLACK).
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param availableMovesList Lista donde se añaden los movimientos codificados.
+     */
+    @Override
+    public void makeAvailableMovesList(Position position, int color, int fromSquare, MoveList availableMovesList) {
+
+        // Las cuatro diagonales se obtienen de la tabla de ataques; se excluyen las piezas propias
+        long attacks = Attacks.bishopAttacks(fromSquare, position.getOccupancy());
+        addMoves(position, fromSquare, attacks & ~position.getColorOccupancy(color), availableMovesList);
+    }
+}
@@ -0,0 +1,62 @@
+package com.poo.chessgame1_2.model.pieces;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.attacks.Attacks;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveList;
+
+/**
+ * Clase que representa al rey en el juego de ajedrez.
+ * El rey tiene un movimiento limitado a una casilla en cualquier dirección,
+ * y además permite realizar un movimiento especial conocido como enroque.
+ */
+final class KingPiece extends Piece {
+
+    /**
+     * Constructor de la clase KingPiece (hay una única instancia, ver Piece.of).
+     */
+    KingPiece() {
+    }
+
+    /**
+     * Genera una lista de movimientos posibles para el rey.
+     * El rey puede moverse una casilla en cualquier dirección: horizontal, vertical o diagonal.
+     * Además, puede realizar un enroque si las condiciones son las adecuadas.
+     *
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param color Color de la pieza (Position.WHITE o Position.BLACK).
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param availableMovesList Lista donde se añaden los movimientos codificados.
+     */
+    @Override
+    public void makeAvailableMovesList(Position position, int color, int fromSquare, MoveList availableMovesList) {
+        // Movimientos en las ocho direcciones posibles que no estén bajo ataque.
+        long targets = Attacks.kingAttacks(fromSquare) & ~position.getColorOccupancy(color);
+        // El rey se retira de la ocupación para que las piezas deslizantes ataquen también las casillas detrás de él.
+        long occupancy = position.getOccupancy() & ~(1L << fromSquare);
+        long safeTargets = 0L;
+        while (targets != 0L) {
+            int toSquare = Long.numberOfTrailingZeros(targets);
+            if (!position.isSquareAttacked(toSquare, color ^ 1, occupancy)) {
+                safeTargets |= 1L << toSquare;
+            }
+            targets &= targets - 1;
+        }
+        addMoves(position, fromSquare, safeTargets, availableMovesList);
+
+        int castlingRights = position.getCastlingRights();
+        int kingSide = color == Position.WHITE ? Position.WHITE_KING_SIDE : Position.BLACK_KING_SIDE;
+        int queenSide = color == Position.WHITE ? Position.WHITE_QUEEN_SIDE : Position.BLACK_QUEEN_SIDE;
+
+        // Verificación de enroque hacia la izquierda.
+        if ((castlingRights & queenSide) != 0 && position.isEmpty(fromSquare - 1) &&
+                position.isEmpty(fromSquare - 2) && position.isEmpty(fromSquare - 3)) {
+            availableMovesList.add(Move.encode(fromSquare, fromSquare - 2, Move.QUEEN_CASTLE));
+        }
+
+        // Verificación de enroque hacia la derecha.
+        if ((castlingRights & kingSide) != 0 && position.isEmpty(fromSquare + 1) && position.isEmpty(fromSquare + 2)) {
+            availableMovesList.add(Move.encode(fromSquare, fromSquare + 2, Move.KING_CASTLE));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.poo.chessgame1_2.model.pieces;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.attacks.Attacks;
+import com.poo.chessgame1_2.model.moves.MoveList;
+
+/**
+ * Clase que representa un caballo en el juego de ajedrez.
+ * El caballo tiene un movimiento único en forma de "L" y puede saltar sobre otras piezas.
+ */
+final class KnightPiece extends Piece {
+
+    /**
+     * Constructor de la clase KnightPiece (hay una única instancia, ver Piece.of).
+     */
+    KnightPiece() {
+    }
+
+    /**
+     * Genera una lista de movimientos posibles para el caballo.
+     * El caballo se mueve en forma de "L", moviéndose dos casillas en una dirección (horizontal o vertical)
+     * y luego una casilla en la dirección perpendicular, o viceversa.
+     *
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param color Color de la pieza (Position.WHITE o Position.BLACK).
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param availableMovesList Lista donde se añaden los movimientos codificados.
+     */
+    @Override
+    public void makeAvailableMovesList(Position position, int color, int fromSquare, MoveList availableMovesList) {
+
+        // Movimientos en forma de "L" precalculados; se excluyen las piezas propias
+        long attacks = Attacks.knightAttacks(fromSquare);
+        addMoves(position, fromSquare, attacks & ~position.getColorOccupancy(color), availableMovesList);
+    }
+}
@@ -0,0 +1,88 @@
+package com.poo.chessgame1_2.model.pieces;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.attacks.Attacks;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveList;
+
+/**
+ * Clase que representa un peón en el juego de ajedrez.
+ * El peón tiene reglas especiales de movimiento, incluyendo el movimiento de dos casillas en su primer movimiento,
+ * las capturas diagonales, y la regla de en passant.
+ */
+final class PawnPiece extends Piece {
+
+    /**
+     * Constructor de la clase PawnPiece (hay una única instancia, ver Piece.of).
+     */
+    PawnPiece() {
+    }
+
+    /**
+     * Genera una lista de movimientos posibles para el peón.
+     * Considera movimientos normales, movimientos de captura en diagonal, y la regla de en passant.
+     * La dirección de avance y la fila inicial se obtienen del color, no de la instancia de la pieza.
+     *
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param color Color de la pieza (Position.WHITE o Position.BLACK).
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param availableMovesList Lista donde se añaden los movimientos codificados.
+     */
+    @Override
+    public void makeAvailableMovesList(Position position, int color, int fromSquare, MoveList availableMovesList) {
+        int fromI = Position.fileOf(fromSquare);
+        int fromJ = Position.rankOf(fromSquare);
+
+        // Dirección de avance: hacia la fila 8 los peones blancos, hacia la fila 1 los negros.
+        int direction = color == Position.WHITE ? 1 : -1;
+        int startJ = color == Position.WHITE ? 1 : BOARD_SIZE - 2;
+        int oneStepJ = fromJ + direction;
+        int twoStepsJ = fromJ + 2 * direction;
+
+        // Movimiento normal de una casilla hacia adelante.
+        if (oneStepJ >= 0 && oneStepJ < BOARD_SIZE && position.isEmpty(Position.square(fromI, oneStepJ))) {
+            addPawnMove(fromSquare, Position.square(fromI, oneStepJ), Move.QUIET, availableMovesList);
+
+            // Movimiento de dos casillas hacia adelante desde la fila inicial.
+            if (fromJ == startJ && position.isEmpty(Position.square(fromI, twoStepsJ))) {
+                availableMovesList.add(Move.encode(fromSquare, Position.square(fromI, twoStepsJ), Move.DOUBLE_PAWN_PUSH));
+            }
+        }
+
+        // Capturas diagonales (oponente) a partir de la tabla de ataques del peón.
+        long attacks = Attacks.pawnAttacks(color, fromSquare);
+        long captures = attacks & position.getColorOccupancy(color ^ 1);
+        while (captures != 0L) {
+            addPawnMove(fromSquare, Long.numberOfTrailingZeros(captures), Move.CAPTURE, availableMovesList);
+            captures &= captures - 1;
+        }
+
+        // Regla de en passant: la casilla saltada por el peón enemigo que acaba de avanzar dos casillas.
+        int enPassantSquare = position.getEnPassantSquare();
+        if (enPassantSquare != Position.NONE && (attacks & (1L << enPassantSquare)) != 0L &&
+                position.colorAt(Position.square(Position.fileOf(enPassantSquare), fromJ)) == (color ^ 1)) {
+            availableMovesList.add(Move.encode(fromSquare, enPassantSquare, Move.EN_PASSANT));
+        }
+    }
+
+    /**
+     * Añade un movimiento de peón; si llega a la última fila se añade una promoción por cada pieza posible.
+     *
+     * @param fromSquare Casilla de origen del peón.
+     * @param toSquare Casilla de destino del peón.
+     * @param flags Move.QUIET o Move.CAPTURE.
+     * @param availableMovesList Lista donde se añaden los movimientos codificados.
+     */
+    private static void addPawnMove(int fromSquare, int toSquare, int flags, MoveList availableMovesList) {
+        int toJ = Position.rankOf(toSquare);
+        if (toJ != 0 && toJ != BOARD_SIZE - 1) {
+            availableMovesList.add(Move.encode(fromSquare, toSquare, flags));
+            return;
+        }
+        int promotionFlags = flags | Move.PROMOTION;
+        availableMovesList.add(Move.encode(fromSquare, toSquare, promotionFlags, Position.QUEEN));
+        availableMovesList.add(Move.encode(fromSquare, toSquare, promotionFlags, Position.ROOK));
+        availableMovesList.add(Move.encode(fromSquare, toSquare, promotionFlags, Position.BISHOP));
+        availableMovesList.add(Move.encode(fromSquare, toSquare, promotionFlags, Position.KNIGHT));
+    }
+}
@@ -0,0 +1,105 @@
+package com.poo.chessgame1_2.model.pieces;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveList;
+
+/**
+ * Clase abstracta que representa el generador de movimientos de un tipo de pieza en el juego de ajedrez.
+ * Los generadores no guardan estado: los movimientos dependen solo del tipo de pieza, de su color y del estado
+ * de la posición (ocupación, derechos de enroque y casilla de captura al paso). Hay una única instancia por tipo
+ * de pieza, compartida por todas las casillas, por lo que varios hilos pueden generar movimientos de la misma
+ * posición a la vez sin bloqueos ni copias defensivas (siempre que nadie la modifique mientras tanto).
+ */
+public abstract class Piece {
+    static final int BOARD_SIZE = 8;
+
+    // Generador de cada tipo de pieza, en el orden de PieceType
+    private static final Piece[] GENERATORS = {
+            new BishopPiece(), new KingPiece(), new KnightPiece(), new PawnPiece(), new QueenPiece(), new RookPiece()
+    };
+
+    /**
+     * Constructor vacío para la clase Piece, utilizado en subclases.
+     */
+    Piece(){}
+
+    /**
+     * Obtiene el generador de movimientos de un tipo de pieza.
+     *
+     * @param pieceType Tipo de la pieza (distinto de EMPTY).
+     * @return Generador compartido del tipo de pieza.
+     */
+    public static Piece of(PieceType pieceType){
+        return GENERATORS[pieceType.ordinal()];
+    }
+
+    /**
+     * Genera los movimientos disponibles para una pieza de la posición.
+     * Los movimientos se añaden codificados (ver {@link Move}) al final de la lista.
+     *
+     * @param pieceType Tipo de la pieza (si es EMPTY no se añade ningún movimiento).
+     * @param color Color de la pieza (Position.WHITE o Position.BLACK).
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param availableMovesList Lista de movimientos a completar.
+     */
+    public static void generateMoves(PieceType pieceType, int color, Position position, int fromSquare, MoveList availableMovesList){
+        if (pieceType == PieceType.EMPTY) {
+            return;
+        }
+        GENERATORS[pieceType.ordinal()].makeAvailableMovesList(position, color, fromSquare, availableMovesList);
+    }
+
+    /**
+     * Verifica si un movimiento es válido para una pieza de la posición.
+     *
+     * @param pieceType Tipo de la pieza.
+     * @param color Color de la pieza (Position.WHITE o Position.BLACK).
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param toSquare Casilla de destino de la pieza.
+     * @param availableMovesList Lista reutilizable donde se generan los movimientos de la pieza.
+     * @return true si el movimiento es válido, false en caso contrario.
+     */
+    public static boolean isValidMove(PieceType pieceType, int color, Position position, int fromSquare, int toSquare,
+                                      MoveList availableMovesList){
+        availableMovesList.clear();
+        generateMoves(pieceType, color, position, fromSquare, availableMovesList);
+        return availableMovesList.contains(fromSquare, toSquare);
+    }
+
+    /**
+     * Añade a la lista un movimiento por cada casilla activa del bitboard.
+     * Las casillas ocupadas se marcan como capturas.
+     *
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param targets Bitboard con las casillas de destino.
+     * @param availableMovesList Lista de movimientos a completar.
+     */
+    static void addMoves(Position position, int fromSquare, long targets, MoveList availableMovesList){
+        long captures = targets & position.getOccupancy();
+        long quiets = targets & ~captures;
+        while (captures != 0L) {
+            availableMovesList.add(Move.encode(fromSquare, Long.numberOfTrailingZeros(captures), Move.CAPTURE));
+            captures &= captures - 1;
+        }
+        while (quiets != 0L) {
+            availableMovesList.add(Move.encode(fromSquare, Long.numberOfTrailingZeros(quiets), Move.QUIET));
+            quiets &= quiets - 1;
+        }
+    }
+
+    /**
+     * Genera los movimientos disponibles para una pieza de este tipo en una posición dada.
+     * Los movimientos se añaden codificados (ver {@link Move}) al final de la lista.
+     *
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param color Color de la pieza (Position.WHITE o Position.BLACK).
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param availableMovesList Lista de movimientos a completar.
+     */
+    public abstract void makeAvailableMovesList(Position position, int color, int fromSquare, MoveList availableMovesList);
+
+}
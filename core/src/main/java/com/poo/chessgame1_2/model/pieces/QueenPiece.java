@@ -0,0 +1,35 @@
+package com.poo.chessgame1_2.model.pieces;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.attacks.Attacks;
+import com.poo.chessgame1_2.model.moves.MoveList;
+
+/**
+ * Representa la pieza de la reina en el juego de ajedrez.
+ * La reina se mueve en líneas rectas, tanto vertical, horizontal como diagonalmente.
+ */
+final class QueenPiece extends Piece {
+
+    /**
+     * Constructor de la clase QueenPiece (hay una única instancia, ver Piece.of).
+     */
+    QueenPiece() {
+    }
+
+    /**
+     * Calcula y devuelve la lista de movimientos posibles de la reina desde una posición dada.
+     * La reina puede moverse en líneas rectas en las direcciones horizontal, vertical y diagonal.
+     *
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param color Color de la pieza (Position.WHITE o Position.BLACK).
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param availableMovesList Lista donde se añaden los movimientos codificados.
+     */
+    @Override
+    public void makeAvailableMovesList(Position position, int color, int fromSquare, MoveList availableMovesList) {
+
+        // Filas, columnas y diagonales se obtienen de la tabla de ataques; se excluyen las piezas propias
+        long attacks = Attacks.queenAttacks(fromSquare, position.getOccupancy());
+        addMoves(position, fromSquare, attacks & ~position.getColorOccupancy(color), availableMovesList);
+    }
+}
@@ -0,0 +1,36 @@
+package com.poo.chessgame1_2.model.pieces;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.attacks.Attacks;
+import com.poo.chessgame1_2.model.moves.MoveList;
+
+/**
+ * Representa la pieza de la torre en el juego de ajedrez.
+ * La torre se mueve en líneas rectas, tanto vertical como horizontalmente.
+ */
+final class RookPiece extends Piece {
+
+    /**
+     * Constructor de la clase RookPiece (hay una única instancia, ver Piece.of).
+     */
+    RookPiece() {
+    }
+
+    /**
+     * Calcula y devuelve la lista de movimientos posibles de la torre desde una posición dada.
+     * La torre puede moverse horizontal y verticalmente, hasta que encuentre una pieza que bloquee su camino
+     * o una pieza del oponente que puede capturar.
+     *
+     * @param position La posición del tablero representada mediante bitboards.
+     * @param color Color de la pieza (Position.WHITE o Position.BLACK).
+     * @param fromSquare Casilla de origen de la pieza.
+     * @param availableMovesList Lista donde se añaden los movimientos codificados.
+     */
+    @Override
+    public void makeAvailableMovesList(Position position, int color, int fromSquare, MoveList availableMovesList) {
+
+        // Filas y columnas se obtienen de la tabla de ataques; se excluyen las piezas propias
+        long attacks = Attacks.rookAttacks(fromSquare, position.getOccupancy());
+        addMoves(position, fromSquare, attacks & ~position.getColorOccupancy(color), availableMovesList);
+    }
+}
@@ -1,8 +1,6 @@
 package com.poo.chessgame1_2.model.players;
 
-import com.poo.chessgame1_2.model.Square;
-import javafx.scene.paint.Color;
-import java.util.ArrayList;
+import com.poo.chessgame1_2.model.Position;
 
 /**
  * Clase que representa a un jugador en el juego de ajedrez.
@@ -10,15 +8,15 @@ import java.util.ArrayList;
  */
 public class Player {
     String name;
-    Color playerColor;
+    byte playerColor;
 
     /**
      * Constructor que inicializa un jugador con un nombre y un color de piezas.
      *
      * @param name El nombre del jugador.
-     * @param playerColor El color de las piezas del jugador (blanco o negro).
+     * @param playerColor El color de las piezas del jugador (Position.WHITE o Position.BLACK).
      */
-    public Player(String name, Color playerColor) {
+    public Player(String name, byte playerColor) {
         this.name = name;
         this.playerColor = playerColor;
     }
@@ -29,18 +27,18 @@ public class Player {
      * @return "White" si el color es blanco, "Black" si el color es negro.
      */
     public String getPlayerColorAsString(){
-        if(playerColor == Color.WHITE){
+        if(playerColor == Position.WHITE){
             return "White";
         }
         return "Black";
     }
 
     /**
-     * Devuelve el color del jugador como un objeto {@link Color}.
+     * Devuelve el color del jugador.
      *
-     * @return El color de las piezas del jugador.
+     * @return El color de las piezas del jugador (Position.WHITE o Position.BLACK).
      */
-    public Color getPlayerColor(){
+    public byte getPlayerColor(){
         return playerColor;
     }
 
@@ -65,9 +63,9 @@ public class Player {
     /**
      * Establece un nuevo color para las piezas del jugador.
      *
-     * @param playerColor El nuevo color que se asignará a las piezas del jugador.
+     * @param playerColor El nuevo color que se asignará a las piezas del jugador (Position.WHITE o Position.BLACK).
      */
-    public void setPlayerColor(Color playerColor) {
+    public void setPlayerColor(byte playerColor) {
         this.playerColor = playerColor;
     }
 }
@@ -0,0 +1,231 @@
+package com.poo.chessgame1_2.model.utils;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.GameType;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.pieces.PieceType;
+import com.poo.chessgame1_2.model.players.Player;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Clase responsable de leer y cargar el estado del tablero de ajedrez desde un archivo.
+ * Esta clase interpreta el archivo de anotaciones del tablero y coloca las piezas en el tablero,
+ * además de configurar los jugadores, el tipo de juego y el jugador que tiene el próximo movimiento.
+ */
+public class BoardReader extends FilesIO {
+
+    private final Board board;
+    private String filePath;
+    private boolean isUserFile = false; // true si el archivo está fuera de la carpeta de recursos
+
+    /**
+     * Constructor que inicializa la instancia de BoardReader con un tablero.
+     *
+     * @param board El tablero donde se establecerá el estado.
+     */
+    public BoardReader(Board board){
+        this.board = board;
+    }
+
+    /**
+     * Establece la ruta del archivo del cual se leerá la disposición del tablero.
+     *
+     * @param filePath Ruta del archivo con la anotación del tablero.
+     */
+    public void setFilePath(String filePath){
+        this.filePath = filePath;
+        this.isUserFile = false;
+    }
+
+    /**
+     * Establece la ruta de un archivo fuera de la carpeta de recursos del cual se leerá la disposición del tablero.
+     *
+     * @param filePath Ruta del archivo con la anotación del tablero.
+     */
+    public void setUserFilePath(String filePath){
+        this.filePath = filePath;
+        this.isUserFile = true;
+    }
+
+    /**
+     * Lee la información de las piezas desde el archivo de anotación y las coloca en el tablero.
+     * También configura el jugador actual, el tipo de juego y los jugadores.
+     */
+    public void setData(){
+        byte[] data = isUserFile ? readBytesForUser(filePath) : readBytes(filePath);
+        if (data == null) {
+            return;
+        }
+        setData(new ByteSequence(ByteBuffer.wrap(data), 0, data.length));
+    }
+
+    /**
+     * Interpreta un texto en la anotación del tablero (por ejemplo "wRa1 wNb1 ... @w") y lo aplica al tablero.
+     * El texto se recorre carácter a carácter sin dividirlo en cadenas; solo se crean cadenas para los nombres
+     * de los jugadores.
+     *
+     * @param notation Texto con la anotación del tablero (puede ser una vista {@link ByteSequence} de un archivo).
+     */
+    public void setData(CharSequence notation){
+        int length = notation.length();
+        Player player1 = null, player2 = null;
+
+        int k = 0;
+        while (k < length) {
+            char c = notation.charAt(k);
+            if (isSeparator(c)) {
+                k++;
+                continue;
+            }
+
+            int tokenStart = k;
+            while (k < length && !isSeparator(notation.charAt(k))) {
+                k++;
+            }
+            int tokenLength = k - tokenStart;
+
+            if (c == '#') {
+                // Comentario hasta el final de la línea
+                while (k < length && notation.charAt(k) != '\n') {
+                    k++;
+                }
+            } else if (tokenLength >= 2 && c == '@') {
+                setCurrentMoveColor(notation.charAt(tokenStart + 1));
+            } else if (tokenLength >= 2 && c == '$') {
+                setGameType(notation.charAt(tokenStart + 1));
+            } else if (tokenLength >= 4 && c == '%') {
+                if (player1 == null) {
+                    player1 = getPlayerFromData(notation, tokenStart, k);
+                } else if (player2 == null) {
+                    player2 = getPlayerFromData(notation, tokenStart, k);
+                }
+            } else if (tokenLength >= 4 && c == '&') {
+                // Datos de los relojes: no se utilizan
+            } else if (tokenLength == 4) {
+                setPiece(notation, tokenStart);
+            }
+        }
+
+        if(player1 != null && player2 != null){
+            board.setPlayer(player1, player2);
+        }
+    }
+
+    /**
+     * Verifica si un carácter separa los datos del archivo.
+     *
+     * @param c Carácter a verificar.
+     * @return true si es un espacio o un salto de línea.
+     */
+    private static boolean isSeparator(char c){
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    /**
+     * Convierte los datos de la pieza en formato de texto a objetos y coloca la pieza en el tablero.
+     *
+     * @param notation Texto con la anotación del tablero.
+     * @param start Índice de los datos de la pieza (ej. wKc1 para una pieza blanca rey en la casilla c1).
+     */
+    private void setPiece(CharSequence notation, int start){
+
+        byte pieceColor;
+        PieceType pieceType;
+        int boardI, boardJ;
+
+        if(notation.charAt(start) == 'w'){
+            pieceColor = Position.WHITE;
+        }
+        else if(notation.charAt(start) == 'b'){
+            pieceColor = Position.BLACK;
+        }
+        else {return;}
+
+        if(notation.charAt(start + 1) == 'B'){
+            pieceType = PieceType.BISHOP;
+        }
+        else if(notation.charAt(start + 1) == 'K') {
+            pieceType = PieceType.KING;
+        }
+        else if(notation.charAt(start + 1) == 'N') {
+            pieceType = PieceType.KNIGHT;
+        }
+        else if(notation.charAt(start + 1) == 'P') {
+            pieceType = PieceType.PAWN;
+        }
+        else if(notation.charAt(start + 1) == 'Q') {
+            pieceType = PieceType.QUEEN;
+        }
+        else if(notation.charAt(start + 1) == 'R') {
+            pieceType = PieceType.ROOK;
+        }
+        else if(notation.charAt(start + 1) == 'E'){
+            pieceType = PieceType.EMPTY;
+        }
+        else {return;}
+
+        if (notation.charAt(start + 2) >= 'a' && notation.charAt(start + 2) <= 'h'){
+            boardI = notation.charAt(start + 2) - 'a';
+        }
+        else{return;}
+
+        if(notation.charAt(start + 3) >= '1' && notation.charAt(start + 3) <= '8'){
+            boardJ = notation.charAt(start + 3) - '1';
+        }
+        else{return;}
+
+        board.setSquare(pieceColor,pieceType,boardI,boardJ);
+    }
+
+    /**
+     * Establece el color del jugador que tiene el próximo movimiento.
+     *
+     * @param color Color del jugador (w para blanco, b para negro).
+     */
+    private void setCurrentMoveColor(char color){
+        if(color == 'w'){
+            board.setCurrentPlayerColor(Position.WHITE);
+        }
+        else{
+            board.setCurrentPlayerColor(Position.BLACK);
+        }
+    }
+
+    /**
+     * Establece el tipo de juego basado en el caracter leído.
+     *
+     * @param gameType Tipo de juego (m para multijugador, s para un jugador).
+     */
+    private void setGameType(char gameType){
+        if(gameType == 's'){
+            board.setGameType(GameType.SINGLEPLAYER);
+        }
+        else{
+            board.setGameType(GameType.MULTIPLAYER);
+        }
+    }
+
+    /**
+     * Decodifica la información de un jugador a un objeto Player.
+     *
+     * @param notation Texto con la anotación del tablero.
+     * @param start Índice de los datos del jugador (ej. %w_nombre).
+     * @param end Índice siguiente al final de los datos del jugador.
+     * @return Instancia de Player con la información decodificada.
+     */
+    private Player getPlayerFromData(CharSequence notation, int start, int end){
+        byte playerColor;
+        if(notation.charAt(start + 1) == 'w'){
+            playerColor = Position.WHITE;
+        }
+        else if(notation.charAt(start + 1) == 'b'){
+            playerColor = Position.BLACK;
+        }
+        else{
+            return null;
+        }
+        String playerName = notation.subSequence(start + 3, end).toString();
+        return new Player(playerName,playerColor);
+    }
+}
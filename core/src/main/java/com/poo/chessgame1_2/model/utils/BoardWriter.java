@@ -0,0 +1,133 @@
+package com.poo.chessgame1_2.model.utils;
+
+import com.poo.chessgame1_2.model.GameType;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.PositionSnapshot;
+import com.poo.chessgame1_2.model.pieces.PieceType;
+import com.poo.chessgame1_2.model.players.Player;
+
+/**
+ * Clase que maneja la escritura del estado del tablero de ajedrez en un archivo.
+ * Permite guardar la información sobre las piezas en el tablero, el jugador que tiene el próximo movimiento.
+ */
+public class BoardWriter extends FilesIO {
+
+    private final int BOARD_SIZE = 8; // Tamaño del tablero (8x8)
+    private String filePath;
+
+    /**
+     * Establece la ruta del archivo donde se guardará el estado del juego.
+     *
+     * @param filePath Ruta del archivo (fuera de la carpeta de recursos) para guardar el estado del juego.
+     */
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Imprime el estado actual del tablero de ajedrez en un archivo, incluyendo:
+     * - La posición de todas las piezas
+     * - El jugador que tiene el próximo movimiento
+     * - El tipo de juego (multijugador o no)
+     * - Los nombres y colores de los jugadores
+     *
+     * @param snapshot Copia inmutable de la posición que se guarda (incluye el turno).
+     * @param gameType Tipo de juego (multijugador o no).
+     * @param player1 Jugador 1, instancia de la clase Player (o null si el tablero no tiene jugadores).
+     * @param player2 Jugador 2, instancia de la clase Player (o null si el tablero no tiene jugadores).
+     */
+    public void setData(PositionSnapshot snapshot, GameType gameType, Player player1, Player player2) {
+        StringBuilder sb = new StringBuilder(400);
+        appendData(snapshot, gameType, player1, player2, sb);
+
+        setPrintStreamForUser(filePath);
+        printWriter.print(sb);
+        closePrintStream();
+    }
+
+    /**
+     * Añade el estado del tablero en la anotación del tablero (el mismo texto que {@link #setData} guarda
+     * en el archivo) al final del StringBuilder, sin crear cadenas intermedias.
+     *
+     * @param snapshot Copia inmutable de la posición (incluye el turno).
+     * @param gameType Tipo de juego (multijugador o no).
+     * @param player1 Jugador 1 (o null para no escribir los jugadores).
+     * @param player2 Jugador 2 (o null para no escribir los jugadores).
+     * @param sb Destino (puede reutilizarse para muchos tableros).
+     */
+    public void appendData(PositionSnapshot snapshot, GameType gameType, Player player1, Player player2,
+                           StringBuilder sb) {
+        // Escribir la posición de las piezas en el tablero
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                int square = Position.square(i, j);
+                appendPiece(snapshot.colorAt(square), snapshot.pieceTypeAt(square), i, j, sb);
+            }
+        }
+        sb.append('\n');
+
+        // Escribir información sobre el próximo movimiento
+        sb.append('@').append(snapshot.getSideToMove() == Position.BLACK ? 'b' : 'w').append('\n');
+
+        // Escribir tipo de juego
+        sb.append('$').append(gameType == GameType.SINGLEPLAYER ? 's' : 'm').append('\n');
+
+        // Escribir los nombres y colores de los jugadores
+        if (player1 != null && player2 != null) {
+            appendPlayer(player1, sb);
+            appendPlayer(player2, sb);
+        }
+    }
+
+    /**
+     * Añade el color y el nombre de un jugador (ej. %w_nombre).
+     *
+     * @param player Jugador.
+     * @param sb Destino.
+     */
+    private void appendPlayer(Player player, StringBuilder sb) {
+        sb.append('%').append(player.getPlayerColor() == Position.BLACK ? 'b' : 'w').append('_')
+                .append(player.getPlayerName()).append('\n');
+    }
+
+    /**
+     * Añade los datos de una pieza en formato de texto (ej. wKc1).
+     *
+     * @param pieceColor Color de la pieza (Position.WHITE, Position.BLACK o Position.NONE si la casilla está vacía).
+     * @param pieceType Tipo de la pieza (PieceType.EMPTY si la casilla está vacía).
+     * @param boardI Coordenada I de la casilla.
+     * @param boardJ Coordenada J de la casilla.
+     * @param sb Destino.
+     */
+    private void appendPiece(int pieceColor, PieceType pieceType, int boardI, int boardJ, StringBuilder sb) {
+        char pieceTypeChar = 'B';  // Valor por defecto
+
+        // Asignar la abreviatura de la pieza según su tipo
+        switch (pieceType) {
+            case BISHOP:
+                pieceTypeChar = 'B';
+                break;
+            case EMPTY:
+                pieceTypeChar = 'E';
+                break;
+            case KING:
+                pieceTypeChar = 'K';
+                break;
+            case KNIGHT:
+                pieceTypeChar = 'N';
+                break;
+            case PAWN:
+                pieceTypeChar = 'P';
+                break;
+            case QUEEN:
+                pieceTypeChar = 'Q';
+                break;
+            case ROOK:
+                pieceTypeChar = 'R';
+                break;
+        }
+
+        sb.append(pieceColor == Position.BLACK ? 'b' : 'w').append(pieceTypeChar)
+                .append((char) ('a' + boardI)).append((char) ('1' + boardJ)).append(' ');
+    }
+}
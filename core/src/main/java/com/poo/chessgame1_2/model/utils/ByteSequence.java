@@ -0,0 +1,118 @@
+package com.poo.chessgame1_2.model.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Vista de una región de un ByteBuffer como CharSequence, sin copiar los bytes.
+ * Permite que los intérpretes de texto (FEN, anotación del tablero...) lean directamente de un archivo
+ * cargado en memoria sin crear cadenas intermedias. La misma instancia puede reutilizarse para muchas regiones.
+ *
+ * charAt devuelve cada byte como un carácter: las notaciones de ajedrez son ASCII, y los bytes de los caracteres
+ * no ASCII (por ejemplo en los nombres de los jugadores) nunca se confunden con separadores.
+ * toString decodifica la región como UTF-8.
+ */
+public final class ByteSequence implements CharSequence {
+    private ByteBuffer buffer; // Buffer con el texto (no se modifica su posición)
+    private int start; // Índice absoluto del primer byte de la región
+    private int length; // Número de bytes de la región
+
+    /**
+     * Constructor de una vista vacía.
+     */
+    public ByteSequence() {
+    }
+
+    /**
+     * Constructor de una vista de una región de un buffer.
+     *
+     * @param buffer buffer con el texto
+     * @param start índice absoluto del primer byte
+     * @param end índice absoluto siguiente al último byte
+     */
+    public ByteSequence(ByteBuffer buffer, int start, int end) {
+        wrap(buffer, start, end);
+    }
+
+    /**
+     * Hace que la vista muestre una región de un buffer.
+     *
+     * @param buffer buffer con el texto
+     * @param start índice absoluto del primer byte
+     * @param end índice absoluto siguiente al último byte
+     * @return esta vista
+     */
+    public ByteSequence wrap(ByteBuffer buffer, int start, int end) {
+        if (start < 0 || end < start || end > buffer.limit()) {
+            throw new IndexOutOfBoundsException("Región no válida: " + start + ".." + end);
+        }
+        this.buffer = buffer;
+        this.start = start;
+        this.length = end - start;
+        return this;
+    }
+
+    /**
+     * Hace que la vista muestre la siguiente línea del buffer, a partir de su posición actual, sin el salto de línea
+     * ("\n" o "\r\n"), y avanza la posición del buffer hasta el comienzo de la línea siguiente.
+     *
+     * @param buffer buffer con el texto
+     * @return esta vista, o null si no quedan bytes en el buffer
+     */
+    public ByteSequence wrapLine(ByteBuffer buffer) {
+        int lineStart = buffer.position();
+        int limit = buffer.limit();
+        if (lineStart >= limit) {
+            return null;
+        }
+        int lineEnd = lineStart;
+        while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+            lineEnd++;
+        }
+        buffer.position(lineEnd < limit ? lineEnd + 1 : limit);
+        if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+            lineEnd--;
+        }
+        return wrap(buffer, lineStart, lineEnd);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    /**
+     * Obtiene una vista nueva de una parte de esta región (comparte el buffer).
+     *
+     * @param start índice del primer carácter, relativo a esta región
+     * @param end índice siguiente al último carácter, relativo a esta región
+     * @return vista de la parte indicada
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end < start || end > length) {
+            throw new IndexOutOfBoundsException("Región no válida: " + start + ".." + end);
+        }
+        return new ByteSequence(buffer, this.start + start, this.start + end);
+    }
+
+    /**
+     * Decodifica la región como texto UTF-8.
+     *
+     * @return cadena con el texto de la región
+     */
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
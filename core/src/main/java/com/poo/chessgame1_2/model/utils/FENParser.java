@@ -0,0 +1,399 @@
+package com.poo.chessgame1_2.model.utils;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.PositionSnapshot;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Clase que interpreta y escribe posiciones en notación FEN (Forsyth-Edwards Notation) y EPD.
+ * Solo se utilizan los cuatro primeros campos: piezas, turno, enroques y captura al paso;
+ * los contadores de medio movimiento y de jugada son opcionales y se ignoran, y en EPD las operaciones
+ * que siguen a los cuatro campos (por ejemplo "bm e4; id \"x\";") se dejan para quien llama.
+ *
+ * La lectura recorre el texto carácter a carácter desde cualquier CharSequence (incluida una vista
+ * {@link ByteSequence} de un archivo en memoria) y la escritura añade los caracteres a un StringBuilder
+ * o a un ByteBuffer reutilizables, de modo que leer o escribir una posición no crea cadenas intermedias.
+ */
+public class FENParser {
+
+    public static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"; // Posición inicial
+    private static final String PIECE_LETTERS = "bknpqr"; // Letras en el orden de los índices de Position
+
+    private FENParser() {
+    }
+
+    /**
+     * Carga una posición FEN o EPD en la posición indicada, reemplazando su contenido.
+     *
+     * @param fen texto en notación FEN o EPD
+     * @param position posición donde se colocan las piezas
+     * @return índice del texto siguiente al último campo leído (donde empiezan las operaciones EPD)
+     * @throws IllegalArgumentException si el texto no es una posición FEN válida
+     */
+    public static int parse(CharSequence fen, Position position) {
+        return parse(fen, 0, fen.length(), position);
+    }
+
+    /**
+     * Carga una posición FEN o EPD escrita en una parte del texto, reemplazando el contenido de la posición.
+     * Si la cadena no es válida, la posición puede quedar a medio cargar.
+     *
+     * @param text texto que contiene la posición
+     * @param start índice del primer carácter
+     * @param end índice siguiente al último carácter
+     * @param position posición donde se colocan las piezas
+     * @return índice del texto siguiente al último campo leído (donde empiezan las operaciones EPD)
+     * @throws IllegalArgumentException si el texto no es una posición FEN válida
+     */
+    public static int parse(CharSequence text, int start, int end, Position position) {
+        int k = skipSpaces(text, start, end);
+        position.clear();
+        k = setPieces(text, k, end, position, start);
+
+        k = skipSpaces(text, k, end);
+        char side = k < end ? text.charAt(k) : ' ';
+        if (side == 'w') {
+            position.setSideToMove(Position.WHITE);
+        } else if (side == 'b') {
+            position.setSideToMove(Position.BLACK);
+        } else {
+            throw invalid("Turno no válido en FEN", text, start, end);
+        }
+        k++;
+        if (k < end && !isSpace(text.charAt(k))) {
+            throw invalid("Turno no válido en FEN", text, start, end);
+        }
+
+        int fieldStart = skipSpaces(text, k, end);
+        if (fieldStart == end) {
+            return end;
+        }
+        k = fieldEnd(text, fieldStart, end);
+        position.setCastlingRights(parseCastlingRights(text, fieldStart, k, start, end));
+
+        fieldStart = skipSpaces(text, k, end);
+        if (fieldStart == end) {
+            return end;
+        }
+        k = fieldEnd(text, fieldStart, end);
+        if (k - fieldStart != 1 || text.charAt(fieldStart) != '-') {
+            position.setEnPassantSquare(parseSquare(text, fieldStart, k, start, end));
+        }
+
+        // Contadores de medio movimiento y de jugada (solo en FEN)
+        for (int counter = 0; counter < 2; counter++) {
+            fieldStart = skipSpaces(text, k, end);
+            int fieldEnd = fieldEnd(text, fieldStart, end);
+            if (fieldEnd == fieldStart || !isNumber(text, fieldStart, fieldEnd)) {
+                break;
+            }
+            k = fieldEnd;
+        }
+        return k;
+    }
+
+    /**
+     * Carga la posición FEN o EPD de la siguiente línea del buffer, a partir de su posición actual,
+     * y avanza la posición del buffer hasta la línea siguiente.
+     *
+     * @param buffer buffer con una posición por línea (texto ASCII)
+     * @param position posición donde se colocan las piezas
+     * @throws IllegalArgumentException si la línea no es una posición FEN válida o no quedan líneas
+     */
+    public static void parse(ByteBuffer buffer, Position position) {
+        ByteSequence line = new ByteSequence().wrapLine(buffer);
+        if (line == null) {
+            throw new IllegalArgumentException("No quedan posiciones en el buffer");
+        }
+        parse(line, position);
+    }
+
+    /**
+     * Escribe una copia del tablero en notación FEN.
+     * El contador de medio movimiento se escribe como 0 y el número de jugada se calcula con los movimientos
+     * realizados desde que se cargó el tablero.
+     *
+     * @param snapshot copia inmutable de la posición
+     * @return cadena en notación FEN
+     */
+    public static String toFEN(PositionSnapshot snapshot) {
+        StringBuilder sb = new StringBuilder(90);
+        appendFEN(snapshot, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Añade la posición en notación FEN (ver {@link #toFEN(PositionSnapshot)}).
+     *
+     * @param snapshot copia inmutable de la posición
+     * @param sb destino
+     */
+    public static void appendFEN(PositionSnapshot snapshot, StringBuilder sb) {
+        write(snapshot, true, sb, null);
+    }
+
+    /**
+     * Añade la posición en notación EPD: los cuatro primeros campos del FEN, sin contadores.
+     *
+     * @param snapshot copia inmutable de la posición
+     * @param sb destino
+     */
+    public static void appendEPD(PositionSnapshot snapshot, StringBuilder sb) {
+        write(snapshot, false, sb, null);
+    }
+
+    /**
+     * Escribe la posición en notación FEN, en ASCII, a partir de la posición actual del buffer.
+     *
+     * @param snapshot copia inmutable de la posición
+     * @param buffer destino
+     * @throws java.nio.BufferOverflowException si no cabe en el buffer
+     */
+    public static void putFEN(PositionSnapshot snapshot, ByteBuffer buffer) {
+        write(snapshot, true, null, buffer);
+    }
+
+    /**
+     * Escribe la posición en notación EPD, en ASCII, a partir de la posición actual del buffer.
+     *
+     * @param snapshot copia inmutable de la posición
+     * @param buffer destino
+     * @throws java.nio.BufferOverflowException si no cabe en el buffer
+     */
+    public static void putEPD(PositionSnapshot snapshot, ByteBuffer buffer) {
+        write(snapshot, false, null, buffer);
+    }
+
+    /**
+     * Escribe la posición en el StringBuilder o, si es null, en el buffer.
+     *
+     * @param snapshot copia inmutable de la posición
+     * @param counters true para añadir los contadores de medio movimiento y de jugada (FEN), false para EPD
+     * @param sb destino de texto (o null)
+     * @param buffer destino de bytes (si sb es null)
+     */
+    private static void write(PositionSnapshot snapshot, boolean counters, StringBuilder sb, ByteBuffer buffer) {
+        for (int boardJ = 7; boardJ >= 0; boardJ--) {
+            int emptySquares = 0;
+            for (int boardI = 0; boardI < 8; boardI++) {
+                int square = Position.square(boardI, boardJ);
+                if (snapshot.isEmpty(square)) {
+                    emptySquares++;
+                    continue;
+                }
+                if (emptySquares > 0) {
+                    put((char) ('0' + emptySquares), sb, buffer);
+                    emptySquares = 0;
+                }
+                char c = PIECE_LETTERS.charAt(snapshot.typeAt(square));
+                put(snapshot.colorAt(square) == Position.WHITE ? Character.toUpperCase(c) : c, sb, buffer);
+            }
+            if (emptySquares > 0) {
+                put((char) ('0' + emptySquares), sb, buffer);
+            }
+            if (boardJ > 0) {
+                put('/', sb, buffer);
+            }
+        }
+
+        put(' ', sb, buffer);
+        put(snapshot.getSideToMove() == Position.WHITE ? 'w' : 'b', sb, buffer);
+        put(' ', sb, buffer);
+        int castlingRights = snapshot.getCastlingRights();
+        if (castlingRights == 0) {
+            put('-', sb, buffer);
+        }
+        if ((castlingRights & Position.WHITE_KING_SIDE) != 0) {
+            put('K', sb, buffer);
+        }
+        if ((castlingRights & Position.WHITE_QUEEN_SIDE) != 0) {
+            put('Q', sb, buffer);
+        }
+        if ((castlingRights & Position.BLACK_KING_SIDE) != 0) {
+            put('k', sb, buffer);
+        }
+        if ((castlingRights & Position.BLACK_QUEEN_SIDE) != 0) {
+            put('q', sb, buffer);
+        }
+
+        put(' ', sb, buffer);
+        int enPassantSquare = snapshot.getEnPassantSquare();
+        if (enPassantSquare == Position.NONE) {
+            put('-', sb, buffer);
+        } else {
+            put((char) ('a' + Position.fileOf(enPassantSquare)), sb, buffer);
+            put((char) ('1' + Position.rankOf(enPassantSquare)), sb, buffer);
+        }
+
+        if (counters) {
+            put(' ', sb, buffer);
+            put('0', sb, buffer);
+            put(' ', sb, buffer);
+            putNumber(1 + snapshot.getMoveCount() / 2, sb, buffer);
+        }
+    }
+
+    /**
+     * Añade un carácter ASCII al StringBuilder o, si es null, al buffer.
+     */
+    private static void put(char c, StringBuilder sb, ByteBuffer buffer) {
+        if (sb != null) {
+            sb.append(c);
+        } else {
+            buffer.put((byte) c);
+        }
+    }
+
+    /**
+     * Añade un número positivo en decimal sin crear cadenas.
+     */
+    private static void putNumber(int number, StringBuilder sb, ByteBuffer buffer) {
+        int divisor = 1;
+        while (number / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            put((char) ('0' + number / divisor % 10), sb, buffer);
+        }
+    }
+
+    /**
+     * Coloca las piezas descritas en el primer campo del FEN, desde la fila 8 hasta la fila 1.
+     *
+     * @return índice siguiente al campo de las piezas
+     */
+    private static int setPieces(CharSequence text, int k, int end, Position position, int start) {
+        int boardI = 0;
+        int boardJ = 7;
+        for (; k < end && !isSpace(text.charAt(k)); k++) {
+            char c = text.charAt(k);
+            if (c == '/') {
+                boardI = 0;
+                boardJ--;
+            } else if (c >= '1' && c <= '8') {
+                boardI += c - '0';
+            } else {
+                int type = pieceType(Character.toLowerCase(c));
+                if (type == Position.NONE || boardI > 7 || boardJ < 0) {
+                    throw invalid("Piezas no válidas en FEN", text, start, end);
+                }
+                int color = Character.isUpperCase(c) ? Position.WHITE : Position.BLACK;
+                position.putPiece(color, type, Position.square(boardI, boardJ));
+                boardI++;
+            }
+        }
+        if (boardJ != 0) {
+            throw invalid("Número de filas no válido en FEN", text, start, end);
+        }
+        return k;
+    }
+
+    /**
+     * Convierte la letra de una pieza (en minúscula) en su tipo dentro de la posición.
+     */
+    private static int pieceType(char c) {
+        switch (c) {
+            case 'b':
+                return Position.BISHOP;
+            case 'k':
+                return Position.KING;
+            case 'n':
+                return Position.KNIGHT;
+            case 'p':
+                return Position.PAWN;
+            case 'q':
+                return Position.QUEEN;
+            case 'r':
+                return Position.ROOK;
+            default:
+                return Position.NONE;
+        }
+    }
+
+    /**
+     * Convierte el campo de enroques ("KQkq", "-", ...) en los bits de derechos de enroque.
+     */
+    private static int parseCastlingRights(CharSequence text, int fieldStart, int fieldEnd, int start, int end) {
+        int castlingRights = 0;
+        if (fieldEnd - fieldStart == 1 && text.charAt(fieldStart) == '-') {
+            return castlingRights;
+        }
+        for (int k = fieldStart; k < fieldEnd; k++) {
+            switch (text.charAt(k)) {
+                case 'K':
+                    castlingRights |= Position.WHITE_KING_SIDE;
+                    break;
+                case 'Q':
+                    castlingRights |= Position.WHITE_QUEEN_SIDE;
+                    break;
+                case 'k':
+                    castlingRights |= Position.BLACK_KING_SIDE;
+                    break;
+                case 'q':
+                    castlingRights |= Position.BLACK_QUEEN_SIDE;
+                    break;
+                default:
+                    throw invalid("Enroques no válidos en FEN", text, start, end);
+            }
+        }
+        return castlingRights;
+    }
+
+    /**
+     * Convierte una casilla en notación algebraica ("e3") en su índice.
+     */
+    private static int parseSquare(CharSequence text, int fieldStart, int fieldEnd, int start, int end) {
+        if (fieldEnd - fieldStart != 2 || text.charAt(fieldStart) < 'a' || text.charAt(fieldStart) > 'h'
+                || text.charAt(fieldStart + 1) < '1' || text.charAt(fieldStart + 1) > '8') {
+            throw invalid("Casilla no válida en FEN", text, start, end);
+        }
+        return Position.square(text.charAt(fieldStart) - 'a', text.charAt(fieldStart + 1) - '1');
+    }
+
+    /**
+     * Verifica si un carácter separa los campos.
+     */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    /**
+     * Obtiene el índice del primer carácter que no es un separador.
+     */
+    private static int skipSpaces(CharSequence text, int k, int end) {
+        while (k < end && isSpace(text.charAt(k))) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Obtiene el índice siguiente al último carácter del campo que empieza en k.
+     */
+    private static int fieldEnd(CharSequence text, int k, int end) {
+        while (k < end && !isSpace(text.charAt(k))) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Verifica si un campo solo contiene dígitos.
+     */
+    private static boolean isNumber(CharSequence text, int fieldStart, int fieldEnd) {
+        for (int k = fieldStart; k < fieldEnd; k++) {
+            if (text.charAt(k) < '0' || text.charAt(k) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Crea la excepción de un FEN no válido (la cadena solo se copia cuando hay un error).
+     */
+    private static IllegalArgumentException invalid(String message, CharSequence text, int start, int end) {
+        return new IllegalArgumentException(message + ": " + text.subSequence(start, end));
+    }
+}
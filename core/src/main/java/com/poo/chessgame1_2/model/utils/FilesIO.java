@@ -3,8 +3,10 @@ package com.poo.chessgame1_2.model.utils;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
-import java.util.Scanner;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Clase que maneja las operaciones de entrada y salida de archivos, como leer y escribir en archivos.
@@ -13,7 +15,6 @@ import java.util.Scanner;
 public class FilesIO {
 
     PrintWriter printWriter;
-    Scanner scanner;
 
     private File file;
 
@@ -97,19 +98,40 @@ public class FilesIO {
     }
 
     /**
-     * Configura el flujo de entrada para un archivo ubicado en los recursos del programa.
+     * Lee todo el contenido de un archivo ubicado en los recursos del programa.
      *
-     * @param filePath Ruta del archivo para el flujo de entrada.
+     * @param filePath Ruta del archivo dentro de los recursos.
+     * @return Bytes del archivo, o null si no se puede leer.
      */
-    void setScanner(String filePath) {
-        File file = getFileFromResource(filePath);
+    byte[] readBytes(String filePath) {
+        // Se lee como flujo para que también funcione cuando los recursos están dentro de un jar.
+        try (InputStream inputStream = getClass().getResourceAsStream(filePath)) {
+            if (inputStream == null) {
+                System.out.println("¡Error al configurar el flujo de entrada!");
+                return null;
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            System.out.println("¡Error al leer el archivo " + filePath + "!");
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Lee todo el contenido de un archivo ubicado en la carpeta del programa.
+     *
+     * @param filePath Ruta del archivo.
+     * @return Bytes del archivo, o null si no se puede leer.
+     */
+    byte[] readBytesForUser(String filePath) {
         try {
-            assert file != null;
-            scanner = new Scanner(file);
-        } catch (FileNotFoundException e) {
+            return Files.readAllBytes(Path.of(filePath));
+        } catch (IOException e) {
             System.out.println("¡Error al configurar el flujo de entrada!");
             e.printStackTrace();
         }
+        return null;
     }
 
     /**
@@ -0,0 +1,159 @@
+package com.poo.chessgame1_2.model.utils;
+
+import com.poo.chessgame1_2.model.BoardDelta;
+import com.poo.chessgame1_2.model.BoardListener;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.PositionSnapshot;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.pgn.PGNExporter;
+import com.poo.chessgame1_2.model.pgn.PGNGame;
+import com.poo.chessgame1_2.model.players.Player;
+
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Clase encargada de guardar una partida de ajedrez en formato PGN.
+ * Permite agregar los movimientos de las piezas, generar un archivo PGN
+ * y guardar los detalles de la partida (jugadores, movimientos, etc.).
+ * Registra los movimientos suscribiéndose a los cambios del tablero del modelo.
+ * Mantiene una copia de la posición para conocer el resultado de la partida; el archivo lo escribe
+ * {@link PGNExporter} en un hilo propio, con los movimientos en notación algebraica estándar (SAN).
+ */
+public class PGNSaver implements BoardListener {
+    private final Position position = new Position(); // Posición después del último movimiento guardado
+    private final MoveList legalMoves = new MoveList(); // Movimientos legales de la posición (lista reutilizable)
+    private int[] moves = new int[256]; // Movimientos guardados
+    private int moveCount; // Número de movimientos guardados
+    private String startFEN = FENParser.START_FEN; // Posición inicial de la partida
+    private boolean standardStart = true; // true si la partida empieza en la posición inicial estándar
+
+    /**
+     * Constructor que empieza el registro en la posición inicial estándar.
+     * No accede al disco: la ruta del archivo la elige la interfaz al guardar, por lo que un modelo sin interfaz
+     * (por ejemplo, una partida del servidor) nunca toca el sistema de archivos.
+     */
+    public PGNSaver() {
+        FENParser.parse(startFEN, position);
+    }
+
+    /**
+     * Registra los cambios del tablero: añade los movimientos realizados, elimina los deshechos
+     * y empieza una lista nueva cuando se carga el tablero completo.
+     *
+     * @param delta cambio del tablero
+     */
+    @Override
+    public void boardChanged(BoardDelta delta) {
+        switch (delta.getKind()) {
+            case BoardDelta.MOVE:
+                addMove(delta.getMove());
+                break;
+            case BoardDelta.UNDO:
+                removeLastMove();
+                break;
+            case BoardDelta.RESET:
+                reset(delta.getSnapshot());
+                break;
+        }
+    }
+
+    /**
+     * Empieza una partida nueva desde la posición indicada.
+     *
+     * @param snapshot posición inicial de la partida
+     */
+    public void reset(PositionSnapshot snapshot) {
+        moveCount = 0;
+        position.copyFrom(snapshot.toPosition());
+        startFEN = FENParser.toFEN(snapshot);
+        standardStart = startFEN.equals(FENParser.START_FEN);
+    }
+
+    /**
+     * Añade un movimiento a la lista de movimientos guardados.
+     *
+     * @param move Movimiento codificado (ver {@link Move}), legal en la posición después del último movimiento guardado.
+     */
+    public void addMove(int move) {
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[moveCount++] = move;
+        position.makeMove(move);
+    }
+
+    /**
+     * Elimina el último movimiento guardado (se utiliza al deshacer un movimiento).
+     */
+    public void removeLastMove() {
+        if (moveCount > 0) {
+            position.unmakeMove(moves[--moveCount]);
+        }
+    }
+
+    /**
+     * Obtiene el resultado de la partida según la posición actual: jaque mate, ahogado o partida sin terminar.
+     *
+     * @return "1-0", "0-1", "1/2-1/2" o "*"
+     */
+    private String getResult() {
+        if (MoveGenerator.hasLegalMoves(position, legalMoves)) {
+            return "*";
+        }
+        if (!position.isInCheck(position.getSideToMove())) {
+            return "1/2-1/2";
+        }
+        return position.getSideToMove() == Position.WHITE ? "0-1" : "1-0";
+    }
+
+    /**
+     * Crea la partida con los movimientos guardados y sus etiquetas (las siete etiquetas obligatorias y,
+     * si la partida no empieza en la posición inicial estándar, la posición inicial).
+     *
+     * @param player1 Jugador 1, instancia de la clase Player.
+     * @param player2 Jugador 2, instancia de la clase Player.
+     * @return partida lista para exportar
+     */
+    public PGNGame toGame(Player player1, Player player2) {
+        Player white = player1.getPlayerColor() == Position.WHITE ? player1 : player2;
+        Player black = white == player1 ? player2 : player1;
+        String result = getResult();
+
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("Event", "Partida de prueba :) ");
+        tags.put("Site", "Santa Marta, Colombia");
+        tags.put("Date", new SimpleDateFormat("yyyy.MM.dd").format(Calendar.getInstance().getTime()));
+        tags.put("Round", "-");
+        tags.put("White", white.getPlayerName());
+        tags.put("Black", black.getPlayerName());
+        tags.put("Result", result);
+        if (!standardStart) {
+            tags.put("SetUp", "1");
+            tags.put("FEN", startFEN);
+        }
+        return new PGNGame(tags, Arrays.copyOf(moves, moveCount), result);
+    }
+
+    /**
+     * Guarda todos los datos de la partida en un archivo PGN.
+     * La partida se copia en el hilo que llama y el archivo se escribe en un hilo propio, por lo que guardar
+     * desde la interfaz no la bloquea. La ruta la elige la interfaz (por ejemplo, con un diálogo de archivos),
+     * por lo que esta clase no depende de JavaFX.
+     *
+     * @param player1 Jugador 1, instancia de la clase Player.
+     * @param player2 Jugador 2, instancia de la clase Player.
+     * @param filePath Ruta del archivo PGN.
+     * @param callback aviso al terminar de escribir el archivo (se llama desde el hilo de la exportación)
+     */
+    public void savePGN(Player player1, Player player2, String filePath, PGNExporter.Callback callback) {
+        PGNExporter.exportAsync(List.of(toGame(player1, player2)), Path.of(filePath), false, callback);
+    }
+}
@@ -0,0 +1,12 @@
+module com.poo.chessgame1_2.core {
+    exports com.poo.chessgame1_2.core;
+    exports com.poo.chessgame1_2.model;
+    exports com.poo.chessgame1_2.model.attacks;
+    exports com.poo.chessgame1_2.model.concurrent;
+    exports com.poo.chessgame1_2.model.engine;
+    exports com.poo.chessgame1_2.model.moves;
+    exports com.poo.chessgame1_2.model.pgn;
+    exports com.poo.chessgame1_2.model.pieces;
+    exports com.poo.chessgame1_2.model.players;
+    exports com.poo.chessgame1_2.model.utils;
+}
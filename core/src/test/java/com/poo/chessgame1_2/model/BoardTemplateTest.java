@@ -0,0 +1,41 @@
+package com.poo.chessgame1_2.model;
+
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.utils.FENParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+/**
+ * Pruebas de los tableros creados a partir de la plantilla de la posición inicial.
+ */
+class BoardTemplateTest {
+
+    @Test
+    void newBoardsStartFromTheStandardPosition() {
+        MoveList legalMoves = new MoveList();
+        for (int k = 0; k < 3; k++) {
+            Board board = new Board();
+            assertEquals(FENParser.START_FEN, FENParser.toFEN(board.getSnapshot()));
+            assertEquals(board.getPosition().computeHash(), board.getHash());
+            legalMoves.clear();
+            MoveGenerator.generateLegalMoves(board.getPosition(), legalMoves);
+            assertEquals(20, legalMoves.size());
+        }
+    }
+
+    @Test
+    void boardsDoNotShareState() {
+        Board first = new Board();
+        Board second = new Board();
+        // El modelo descarta las búsquedas del motor comparando las copias por identidad
+        assertNotSame(first.getSnapshot(), second.getSnapshot());
+        assertNotSame(first.getPosition(), second.getPosition());
+
+        first.makeMove(first.findMove("e2e4"));
+        assertEquals(FENParser.START_FEN, FENParser.toFEN(second.getSnapshot()));
+        assertEquals(FENParser.START_FEN, FENParser.toFEN(new Board().getSnapshot()));
+    }
+}
@@ -0,0 +1,98 @@
+package com.poo.chessgame1_2.model;
+
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.utils.FENParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Pruebas de la posición con bitboards: clave Zobrist incremental y generación de movimientos (perft).
+ */
+class PositionTest {
+
+    @Test
+    void incrementalHashMatchesComputedHash() {
+        Random random = new Random(7L);
+        MoveList legalMoves = new MoveList();
+        int[] moves = new int[200];
+        for (int game = 0; game < 100; game++) {
+            Position position = new Position();
+            FENParser.parse(FENParser.START_FEN, position);
+            long startHash = position.getHash();
+            int ply = 0;
+            while (ply < moves.length) {
+                legalMoves.clear();
+                MoveGenerator.generateLegalMoves(position, legalMoves);
+                if (legalMoves.isEmpty()) {
+                    break;
+                }
+                moves[ply] = legalMoves.get(random.nextInt(legalMoves.size()));
+                position.makeMove(moves[ply++]);
+                assertEquals(position.computeHash(), position.getHash(), "partida " + game + ", ply " + ply);
+            }
+            // Deshacer todos los movimientos devuelve la clave inicial
+            while (ply > 0) {
+                position.unmakeMove(moves[--ply]);
+                assertEquals(position.computeHash(), position.getHash());
+            }
+            assertEquals(startHash, position.getHash());
+        }
+    }
+
+    @Test
+    void hashDependsOnSideCastlingAndEnPassant() {
+        long start = hash(FENParser.START_FEN);
+        assertNotEquals(start, hash("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR b KQkq - 0 1"));
+        assertNotEquals(start, hash("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w Kkq - 0 1"));
+        assertNotEquals(hash("rnbqkbnr/ppp1pppp/8/8/3pP3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1"),
+                hash("rnbqkbnr/ppp1pppp/8/8/3pP3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1"));
+        // Los contadores no forman parte de la posición
+        assertEquals(start, hash("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 5 40"));
+    }
+
+    @Test
+    void perftMatchesReferenceCounts() {
+        assertEquals(8902, perft(FENParser.START_FEN, 3));
+        assertEquals(97862, perft("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", 3));
+        assertEquals(43238, perft("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", 4));
+        assertEquals(9467, perft("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", 3));
+    }
+
+    private static long hash(String fen) {
+        Position position = new Position();
+        FENParser.parse(fen, position);
+        return position.getHash();
+    }
+
+    private static long perft(String fen, int depth) {
+        Position position = new Position();
+        FENParser.parse(fen, position);
+        MoveList[] lists = new MoveList[depth];
+        for (int k = 0; k < depth; k++) {
+            lists[k] = new MoveList();
+        }
+        return perft(position, depth, lists);
+    }
+
+    private static long perft(Position position, int depth, MoveList[] lists) {
+        MoveList legalMoves = lists[depth - 1];
+        legalMoves.clear();
+        MoveGenerator.generateLegalMoves(position, legalMoves);
+        if (depth == 1) {
+            return legalMoves.size();
+        }
+        long nodes = 0;
+        for (int k = 0; k < legalMoves.size(); k++) {
+            int move = legalMoves.get(k);
+            position.makeMove(move);
+            nodes += perft(position, depth - 1, lists);
+            position.unmakeMove(move);
+        }
+        return nodes;
+    }
+}
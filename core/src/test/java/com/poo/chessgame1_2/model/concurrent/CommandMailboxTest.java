@@ -0,0 +1,207 @@
+package com.poo.chessgame1_2.model.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del buzón de comandos: los comandos se ejecutan en orden y nunca dos a la vez,
+ * aunque se encolen desde muchos hilos y el ejecutor tenga varios hilos.
+ */
+class CommandMailboxTest {
+    private static final int PRODUCERS = 4;
+    private static final int COMMANDS_PER_PRODUCER = 20_000;
+
+    @Test
+    void singleProducerRunsCommandsInOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CommandMailbox mailbox = new CommandMailbox(executor);
+            List<Integer> executed = new ArrayList<>(); // Solo lo modifican los comandos (nunca a la vez)
+            for (int k = 0; k < 1000; k++) {
+                int value = k;
+                mailbox.execute(() -> executed.add(value));
+            }
+            assertEquals(1000, (int) mailbox.submit(executed::size).get(10, TimeUnit.SECONDS));
+            for (int k = 0; k < 1000; k++) {
+                assertEquals(k, (int) executed.get(k));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void multipleProducersNeverRunCommandsConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CommandMailbox mailbox = new CommandMailbox(executor, 256);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger overlaps = new AtomicInteger();
+            int[] counter = {0}; // Sin sincronización: el buzón garantiza la exclusión
+            CountDownLatch start = new CountDownLatch(1);
+
+            Thread[] producers = new Thread[PRODUCERS];
+            for (int p = 0; p < PRODUCERS; p++) {
+                producers[p] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    Runnable command = () -> {
+                        if (running.incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        counter[0]++;
+                        running.decrementAndGet();
+                    };
+                    for (int k = 0; k < COMMANDS_PER_PRODUCER; k++) {
+                        // La cola es pequeña a propósito: si se llena, el productor reintenta
+                        while (true) {
+                            try {
+                                mailbox.execute(command);
+                                break;
+                            } catch (RejectedExecutionException e) {
+                                Thread.yield();
+                            }
+                        }
+                    }
+                });
+                producers[p].start();
+            }
+            start.countDown();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertEquals(PRODUCERS * COMMANDS_PER_PRODUCER,
+                    (int) mailbox.submit(() -> counter[0]).get(10, TimeUnit.SECONDS));
+            assertEquals(0, overlaps.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reportsFailuresAndFullQueues() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CommandMailbox mailbox = new CommandMailbox(executor, 2);
+            CompletableFuture<String> failed = mailbox.submit(() -> {
+                throw new IllegalStateException("fallo");
+            });
+            ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+
+            // Un comando bloqueado ocupa el consumidor; la cola de dos elementos se llena con dos más
+            mailbox.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            while (mailbox.getPendingCount() > 0) {
+                Thread.yield();
+            }
+            mailbox.execute(() -> { });
+            mailbox.execute(() -> { });
+            assertThrows(RejectedExecutionException.class, () -> mailbox.execute(() -> { }));
+            CompletableFuture<Integer> rejected = mailbox.submit(() -> 1);
+            assertTrue(rejected.isCompletedExceptionally());
+
+            release.countDown();
+            while (mailbox.getPendingCount() > 0) {
+                Thread.yield();
+            }
+            assertEquals(2, (int) mailbox.submit(() -> 2).get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsDrainingAfterACommandThrowsAnError() throws Exception {
+        // Cada tarea en un hilo propio que descarta el Error, como haría un ejecutor que reemplaza el hilo
+        Executor executor = task -> {
+            Thread thread = new Thread(task);
+            thread.setUncaughtExceptionHandler((t, e) -> { });
+            thread.start();
+        };
+        CommandMailbox mailbox = new CommandMailbox(executor);
+        CompletableFuture<String> failed = mailbox.submit(() -> {
+            throw new StackOverflowError();
+        });
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, error.getCause());
+        assertEquals(3, (int) mailbox.submit(() -> 3).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void reportsCommandFailuresToTheErrorHandler() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CommandMailbox mailbox = new CommandMailbox(executor);
+            ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+            mailbox.setErrorHandler((thread, error) -> errors.add(error));
+            mailbox.execute(() -> {
+                throw new IllegalStateException("fallo");
+            });
+            assertEquals(4, (int) mailbox.submit(() -> 4).get(10, TimeUnit.SECONDS));
+            assertEquals(1, errors.size());
+            assertInstanceOf(IllegalStateException.class, errors.peek());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void runsQueuedCommandsAfterTheExecutorRejectsATask() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            AtomicBoolean rejectNext = new AtomicBoolean(true);
+            Executor executor = task -> {
+                if (rejectNext.getAndSet(false)) {
+                    throw new RejectedExecutionException("ocupado");
+                }
+                pool.execute(task);
+            };
+            CommandMailbox mailbox = new CommandMailbox(executor);
+            ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+            mailbox.setErrorHandler((thread, error) -> errors.add(error));
+
+            // El comando ya está en la cola, así que no se informa como rechazado a quien lo envió
+            AtomicBoolean ran = new AtomicBoolean(false);
+            mailbox.execute(() -> ran.set(true));
+            assertFalse(ran.get());
+            assertInstanceOf(RejectedExecutionException.class, errors.peek());
+            assertEquals(1, mailbox.getPendingCount());
+
+            assertEquals(5, (int) mailbox.submit(() -> 5).get(10, TimeUnit.SECONDS));
+            assertTrue(ran.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.poo.chessgame1_2.model.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Pruebas de la cola circular con varios productores y un consumidor.
+ */
+class MpscRingBufferTest {
+    private static final int PRODUCERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 50_000;
+
+    @Test
+    void singleProducerKeepsOrderAndCapacity() {
+        MpscRingBuffer<Integer> queue = new MpscRingBuffer<>(5);
+        assertEquals(8, queue.capacity());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+
+        for (int round = 0; round < 3; round++) {
+            for (int k = 0; k < queue.capacity(); k++) {
+                assertTrue(queue.offer(round * 100 + k));
+            }
+            assertFalse(queue.offer(-1), "la cola llena no admite más elementos");
+            assertEquals(queue.capacity(), queue.size());
+            for (int k = 0; k < queue.capacity(); k++) {
+                assertEquals(round * 100 + k, (int) queue.poll());
+            }
+            assertTrue(queue.isEmpty());
+            assertNull(queue.poll());
+        }
+    }
+
+    @Test
+    void multipleProducersDeliverEveryElementInProducerOrder() throws InterruptedException {
+        MpscRingBuffer<long[]> queue = new MpscRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            producers[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int k = 0; k < ELEMENTS_PER_PRODUCER; k++) {
+                    long[] element = {producer, k};
+                    while (!queue.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producers[p].start();
+        }
+        start.countDown();
+
+        // Cada productor publica en orden, por lo que el consumidor debe recibir sus elementos en ese orden
+        int[] next = new int[PRODUCERS];
+        int received = 0;
+        while (received < PRODUCERS * ELEMENTS_PER_PRODUCER) {
+            long[] element = queue.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = (int) element[0];
+            if (next[producer] != element[1]) {
+                fail("productor " + producer + ": se esperaba " + next[producer] + " y llegó " + element[1]);
+            }
+            next[producer]++;
+            received++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(queue.isEmpty());
+        for (int count : next) {
+            assertEquals(ELEMENTS_PER_PRODUCER, count);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.poo.chessgame1_2.model.engine;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.utils.FENParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del motor de búsqueda: mates cortos, capturas ganadoras y progreso de la búsqueda.
+ */
+class SearchEngineTest {
+    private static final String MATE_IN_ONE = "6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"; // Ra8#
+    private static final String HANGING_QUEEN = "4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1"; // Rxd5
+
+    @Test
+    void findsMateInOne() {
+        SearchResult result = newEngine(1).search(position(MATE_IN_ONE));
+        assertEquals("a1a8", Move.toCoordinates(result.getBestMove()));
+        assertEquals(SearchEngine.MATE_SCORE - 1, result.getScore());
+    }
+
+    @Test
+    void capturesAnUndefendedQueen() {
+        Position root = position(HANGING_QUEEN);
+        long hash = root.getHash();
+        SearchResult result = newEngine(1).search(root);
+        assertEquals("d2d5", Move.toCoordinates(result.getBestMove()));
+        assertTrue(result.getScore() > 300, "queda una torre de ventaja");
+        assertEquals(hash, root.getHash(), "la búsqueda no modifica la posición");
+    }
+
+    @Test
+    void returnsALegalMoveAndReportsEachIteration() {
+        SearchEngine engine = newEngine(1);
+        List<SearchResult> iterations = new ArrayList<>();
+        engine.setSearchListener(iterations::add);
+        Position root = position(FENParser.START_FEN);
+        SearchResult result = engine.search(root);
+
+        MoveList legalMoves = new MoveList();
+        MoveGenerator.generateLegalMoves(root, legalMoves);
+        assertTrue(legalMoves.contains(Move.from(result.getBestMove()), Move.to(result.getBestMove())));
+        assertFalse(iterations.isEmpty());
+        for (int k = 0; k < iterations.size(); k++) {
+            assertEquals(k + 1, iterations.get(k).getDepth());
+        }
+        assertEquals(result.getDepth(), iterations.get(iterations.size() - 1).getDepth());
+    }
+
+    @Test
+    void helperThreadsKeepTheMainThreadResult() {
+        SearchResult result = newEngine(4).search(position(MATE_IN_ONE));
+        assertEquals("a1a8", Move.toCoordinates(result.getBestMove()));
+        assertEquals(SearchEngine.MATE_SCORE - 1, result.getScore());
+        assertTrue(result.getNodes() > 0);
+    }
+
+    @Test
+    void stopWaitsForTheRunningSearch() throws Exception {
+        SearchEngine engine = newEngine(2);
+        engine.setMaxDepth(SearchEngine.MAX_PLY);
+        CountDownLatch started = new CountDownLatch(1);
+        engine.setSearchListener(iteration -> started.countDown());
+        CompletableFuture<SearchResult> search = CompletableFuture.supplyAsync(
+                () -> engine.search(position(FENParser.START_FEN)));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // Al regresar stop, los hilos ya no usan la tabla y newGame puede vaciarla sin carreras
+        engine.stop();
+        assertTrue(search.get(5, TimeUnit.SECONDS).getDepth() >= 1);
+        engine.newGame();
+        engine.setMaxDepth(4);
+        assertEquals("a1a8", Move.toCoordinates(engine.search(position(MATE_IN_ONE)).getBestMove()));
+    }
+
+    /**
+     * Crea un motor con profundidad fija y sin límite de tiempo, para que los resultados no dependan de la máquina.
+     *
+     * @param threads número de hilos de búsqueda
+     * @return motor configurado
+     */
+    static SearchEngine newEngine(int threads) {
+        SearchEngine engine = new SearchEngine();
+        engine.setThreadCount(threads);
+        engine.setHashSize(1);
+        engine.setMaxDepth(4);
+        engine.setTimeLimitMillis(0);
+        return engine;
+    }
+
+    /**
+     * Crea una posición a partir de una cadena FEN.
+     *
+     * @param fen posición en notación FEN
+     * @return posición
+     */
+    static Position position(String fen) {
+        Position position = new Position();
+        FENParser.parse(fen, position);
+        return position;
+    }
+}
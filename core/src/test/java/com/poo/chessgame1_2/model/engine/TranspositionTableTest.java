@@ -0,0 +1,72 @@
+package com.poo.chessgame1_2.model.engine;
+
+import com.poo.chessgame1_2.model.moves.Move;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas de la tabla de transposición fuera del heap: empaquetado de las entradas, reemplazo y limpieza.
+ */
+class TranspositionTableTest {
+
+    @Test
+    void storedEntriesCanBeProbed() {
+        TranspositionTable table = new TranspositionTable(1);
+        Random random = new Random(3L);
+        long[] keys = new long[1000];
+        for (int k = 0; k < keys.length; k++) {
+            keys[k] = random.nextLong();
+            table.store(keys[k], k + 1, k - 500, k % 64, TranspositionTable.LOWER_BOUND);
+        }
+        for (int k = 0; k < keys.length; k++) {
+            long entry = table.probe(keys[k]);
+            assertEquals(k + 1, TranspositionTable.moveOf(entry));
+            assertEquals(k - 500, TranspositionTable.scoreOf(entry));
+            assertEquals(k % 64, TranspositionTable.depthOf(entry));
+            assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.boundOf(entry));
+        }
+        assertEquals(0L, table.probe(random.nextLong()));
+    }
+
+    @Test
+    void keepsDeeperResultsOfTheSameSearch() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 0x123456789ABCDEFL;
+        table.store(key, 42, 10, 8, TranspositionTable.LOWER_BOUND);
+        table.store(key, Move.NONE, 20, 3, TranspositionTable.UPPER_BOUND);
+        assertEquals(8, TranspositionTable.depthOf(table.probe(key)));
+
+        // En una búsqueda nueva se reemplaza, conservando el mejor movimiento conocido
+        table.newSearch();
+        table.store(key, Move.NONE, 20, 3, TranspositionTable.UPPER_BOUND);
+        long entry = table.probe(key);
+        assertEquals(3, TranspositionTable.depthOf(entry));
+        assertEquals(42, TranspositionTable.moveOf(entry));
+    }
+
+    @Test
+    void clearAndResizeDiscardEntries() {
+        TranspositionTable table = new TranspositionTable(3);
+        assertEquals(2, table.getSizeMegabytes());
+        table.store(99L, 7, 0, 1, TranspositionTable.EXACT);
+        table.clear();
+        assertEquals(0L, table.probe(99L));
+
+        table.store(99L, 7, 0, 1, TranspositionTable.EXACT);
+        table.resize(4);
+        assertEquals(4, table.getSizeMegabytes());
+        assertEquals(0L, table.probe(99L));
+    }
+
+    @Test
+    void mateScoresAreStoredRelativeToThePosition() {
+        int mateInThree = SearchEngine.MATE_SCORE - 5;
+        int stored = TranspositionTable.scoreToTable(mateInThree, 2);
+        assertEquals(mateInThree - 4, TranspositionTable.scoreFromTable(stored, 6));
+        assertEquals(-mateInThree + 4, TranspositionTable.scoreFromTable(TranspositionTable.scoreToTable(-mateInThree, 2), 6));
+        assertEquals(150, TranspositionTable.scoreFromTable(TranspositionTable.scoreToTable(150, 2), 6));
+    }
+}
@@ -0,0 +1,116 @@
+package com.poo.chessgame1_2.model.moves;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.utils.FENParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la notación algebraica estándar: escritura con {@link Move#appendSAN} y lectura con {@link Move#fromSAN}.
+ */
+class MoveSANTest {
+
+    @Test
+    void randomGamesRoundTrip() {
+        Random random = new Random(20240601L);
+        MoveList legalMoves = new MoveList();
+        StringBuilder sb = new StringBuilder();
+        for (int game = 0; game < 200; game++) {
+            Position position = position(FENParser.START_FEN);
+            for (int ply = 0; ply < 120; ply++) {
+                legalMoves.clear();
+                MoveGenerator.generateLegalMoves(position, legalMoves);
+                if (legalMoves.isEmpty()) {
+                    break;
+                }
+                Set<String> sans = new HashSet<>();
+                for (int k = 0; k < legalMoves.size(); k++) {
+                    int move = legalMoves.get(k);
+                    sb.setLength(0);
+                    Move.appendSAN(sb, move, position, legalMoves);
+                    String san = sb.toString();
+                    assertTrue(sans.add(san), "SAN repetido: " + san);
+                    assertEquals(move, Move.fromSAN(san, 0, san.length(), position, legalMoves), san);
+                }
+                position.makeMove(legalMoves.get(random.nextInt(legalMoves.size())));
+            }
+        }
+    }
+
+    @Test
+    void disambiguatesByFile() {
+        Position position = position("4k3/8/8/8/8/5N2/8/1N2K3 w - - 0 1");
+        assertEquals("Nbd2", san(position, "b1d2"));
+        assertEquals("Nfd2", san(position, "f3d2"));
+    }
+
+    @Test
+    void disambiguatesByRank() {
+        Position position = position("4k3/8/8/R7/8/8/8/R3K3 w - - 0 1");
+        assertEquals("R1a3", san(position, "a1a3"));
+        assertEquals("R5a3", san(position, "a5a3"));
+    }
+
+    @Test
+    void disambiguatesBySquare() {
+        Position position = position("1k6/8/8/8/4Q2Q/8/8/K6Q w - - 0 1");
+        assertEquals("Qh4e1", san(position, "h4e1"));
+        assertEquals("Qee1", san(position, "e4e1"));
+        assertEquals("Q1e1", san(position, "h1e1"));
+    }
+
+    @Test
+    void ignoresPinnedPieces() {
+        // El caballo de c3 está clavado por el alfil de a5, por lo que Ng1-e2 no necesita desambiguación
+        Position position = position("4k3/8/8/b7/8/2N5/8/4K1N1 w - - 0 1");
+        assertEquals("Ne2", san(position, "g1e2"));
+    }
+
+    @Test
+    void writesSpecialMoves() {
+        assertEquals("O-O", san(position("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1"), "e1g1"));
+        assertEquals("O-O-O", san(position("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1"), "e1c1"));
+        assertEquals("exd6", san(position("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1"), "e5d6"));
+        assertEquals("b8=Q+", san(position("4k3/1P6/8/8/8/8/8/4K3 w - - 0 1"), "b7b8q"));
+        assertEquals("bxa8=N", san(position("r3k3/1P6/8/8/8/8/8/4K3 w - - 0 1"), "b7a8n"));
+        assertEquals("Qh4#", san(position("rnbqkbnr/pppp1ppp/8/4p3/6P1/5P2/PPPPP2P/RNBQKBNR b KQkq - 0 2"), "d8h4"));
+    }
+
+    @Test
+    void readsAnnotatedMoves() {
+        Position position = position(FENParser.START_FEN);
+        MoveList legalMoves = legalMoves(position);
+        int move = Move.fromCoordinates("g1f3", legalMoves);
+        for (String san : new String[]{"Nf3", "Nf3+", "Nf3!", "Nf3?!", "Ngf3"}) {
+            assertEquals(move, Move.fromSAN(san, 0, san.length(), position, legalMoves), san);
+        }
+        assertEquals(Move.NONE, Move.fromSAN("Nf4", 0, 3, position, legalMoves));
+    }
+
+    private static Position position(String fen) {
+        Position position = new Position();
+        FENParser.parse(fen, position);
+        return position;
+    }
+
+    private static MoveList legalMoves(Position position) {
+        MoveList legalMoves = new MoveList();
+        MoveGenerator.generateLegalMoves(position, legalMoves);
+        return legalMoves;
+    }
+
+    private static String san(Position position, String coordinates) {
+        MoveList legalMoves = legalMoves(position);
+        int move = Move.fromCoordinates(coordinates, legalMoves);
+        assertTrue(move != Move.NONE, coordinates);
+        StringBuilder sb = new StringBuilder();
+        Move.appendSAN(sb, move, position, legalMoves);
+        return sb.toString();
+    }
+}
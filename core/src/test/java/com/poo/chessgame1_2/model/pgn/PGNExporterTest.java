@@ -0,0 +1,190 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.moves.MoveGenerator;
+import com.poo.chessgame1_2.model.moves.MoveList;
+import com.poo.chessgame1_2.model.utils.FENParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del exportador PGN: formato de exportación, ida y vuelta con {@link PGNParser} (con y sin hilo escritor),
+ * gzip y aviso de la exportación en segundo plano.
+ */
+class PGNExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesTheExportFormat() throws IOException {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("Event", "Mate \"del loco\" \\ rápido");
+        tags.put("Result", "0-1");
+        PGNGame game = new PGNGame(tags, moves(FENParser.START_FEN, "f2f3", "e7e5", "g2g4", "d8h4"), "0-1");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PGNExporter exporter = new PGNExporter(out, PGNExporter.DEFAULT_BUFFER_SIZE)) {
+            exporter.write(game);
+        }
+        assertEquals("[Event \"Mate \\\"del loco\\\" \\\\ rápido\"]\n[Result \"0-1\"]\n\n"
+                + "1. f3 e5 2. g4 Qh4# 0-1\n\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parsedGamesMatchTheExportedOnes() throws IOException {
+        List<PGNGame> games = randomGames(300);
+        // Buffers pequeños: se llenan muchas veces y el hilo escritor entra en juego
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long bytes;
+        try (PGNExporter exporter = new PGNExporter(out, 4096)) {
+            for (PGNGame game : games) {
+                exporter.write(game);
+            }
+            bytes = exporter.getBytesWritten();
+        }
+        String text = out.toString(StandardCharsets.UTF_8);
+        assertEquals(bytes, out.size());
+        for (String line : text.split("\n")) {
+            assertTrue(line.length() <= 79, line);
+        }
+        assertSameGames(games, parse(text));
+    }
+
+    @Test
+    void exportsAsyncToGzip() throws Exception {
+        List<PGNGame> games = randomGames(50);
+        Path file = directory.resolve("partidas.pgn.gz");
+        CompletableFuture<Long> finished = new CompletableFuture<>();
+        PGNExporter.exportAsync(games, file, true, (count, error) -> {
+            if (error != null) {
+                finished.completeExceptionally(error);
+            } else {
+                finished.complete(count);
+            }
+        });
+        assertEquals(games.size(), (long) finished.get(30, TimeUnit.SECONDS));
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertSameGames(games, parse(new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    void reportsInvalidGamesToTheCallback() throws Exception {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("FEN", "posición no válida");
+        List<PGNGame> games = List.of(randomGames(1).get(0), new PGNGame(tags, new int[0], "*"));
+        CompletableFuture<Exception> error = new CompletableFuture<>();
+        CompletableFuture<Long> count = new CompletableFuture<>();
+        PGNExporter.exportAsync(games, directory.resolve("error.pgn"), false, (written, failure) -> {
+            count.complete(written);
+            error.complete(failure);
+        });
+        assertInstanceOf(IllegalArgumentException.class, error.get(30, TimeUnit.SECONDS));
+        assertEquals(1L, (long) count.get());
+    }
+
+    @Test
+    void rejectsWritesAfterClose() throws IOException {
+        PGNExporter exporter = new PGNExporter(new ByteArrayOutputStream(), 1024);
+        exporter.close();
+        exporter.close();
+        assertThrows(IOException.class, () -> exporter.write(randomGames(1).get(0)));
+    }
+
+    /**
+     * Crea partidas con movimientos aleatorios: la mitad desde la posición inicial y la otra mitad desde una
+     * posición con las negras al turno, para probar la numeración "N...".
+     */
+    private static List<PGNGame> randomGames(int count) {
+        Random random = new Random(11L);
+        MoveList legalMoves = new MoveList();
+        Position position = new Position();
+        List<PGNGame> games = new ArrayList<>();
+        for (int game = 0; game < count; game++) {
+            String fen = game % 2 == 0 ? FENParser.START_FEN
+                    : "r3k2r/pppq1ppp/2npbn2/4p3/2B1P3/2NP1N2/PPPQ1PPP/R3K2R b KQkq - 4 8";
+            FENParser.parse(fen, position);
+            int[] moves = new int[random.nextInt(120)];
+            int moveCount = 0;
+            while (moveCount < moves.length) {
+                legalMoves.clear();
+                MoveGenerator.generateLegalMoves(position, legalMoves);
+                if (legalMoves.isEmpty()) {
+                    break;
+                }
+                moves[moveCount] = legalMoves.get(random.nextInt(legalMoves.size()));
+                position.makeMove(moves[moveCount++]);
+            }
+            Map<String, String> tags = new LinkedHashMap<>();
+            tags.put("Event", "Partida " + game);
+            tags.put("White", "Blancas, \"" + game + "\"");
+            tags.put("Result", "*");
+            if (!fen.equals(FENParser.START_FEN)) {
+                tags.put("SetUp", "1");
+                tags.put("FEN", fen);
+            }
+            games.add(new PGNGame(tags, Arrays.copyOf(moves, moveCount), "*"));
+        }
+        return games;
+    }
+
+    /**
+     * Convierte movimientos en notación de coordenadas, jugados desde una posición.
+     */
+    private static int[] moves(String fen, String... coordinates) {
+        Position position = new Position();
+        FENParser.parse(fen, position);
+        MoveList legalMoves = new MoveList();
+        int[] moves = new int[coordinates.length];
+        for (int k = 0; k < coordinates.length; k++) {
+            legalMoves.clear();
+            MoveGenerator.generateLegalMoves(position, legalMoves);
+            moves[k] = Move.fromCoordinates(coordinates[k], legalMoves);
+            position.makeMove(moves[k]);
+        }
+        return moves;
+    }
+
+    private static List<PGNGame> parse(String text) {
+        List<PGNGame> games = new ArrayList<>();
+        new PGNParser().parseGames(text, 0, text.length(), 0, games::add);
+        return games;
+    }
+
+    private static void assertSameGames(List<PGNGame> expected, List<PGNGame> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int k = 0; k < expected.size(); k++) {
+            PGNGame game = actual.get(k);
+            assertNull(game.getError(), game.getError());
+            assertEquals(expected.get(k).getTags(), game.getTags());
+            assertEquals(expected.get(k).getResult(), game.getResult());
+            assertArrayEquals(expected.get(k).getMoves(), game.getMoves());
+        }
+    }
+}
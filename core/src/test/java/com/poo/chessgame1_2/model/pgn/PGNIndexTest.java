@@ -0,0 +1,152 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.utils.FENParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas del índice de partidas ({@link PGNIndex}): lo que se lee del índice coincide con lo que se importó.
+ */
+class PGNIndexTest {
+    static final String PGN = """
+            [Event "Ópera"]
+            [White "Morphy"]
+            [Black "Duque de Brunswick"]
+            [Date "1858.??.??"]
+            [ECO "C41"]
+            [Result "1-0"]
+
+            1.e4 e5 2.Nf3 d6 3.d4 Bg4 4.dxe5 Bxf3 5.Qxf3 dxe5 6.Bc4 Nf6 7.Qb3 Qe7 8.Nc3 c6
+            9.Bg5 b5 10.Nxb5 cxb5 11.Bxb5+ Nbd7 12.O-O-O Rd8 13.Rxd7 Rxd7 14.Rd1 Qe6
+            15.Bxd7+ Nxd7 16.Qb8+ Nxb8 17.Rd8# 1-0
+
+            [Event "Española"]
+            [White "A"]
+            [Black "B"]
+            [Date "2024.05.17"]
+            [ECO "C70"]
+            [Result "*"]
+
+            1. e4 e5 2. Nf3 Nc6 3. Bb5 a6 *
+
+            [Event "Gambito de dama"]
+            [White "C"]
+            [Black "D"]
+            [ECO "D30"]
+            [Result "1/2-1/2"]
+
+            1. d4 d5 2. c4 e6 1/2-1/2
+
+            [Event "Error"]
+            [White "E"]
+            [Black "F"]
+            [Result "0-1"]
+
+            1. e4 e5 2. Ke3 0-1
+
+            [Event "Final"]
+            [SetUp "1"]
+            [FEN "4k3/8/8/8/8/8/4P3/4K3 w - - 0 1"]
+            [Result "*"]
+
+            1. e4 Kd7 *
+
+            [Event "Siciliana"]
+            [Result "*"]
+
+            1. e4 c5 *
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void gameIndexMatchesImportedGames() throws IOException {
+        Path pgnFile = writePGN();
+        List<PGNGame> imported = importGames(pgnFile);
+        assertEquals(6, PGNIndex.build(pgnFile, importer()));
+
+        try (PGNIndex index = PGNIndex.open(pgnFile)) {
+            assertEquals(imported.size(), index.size());
+            assertEquals("Morphy", index.getWhite(0));
+            assertEquals("Duque de Brunswick", index.getBlack(0));
+            assertEquals("1858.??.??", index.getDate(0));
+            assertEquals("C41", index.getEco(0));
+            assertEquals("1-0", index.getResult(0));
+            assertEquals("2024.05.17", index.getDate(1));
+            assertEquals(20240517, index.getDateValue(1));
+            assertNull(index.getEco(3));
+            assertFalse(index.isValid(3));
+
+            Board board = new Board();
+            Board expected = new Board();
+            for (int game = 0; game < imported.size(); game++) {
+                PGNGame original = imported.get(game);
+                PGNGame read = index.readGame(game);
+                assertEquals(original.getTags(), read.getTags());
+                assertArrayEquals(original.getMoves(), read.getMoves());
+                assertEquals(original.getMoveCount(), index.getMoveCount(game));
+                assertEquals(original.isValid(), index.isValid(game));
+
+                index.replay(game, board);
+                original.replay(expected);
+                assertEquals(FENParser.toFEN(expected.getSnapshot()), FENParser.toFEN(board.getSnapshot()));
+            }
+        }
+    }
+
+    @Test
+    void rejectsIndexesOfModifiedFiles() throws IOException {
+        Path pgnFile = writePGN();
+        PGNIndex.build(pgnFile, importer());
+        Files.writeString(pgnFile, "\n[Event \"Nueva\"]\n\n1. c4 *\n", StandardOpenOption.APPEND);
+        assertThrows(IOException.class, () -> PGNIndex.open(pgnFile));
+        try (PGNIndex index = PGNIndex.openOrBuild(pgnFile)) {
+            assertEquals(7, index.size());
+        }
+    }
+
+    private Path writePGN() throws IOException {
+        return writePGN(directory);
+    }
+
+    /**
+     * Escribe el archivo PGN de las pruebas.
+     *
+     * @param directory carpeta temporal de la prueba
+     * @return ruta del archivo
+     */
+    static Path writePGN(Path directory) throws IOException {
+        Path pgnFile = directory.resolve("partidas.pgn");
+        Files.writeString(pgnFile, PGN);
+        return pgnFile;
+    }
+
+    /**
+     * Importador con bloques muy pequeños, para que las partidas se repartan entre muchos bloques.
+     */
+    static PGNImporter importer() {
+        return new PGNImporter(ForkJoinPool.commonPool(), 64);
+    }
+
+    static List<PGNGame> importGames(Path pgnFile) throws IOException {
+        List<PGNGame> games = new ArrayList<>();
+        importer().importFile(pgnFile, games::add);
+        return games;
+    }
+}
@@ -0,0 +1,136 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.moves.Move;
+import com.poo.chessgame1_2.model.utils.FENParser;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del intérprete de partidas PGN: etiquetas, comentarios, variantes, NAG, resultados y errores.
+ */
+class PGNParserTest {
+
+    @Test
+    void skipsCommentsVariationsAndAnnotations() {
+        List<PGNGame> games = parse("""
+                [Event "Comentarios"]
+                [White "Blancas"]
+                [Result "1-0"]
+
+                1. e4 {abre [con] el peón de rey} e5 ; comentario de línea
+                2. Nf3 (2. Bc4 Nc6 (2... Nf6 3. d3) 3. Qh5) 2... Nc6 $1 3. Bb5!? a6 4. Ba4 1-0
+                """);
+        assertEquals(1, games.size());
+        PGNGame game = games.get(0);
+        assertTrue(game.isValid(), game.getError());
+        assertEquals("1-0", game.getResult());
+        assertEquals("Blancas", game.getTag("White"));
+        assertEquals("e2e4 e7e5 g1f3 b8c6 f1b5 a7a6 b5a4", coordinates(game));
+    }
+
+    @Test
+    void readsEscapedTagsAndGamesWithoutResult() {
+        List<PGNGame> games = parse("""
+                [Event "Partida \\"con\\" comillas \\\\ y barra"]
+
+                1.d4 d5 2.c4
+
+                [Event "Segunda"]
+
+                1.e4 e5 2.Nf3 *
+                """);
+        assertEquals(2, games.size());
+        assertEquals("Partida \"con\" comillas \\ y barra", games.get(0).getTag("Event"));
+        assertEquals("*", games.get(0).getResult());
+        assertEquals(3, games.get(0).getMoveCount());
+        assertEquals("Segunda", games.get(1).getTag("Event"));
+        assertEquals(3, games.get(1).getMoveCount());
+    }
+
+    @Test
+    void startsFromFenTagAndKeepsEnPassantNotes() {
+        List<PGNGame> games = parse("""
+                [Event "FEN"]
+                [SetUp "1"]
+                [FEN "4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1"]
+
+                1. exd6 e.p. Kd7 2. Ke2 1/2-1/2
+                """);
+        PGNGame game = games.get(0);
+        assertTrue(game.isValid(), game.getError());
+        assertEquals("1/2-1/2", game.getResult());
+        assertEquals("e5d6 e8d7 e1e2", coordinates(game));
+        assertTrue(Move.isEnPassant(game.getMove(0)));
+    }
+
+    @Test
+    void stopsAtTheFirstIllegalMove() {
+        List<PGNGame> games = parse("""
+                [Event "Error"]
+
+                1. e4 e5 2. Ke3 Nc6 0-1
+
+                [Event "Siguiente"]
+
+                1. d4 *
+                """);
+        assertEquals(2, games.size());
+        assertFalse(games.get(0).isValid());
+        assertTrue(games.get(0).getError().contains("Ke3"), games.get(0).getError());
+        assertEquals(2, games.get(0).getMoveCount());
+        assertEquals("0-1", games.get(0).getResult());
+        assertNull(games.get(1).getError());
+    }
+
+    @Test
+    void recordsPositionHashes() {
+        PGNGame game = parse("1. e4 c5 2. Nf3 d6 3. d4 cxd4 4. Nxd4 Nf6 5. Nc3 a6 *").get(0);
+        assertEquals(game.getMoveCount() + 1, game.getPositionCount());
+
+        Position position = new Position();
+        FENParser.parse(FENParser.START_FEN, position);
+        assertEquals(position.getHash(), game.getPositionHash(0));
+        for (int k = 0; k < game.getMoveCount(); k++) {
+            position.makeMove(game.getMove(k));
+            assertEquals(position.getHash(), game.getPositionHash(k + 1));
+        }
+    }
+
+    @Test
+    void reportsTheLocationOfEachGame() {
+        String text = "[Event \"Uno\"]\n\n1. e4 *\n\n[Event \"Dos\"]\n\n1. d4 *\n";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        List<PGNGame> games = new ArrayList<>();
+        new PGNParser().parseGames(ByteBuffer.wrap(bytes), 1000, games::add);
+        assertEquals(2, games.size());
+        for (PGNGame game : games) {
+            String gameText = new String(bytes, (int) game.getOffset() - 1000, game.getLength(), StandardCharsets.UTF_8);
+            assertTrue(gameText.startsWith("[Event \"" + game.getTag("Event") + "\"]"), gameText);
+            assertTrue(gameText.trim().endsWith("*"), gameText);
+        }
+    }
+
+    private static List<PGNGame> parse(String text) {
+        List<PGNGame> games = new ArrayList<>();
+        new PGNParser().parseGames(text, 0, text.length(), 0, games::add);
+        return games;
+    }
+
+    private static String coordinates(PGNGame game) {
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < game.getMoveCount(); k++) {
+            sb.append(k > 0 ? " " : "").append(Move.toCoordinates(game.getMove(k)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.poo.chessgame1_2.model.pgn;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.utils.FENParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static com.poo.chessgame1_2.model.pgn.PGNIndexTest.importGames;
+import static com.poo.chessgame1_2.model.pgn.PGNIndexTest.importer;
+import static com.poo.chessgame1_2.model.pgn.PGNIndexTest.writePGN;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del índice de posiciones ({@link PositionIndex}) con las partidas de {@link PGNIndexTest}:
+ * las partidas de cada posición coinciden con las que se obtienen reproduciendo todas las partidas.
+ */
+class PositionIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void positionIndexMatchesBruteForce() throws IOException {
+        Path pgnFile = writePGN(directory);
+        Map<Long, TreeSet<Long>> expected = bruteForce(importGames(pgnFile));
+
+        // Con segmentos de 8 pares el índice se escribe en muchos segmentos que después se unen
+        for (int segmentPairs : new int[]{PositionIndex.DEFAULT_SEGMENT_PAIRS, 8}) {
+            PositionIndex.build(pgnFile, importer(), segmentPairs);
+            try (PositionIndex index = PositionIndex.open(pgnFile)) {
+                assertEquals(6, index.getGameCount());
+                assertEquals(1, index.getSegmentCount());
+                for (Map.Entry<Long, TreeSet<Long>> entry : expected.entrySet()) {
+                    long[] games = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+                    assertArrayEquals(games, index.findGames(entry.getKey()));
+                    assertEquals(games.length, index.countGames(entry.getKey()));
+                }
+                assertEquals(0, index.findGames(0x123456789ABCDEFL).length);
+
+                // La posición inicial estándar aparece en todas las partidas menos la que empieza con FEN
+                Board board = new Board();
+                board.loadFEN(FENParser.START_FEN);
+                assertArrayEquals(new long[]{0, 1, 2, 3, 5}, index.findGames(board));
+            }
+            assertTrue(Files.exists(PositionIndex.indexPath(pgnFile)));
+        }
+    }
+
+    @Test
+    void rejectsIndexesOfModifiedFiles() throws IOException {
+        Path pgnFile = writePGN(directory);
+        PositionIndex.build(pgnFile, importer(), PositionIndex.DEFAULT_SEGMENT_PAIRS);
+        Files.writeString(pgnFile, "\n[Event \"Nueva\"]\n\n1. c4 *\n", StandardOpenOption.APPEND);
+        assertThrows(IOException.class, () -> PositionIndex.open(pgnFile));
+    }
+
+    /**
+     * Reproduce todas las partidas y relaciona cada posición con las partidas que pasaron por ella.
+     */
+    private static Map<Long, TreeSet<Long>> bruteForce(List<PGNGame> games) {
+        Map<Long, TreeSet<Long>> positions = new HashMap<>();
+        Position position = new Position();
+        for (int game = 0; game < games.size(); game++) {
+            PGNGame pgnGame = games.get(game);
+            FENParser.parse(pgnGame.getStartFEN(), position);
+            positions.computeIfAbsent(position.getHash(), key -> new TreeSet<>()).add((long) game);
+            for (int k = 0; k < pgnGame.getMoveCount(); k++) {
+                position.makeMove(pgnGame.getMove(k));
+                positions.computeIfAbsent(position.getHash(), key -> new TreeSet<>()).add((long) game);
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,86 @@
+package com.poo.chessgame1_2.model.utils;
+
+import com.poo.chessgame1_2.model.Board;
+import com.poo.chessgame1_2.model.Position;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de la lectura y escritura de posiciones en notación FEN y EPD.
+ */
+class FENParserTest {
+    private static final String[] POSITIONS = {
+            FENParser.START_FEN,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbqkbnr/pppp1ppp/8/8/3Pp3/8/PPP1PPPP/RNBQKBNR b KQkq d3 0 1",
+            "4k3/8/8/8/8/8/8/4K2R w K - 0 1",
+    };
+
+    @Test
+    void fenRoundTrip() {
+        Board board = new Board();
+        for (String fen : POSITIONS) {
+            board.loadFEN(fen);
+            assertEquals(fen, FENParser.toFEN(board.getSnapshot()));
+        }
+    }
+
+    @Test
+    void epdRoundTrip() {
+        Board board = new Board();
+        StringBuilder sb = new StringBuilder();
+        for (String fen : POSITIONS) {
+            board.loadFEN(fen);
+            sb.setLength(0);
+            FENParser.appendEPD(board.getSnapshot(), sb);
+            String epd = sb.toString();
+            assertEquals(fen.substring(0, fen.length() - " 0 1".length()), epd);
+
+            // Las operaciones EPD se ignoran y el método indica dónde empiezan
+            String line = epd + " bm Nf3; id \"prueba\";";
+            Position position = new Position();
+            int operations = FENParser.parse(line, position);
+            assertEquals(" bm Nf3; id \"prueba\";", line.substring(operations));
+            assertEquals(board.getHash(), position.getHash(), epd);
+        }
+    }
+
+    @Test
+    void byteBufferRoundTrip() {
+        Board board = new Board();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        for (String fen : POSITIONS) {
+            board.loadFEN(fen);
+            FENParser.putFEN(board.getSnapshot(), buffer);
+            buffer.put((byte) '\n');
+        }
+        buffer.flip();
+        assertEquals(String.join("\n", POSITIONS) + "\n",
+                StandardCharsets.US_ASCII.decode(buffer.duplicate()).toString());
+
+        Board loaded = new Board();
+        for (String fen : POSITIONS) {
+            assertEquals(true, loaded.loadFEN(buffer));
+            assertEquals(fen, FENParser.toFEN(loaded.getSnapshot()));
+        }
+        assertEquals(false, loaded.loadFEN(buffer));
+    }
+
+    @Test
+    void rejectsInvalidPositions() {
+        Position position = new Position();
+        assertThrows(IllegalArgumentException.class, () -> FENParser.parse("", position));
+        assertThrows(IllegalArgumentException.class, () -> FENParser.parse("garbage", position));
+        assertThrows(IllegalArgumentException.class,
+                () -> FENParser.parse("rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1", position));
+        assertThrows(IllegalArgumentException.class,
+                () -> FENParser.parse("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1", position));
+    }
+}
@@ -0,0 +1,332 @@
+package com.poo.chessgame1_2.server;
+
+import com.poo.chessgame1_2.model.Position;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor de partidas sin interfaz gráfica: aloja muchas partidas simultáneas y las expone mediante
+ * una API HTTP local (jdk.httpserver). Cada petición se atiende en su propio hilo virtual; las operaciones
+ * sobre una misma partida se encolan en el buzón de comandos de su {@link GameSession} y se ejecutan de una en una,
+ * mientras que las de partidas distintas se ejecutan en paralelo. Los buzones se consumen en hilos virtuales.
+ *
+ * API (las respuestas son JSON):
+ *  - POST   /games[?white=nombre&amp;black=nombre]  crea una partida (201).
+ *  - GET    /games                                número de partidas alojadas.
+ *  - GET    /games/{id}                           estado de la partida (posición FEN, turno, estado, ganador).
+ *  - POST   /games/{id}/move                      realiza el movimiento del cuerpo, por ejemplo "e2e4" o "e7e8q".
+ *  - POST   /games/{id}/resign[?color=w|b]        abandona la partida (por defecto, el jugador que tiene el turno).
+ *  - DELETE /games/{id}                           elimina la partida (204).
+ * Errores: 400 movimiento o color no válido, 404 partida o ruta desconocida, 405 método no admitido,
+ * 409 partida terminada, 500 error inesperado, 503 cola de comandos de la partida llena.
+ *
+ * Uso: --port N (por defecto 8080). El servidor solo escucha en la interfaz local.
+ */
+public class GameServer {
+    private static final int DEFAULT_PORT = 8080; // Puerto por defecto
+    private static final int BACKLOG = 1024; // Conexiones pendientes admitidas
+    private static final String GAMES_PATH = "/games"; // Ruta base de la API
+
+    private final Map<Long, GameSession> games = new ConcurrentHashMap<>(); // Partidas alojadas por identificador
+    private final AtomicLong nextId = new AtomicLong(1); // Siguiente identificador de partida
+    private HttpServer server; // Servidor HTTP
+    private ExecutorService executor; // Ejecutor de hilos virtuales (peticiones y buzones de las partidas)
+
+    /**
+     * Método principal del servidor.
+     *
+     * @param args Argumentos de línea de comandos (ver la descripción de la clase).
+     */
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        for (int k = 0; k < args.length; k++) {
+            switch (args[k]) {
+                case "--port":
+                    port = Integer.parseInt(args[++k]);
+                    break;
+                default:
+                    System.out.println("Argumento desconocido: " + args[k]);
+                    return;
+            }
+        }
+        GameServer gameServer = new GameServer();
+        gameServer.start(port);
+        System.out.println("Servidor de partidas escuchando en http://127.0.0.1:" + gameServer.getPort() + GAMES_PATH);
+    }
+
+    /**
+     * Inicia el servidor en la interfaz local.
+     *
+     * @param port puerto (0 para elegir uno libre)
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(GAMES_PATH, this::handle);
+        server.start();
+    }
+
+    /**
+     * Detiene el servidor, esperando como máximo el tiempo indicado a que terminen las peticiones en curso.
+     *
+     * @param delaySeconds segundos de espera
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el servidor.
+     *
+     * @return puerto
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Obtiene el número de partidas alojadas.
+     *
+     * @return número de partidas
+     */
+    public int getGameCount() {
+        return games.size();
+    }
+
+    /**
+     * Atiende una petición de la API (en un hilo virtual).
+     * Los movimientos no válidos y las operaciones sobre partidas terminadas se responden como errores,
+     * y cualquier otro fallo (incluido el de un comando de la partida) como error interno, para que
+     * ninguna petición se cierre sin respuesta.
+     *
+     * @param exchange petición y respuesta HTTP
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e);
+        } catch (IllegalStateException e) {
+            sendError(exchange, 409, e);
+        } catch (RejectedExecutionException e) {
+            sendError(exchange, 503, e);
+        } catch (RuntimeException e) {
+            sendError(exchange, 500, e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Ejecuta la operación que corresponde al método y a la ruta de la petición.
+     *
+     * @param exchange petición y respuesta HTTP
+     */
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        // parts[0] es la cadena vacía anterior a la primera barra; parts[1] el identificador; parts[2] la acción
+        String[] parts = exchange.getRequestURI().getPath().substring(GAMES_PATH.length()).split("/");
+        if (parts.length <= 1) {
+            if (method.equals("POST")) {
+                createGame(exchange);
+            } else if (method.equals("GET")) {
+                send(exchange, 200, "{\"games\":" + games.size() + "}");
+            } else {
+                sendError(exchange, 405, "Método no admitido");
+            }
+            return;
+        }
+
+        Long id = parseId(parts[1]);
+        GameSession session = id == null ? null : games.get(id);
+        if (session == null || parts.length > 3) {
+            sendError(exchange, 404, "Partida no encontrada");
+            return;
+        }
+
+        String action = parts.length == 3 ? parts[2] : "";
+        switch (method + " " + action) {
+            case "GET ":
+                send(exchange, 200, session.toJson());
+                break;
+            case "DELETE ":
+                games.remove(id);
+                send(exchange, 204, null);
+                break;
+            case "POST move":
+                send(exchange, 200, await(session.move(readBody(exchange).trim())));
+                break;
+            case "POST resign":
+                send(exchange, 200, await(session.resign(parseColor(queryParameter(exchange, "color")))));
+                break;
+            default:
+                boolean knownAction = action.isEmpty() || action.equals("move") || action.equals("resign");
+                sendError(exchange, knownAction ? 405 : 404, "Operación no admitida: " + method + " " + action);
+        }
+    }
+
+    /**
+     * Crea una partida nueva y responde con su estado.
+     *
+     * @param exchange petición y respuesta HTTP
+     */
+    private void createGame(HttpExchange exchange) throws IOException {
+        String white = queryParameter(exchange, "white");
+        String black = queryParameter(exchange, "black");
+        long id = nextId.getAndIncrement();
+        GameSession session = new GameSession(id, white != null ? white : "Blancas", black != null ? black : "Negras",
+                executor);
+        games.put(id, session);
+        send(exchange, 201, session.toJson());
+    }
+
+    /**
+     * Espera el resultado de un comando de la partida (el hilo virtual de la petición se suspende sin ocupar
+     * un hilo de plataforma).
+     *
+     * @param result resultado del comando
+     * @return estado de la partida
+     * @throws RuntimeException la excepción con la que falló el comando
+     */
+    private static String await(CompletableFuture<String> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Convierte el identificador de la ruta en un número.
+     *
+     * @param text identificador en texto
+     * @return identificador, o null si no es un número
+     */
+    private static Long parseId(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Convierte el color del parámetro de la consulta.
+     *
+     * @param text "w", "b" o null
+     * @return Position.WHITE, Position.BLACK o Position.NONE si no se indicó
+     * @throws IllegalArgumentException si el color no es "w" ni "b"
+     */
+    private static int parseColor(String text) {
+        if (text == null) {
+            return Position.NONE;
+        }
+        switch (text) {
+            case "w":
+                return Position.WHITE;
+            case "b":
+                return Position.BLACK;
+            default:
+                throw new IllegalArgumentException("Color no válido: " + text + " (se esperaba w o b)");
+        }
+    }
+
+    /**
+     * Obtiene un parámetro de la consulta de la URL (sin decodificar caracteres especiales).
+     *
+     * @param exchange petición HTTP
+     * @param name nombre del parámetro
+     * @return valor del parámetro, o null si no está
+     */
+    private static String queryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0 && parameter.substring(0, equals).equals(name)) {
+                return parameter.substring(equals + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lee el cuerpo de la petición.
+     *
+     * @param exchange petición HTTP
+     * @return cuerpo en texto (UTF-8)
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Responde con el mensaje de una excepción (o, si no tiene mensaje, con el nombre de su clase).
+     *
+     * @param exchange petición y respuesta HTTP
+     * @param status código de estado HTTP
+     * @param error excepción que causó el error
+     */
+    private static void sendError(HttpExchange exchange, int status, Exception error) throws IOException {
+        String message = error.getMessage();
+        sendError(exchange, status, message != null ? message : error.getClass().getName());
+    }
+
+    /**
+     * Responde con un mensaje de error en formato JSON.
+     *
+     * @param exchange petición y respuesta HTTP
+     * @param status código de estado HTTP
+     * @param message mensaje de error
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder sb = new StringBuilder("{\"error\":");
+        GameSession.appendJsonString(sb, message);
+        send(exchange, status, sb.append('}').toString());
+    }
+
+    /**
+     * Envía la respuesta.
+     *
+     * @param exchange petición y respuesta HTTP
+     * @param status código de estado HTTP
+     * @param json cuerpo de la respuesta (null para responder sin cuerpo)
+     */
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        if (json == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.poo.chessgame1_2.server;
+
+import com.poo.chessgame1_2.model.GameType;
+import com.poo.chessgame1_2.model.GameView;
+import com.poo.chessgame1_2.model.Model;
+import com.poo.chessgame1_2.model.Position;
+import com.poo.chessgame1_2.model.PositionSnapshot;
+import com.poo.chessgame1_2.model.concurrent.CommandMailbox;
+import com.poo.chessgame1_2.model.utils.FENParser;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Partida alojada en el servidor: un Model sin interfaz gráfica entre dos jugadores.
+ * Las operaciones que modifican la partida se encolan en su {@link CommandMailbox} y se ejecutan de una en una,
+ * sin bloqueos, en el ejecutor compartido por todas las partidas; el estado también puede leerse sin esperar
+ * a partir de la última copia inmutable del tablero.
+ * La sesión es la vista de su Model: recibe los avisos de fin de partida, y las acciones que el modelo
+ * pide ejecutar "en el hilo de la interfaz" (por ejemplo, la respuesta del motor) se encolan en el mismo buzón.
+ */
+public class GameSession implements GameView {
+    private final long id; // Identificador de la partida
+    private final Model model = new Model(); // Modelo de la partida (sin vista gráfica)
+    private final CommandMailbox mailbox; // Cola de comandos que serializa las operaciones de la partida
+
+    private volatile GameStatus status = GameStatus.IN_PROGRESS; // Estado de la partida
+    private volatile String winnerName = null; // Nombre del ganador (null si no hay ganador)
+    private final String whiteName, blackName; // Nombres de los jugadores
+
+    /**
+     * Constructor que crea la partida y la deja lista para el primer movimiento de las blancas.
+     *
+     * @param id identificador de la partida
+     * @param whiteName nombre del jugador de las piezas blancas
+     * @param blackName nombre del jugador de las piezas negras
+     * @param executor ejecutor donde se consumen los comandos de la partida
+     */
+    public GameSession(long id, String whiteName, String blackName, Executor executor) {
+        this.id = id;
+        this.whiteName = whiteName;
+        this.blackName = blackName;
+        this.mailbox = new CommandMailbox(executor);
+        model.setView(this);
+        model.setEngineExecutor(executor);
+        model.setPlayers(whiteName, blackName);
+        model.startGame(GameType.MULTIPLAYER);
+    }
+
+    /**
+     * Obtiene el identificador de la partida.
+     *
+     * @return identificador
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el estado de la partida.
+     *
+     * @return estado actual
+     */
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Encola un movimiento del jugador que tiene el turno.
+     *
+     * @param coordinates movimiento en notación de coordenadas (por ejemplo "e2e4" o "e7e8q")
+     * @return estado de la partida después del movimiento (ver {@link #toJson()}); se completa con
+     *         IllegalArgumentException si el movimiento no es legal o IllegalStateException si la partida ya terminó
+     */
+    public CompletableFuture<String> move(String coordinates) {
+        return mailbox.submit(() -> {
+            checkInProgress();
+            model.playMove(coordinates);
+            return toJson();
+        });
+    }
+
+    /**
+     * Encola el abandono de la partida: gana el otro jugador.
+     *
+     * @param color color del jugador que abandona (Position.WHITE o Position.BLACK), o Position.NONE para
+     *              el jugador que tiene el turno cuando se ejecuta el comando
+     * @return estado de la partida después del abandono; se completa con IllegalStateException si la partida ya terminó
+     */
+    public CompletableFuture<String> resign(int color) {
+        return mailbox.submit(() -> {
+            checkInProgress();
+            int resigningColor = color == Position.NONE ? model.getSnapshot().getSideToMove() : color;
+            winnerName = resigningColor == Position.WHITE ? blackName : whiteName;
+            status = GameStatus.RESIGNED;
+            return toJson();
+        });
+    }
+
+    /**
+     * Verifica que la partida siga en curso.
+     *
+     * @throws IllegalStateException si la partida ya terminó
+     */
+    private void checkInProgress() {
+        if (status != GameStatus.IN_PROGRESS) {
+            throw new IllegalStateException("La partida ya terminó");
+        }
+    }
+
+    /**
+     * Escribe el estado de la partida en formato JSON, sin bloquear las operaciones en curso.
+     *
+     * @return objeto JSON con el identificador, la posición (FEN), el turno, el estado y los jugadores
+     */
+    public String toJson() {
+        PositionSnapshot snapshot = model.getSnapshot();
+        GameStatus currentStatus = status;
+        StringBuilder sb = new StringBuilder(192);
+        sb.append("{\"id\":").append(id);
+        sb.append(",\"fen\":");
+        appendJsonString(sb, FENParser.toFEN(snapshot));
+        sb.append(",\"sideToMove\":\"").append(snapshot.getSideToMove() == Position.WHITE ? 'w' : 'b').append('"');
+        sb.append(",\"moves\":").append(snapshot.getMoveCount());
+        sb.append(",\"status\":\"").append(currentStatus).append('"');
+        sb.append(",\"white\":");
+        appendJsonString(sb, whiteName);
+        sb.append(",\"black\":");
+        appendJsonString(sb, blackName);
+        if (currentStatus != GameStatus.IN_PROGRESS) {
+            sb.append(",\"winner\":");
+            if (winnerName == null) {
+                sb.append("null");
+            } else {
+                appendJsonString(sb, winnerName);
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Añade una cadena entre comillas, escapando los caracteres especiales de JSON.
+     *
+     * @param sb destino
+     * @param text cadena a añadir
+     */
+    static void appendJsonString(StringBuilder sb, String text) {
+        sb.append('"');
+        for (int k = 0; k < text.length(); k++) {
+            char c = text.charAt(k);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < ' ') {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * Registra el final de la partida por jaque mate.
+     *
+     * @param winnerName nombre del jugador que ganó
+     */
+    @Override
+    public void gameOver(String winnerName) {
+        this.winnerName = winnerName;
+        status = GameStatus.CHECKMATE;
+    }
+
+    /**
+     * Registra el final de la partida en tablas.
+     *
+     * @param reason motivo de las tablas
+     */
+    @Override
+    public void gameDrawn(String reason) {
+        status = GameStatus.STALEMATE;
+    }
+
+    /**
+     * Encola una acción que el modelo pide ejecutar fuera del hilo que la genera (por ejemplo, el movimiento
+     * encontrado por el motor), para que se serialice con el resto de las operaciones de la partida.
+     *
+     * @param action acción a ejecutar
+     */
+    @Override
+    public void runLater(Runnable action) {
+        mailbox.execute(action);
+    }
+}
@@ -0,0 +1,26 @@
+package com.poo.chessgame1_2.server;
+
+/**
+ * Enum que representa el estado de una partida del servidor.
+ */
+public enum GameStatus {
+    /**
+     * La partida está en curso.
+     */
+    IN_PROGRESS,
+
+    /**
+     * La partida terminó con jaque mate.
+     */
+    CHECKMATE,
+
+    /**
+     * La partida terminó en tablas por ahogado.
+     */
+    STALEMATE,
+
+    /**
+     * Uno de los jugadores abandonó la partida.
+     */
+    RESIGNED
+}
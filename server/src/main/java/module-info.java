@@ -0,0 +1,4 @@
+module com.poo.chessgame1_2.server {
+    requires com.poo.chessgame1_2.core;
+    requires jdk.httpserver;
+}
@@ -0,0 +1,105 @@
+package com.poo.chessgame1_2.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la API HTTP del servidor de partidas (en un puerto libre de la interfaz local).
+ */
+class GameServerTest {
+    private GameServer server; // Servidor de la prueba
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new GameServer();
+        server.start(0);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void createsAndPlaysGames() throws IOException {
+        Response created = request("POST", "/games?white=Ana&black=Luis", null);
+        assertEquals(201, created.status);
+        assertTrue(created.body.startsWith("{\"id\":1,"), created.body);
+        assertEquals(1, server.getGameCount());
+
+        Response moved = request("POST", "/games/1/move", "e2e4\n");
+        assertEquals(200, moved.status);
+        assertTrue(moved.body.contains("\"sideToMove\":\"b\""), moved.body);
+        assertEquals(400, request("POST", "/games/1/move", "e2e5").status);
+
+        assertEquals(200, request("GET", "/games/1", null).status);
+        assertEquals(204, request("DELETE", "/games/1", null).status);
+        assertEquals(0, server.getGameCount());
+    }
+
+    @Test
+    void resignAcceptsOnlyWhiteOrBlack() throws IOException {
+        request("POST", "/games?white=Ana&black=Luis", null);
+        Response invalid = request("POST", "/games/1/resign?color=black", null);
+        assertEquals(400, invalid.status);
+        assertTrue(invalid.body.contains("Color no válido"), invalid.body);
+
+        Response resigned = request("POST", "/games/1/resign?color=b", null);
+        assertEquals(200, resigned.status);
+        assertTrue(resigned.body.contains("\"winner\":\"Ana\""), resigned.body);
+        assertEquals(409, request("POST", "/games/1/resign?color=w", null).status);
+    }
+
+    @Test
+    void answersUnknownRoutesAndMethods() throws IOException {
+        assertEquals(404, request("GET", "/games/99", null).status);
+        assertEquals(404, request("GET", "/games/abc", null).status);
+        request("POST", "/games", null);
+        assertEquals(404, request("POST", "/games/1/castle", null).status);
+        assertEquals(405, request("PUT", "/games", null).status);
+        assertEquals(405, request("GET", "/games/1/move", null).status);
+    }
+
+    /**
+     * Realiza una petición al servidor de la prueba.
+     *
+     * @param method método HTTP
+     * @param path ruta y consulta
+     * @param body cuerpo de la petición, o null para enviarla sin cuerpo
+     * @return código de estado y cuerpo de la respuesta
+     */
+    private Response request(String method, String path, String body) throws IOException {
+        URL url = URI.create("http://127.0.0.1:" + server.getPort() + path).toURL();
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        String text = in == null ? "" : new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        connection.disconnect();
+        return new Response(status, text);
+    }
+
+    /**
+     * Respuesta de una petición: código de estado y cuerpo.
+     */
+    private record Response(int status, String body) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.poo.chessgame1_2.server;
+
+import com.poo.chessgame1_2.model.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de una partida del servidor: movimientos, fin de partida y abandono a través del buzón de comandos.
+ */
+class GameSessionTest {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void playsLegalMovesAndRejectsIllegalOnes() throws Exception {
+        GameSession session = new GameSession(1, "Ana", "Luis", executor);
+        String json = session.move("e2e4").get(10, TimeUnit.SECONDS);
+        assertTrue(json.contains("\"fen\":\"rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1\""), json);
+        assertTrue(json.contains("\"sideToMove\":\"b\""), json);
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> session.move("e7e3").get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+        assertEquals(GameStatus.IN_PROGRESS, session.getStatus());
+    }
+
+    @Test
+    void checkmateEndsTheGame() throws Exception {
+        GameSession session = new GameSession(2, "Ana", "Luis", executor);
+        for (String move : new String[]{"f2f3", "e7e5", "g2g4"}) {
+            session.move(move);
+        }
+        String json = session.move("d8h4").get(10, TimeUnit.SECONDS);
+        assertEquals(GameStatus.CHECKMATE, session.getStatus());
+        assertTrue(json.contains("\"winner\":\"Luis\""), json);
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> session.move("a2a3").get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+    }
+
+    @Test
+    void resignationMakesTheOtherPlayerWin() throws Exception {
+        GameSession session = new GameSession(3, "Ana", "Luis", executor);
+        String json = session.resign(Position.NONE).get(10, TimeUnit.SECONDS);
+        assertEquals(GameStatus.RESIGNED, session.getStatus());
+        assertTrue(json.contains("\"winner\":\"Luis\""), json);
+
+        GameSession other = new GameSession(4, "Ana", "Luis", executor);
+        assertTrue(other.resign(Position.BLACK).get(10, TimeUnit.SECONDS).contains("\"winner\":\"Ana\""));
+    }
+}